@@ -23,8 +23,8 @@ import android.app.Activity;
 import android.app.Fragment;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import dagger.internal.Beta;
+import dagger.internal.StringKeyIndex;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -49,13 +49,20 @@ public final class DispatchingAndroidInjector<T> implements AndroidInjector<T> {
       "No injector factory bound for Class<%1$s>. Injector factories were bound for supertypes "
           + "of %1$s: %2$s. Did you mean to bind an injector factory for the subtype?";
 
-  private final Map<String, Provider<AndroidInjector.Factory<?>>> injectorFactories;
+  /** The names of the classes that have injector factories, indexing {@link #injectorFactories}. */
+  private final StringKeyIndex injectedClassNames;
+
+  private final List<Provider<AndroidInjector.Factory<?>>> injectorFactories;
 
   @Inject
   DispatchingAndroidInjector(
       Map<Class<?>, Provider<AndroidInjector.Factory<?>>> injectorFactoriesWithClassKeys,
       Map<String, Provider<AndroidInjector.Factory<?>>> injectorFactoriesWithStringKeys) {
-    this.injectorFactories = merge(injectorFactoriesWithClassKeys, injectorFactoriesWithStringKeys);
+    Map<String, Provider<AndroidInjector.Factory<?>>> merged =
+        merge(injectorFactoriesWithClassKeys, injectorFactoriesWithStringKeys);
+    // Index the class names once so that each injection finds its factory with a single probe.
+    this.injectedClassNames = StringKeyIndex.of(merged.keySet());
+    this.injectorFactories = new ArrayList<>(merged.values());
   }
 
   /**
@@ -85,7 +92,7 @@ public final class DispatchingAndroidInjector<T> implements AndroidInjector<T> {
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     Map<String, Provider<AndroidInjector.Factory<?>>> safeCast = (Map) merged;
-    return Collections.unmodifiableMap(safeCast);
+    return safeCast;
   }
 
   /**
@@ -97,11 +104,11 @@ public final class DispatchingAndroidInjector<T> implements AndroidInjector<T> {
    */
   @CanIgnoreReturnValue
   public boolean maybeInject(T instance) {
-    Provider<AndroidInjector.Factory<?>> factoryProvider =
-        injectorFactories.get(instance.getClass().getName());
-    if (factoryProvider == null) {
+    int index = injectedClassNames.indexOf(instance.getClass().getName());
+    if (index < 0) {
       return false;
     }
+    Provider<AndroidInjector.Factory<?>> factoryProvider = injectorFactories.get(index);
 
     @SuppressWarnings("unchecked")
     AndroidInjector.Factory<T> factory = (AndroidInjector.Factory<T>) factoryProvider.get();
@@ -153,7 +160,7 @@ public final class DispatchingAndroidInjector<T> implements AndroidInjector<T> {
   private String errorMessageSuggestions(T instance) {
     List<String> suggestions = new ArrayList<>();
     for (Class<?> clazz = instance.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
-      if (injectorFactories.containsKey(clazz.getCanonicalName())) {
+      if (injectedClassNames.indexOf(clazz.getCanonicalName()) >= 0) {
         suggestions.add(clazz.getCanonicalName());
       }
     }
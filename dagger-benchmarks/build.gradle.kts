@@ -0,0 +1,19 @@
+plugins { alias(libs.plugins.dagger.kotlinJvm) }
+
+dependencies {
+  implementation(project(":dagger"))
+  implementation(project(":dagger-compiler"))
+  implementation(project(":dagger-producers"))
+  implementation(libs.guava.jre)
+  implementation(libs.jmh.core)
+  annotationProcessor(libs.jmh.generator)
+  annotationProcessor(project(":dagger-compiler"))
+}
+
+// Runs the benchmarks through JMH's own launcher, e.g.
+// ./gradlew :dagger-benchmarks:jmh --args='-prof gc DoubleCheck'
+tasks.register<JavaExec>("jmh") {
+  group = "benchmark"
+  classpath = sourceSets["main"].runtimeClasspath
+  mainClass.set("org.openjdk.jmh.Main")
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.benchmarks;
+
+import dagger.Component;
+import dagger.Lazy;
+import dagger.Module;
+import dagger.Provides;
+import dagger.Reusable;
+import dagger.multibindings.IntoMap;
+import dagger.multibindings.IntoSet;
+import dagger.multibindings.LazyClassKey;
+import dagger.multibindings.StringKey;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for a generated component that mixes scoped, reusable and unscoped bindings with set
+ * and map multibindings, modeled on the components in {@code javatests/dagger/functional/scope}
+ * and {@code javatests/dagger/functional/multibindings}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ComponentBenchmark {
+  @Singleton
+  static final class ScopedService {
+    @Inject
+    ScopedService() {}
+  }
+
+  @Reusable
+  static final class ReusableService {
+    @Inject
+    ReusableService() {}
+  }
+
+  static final class RequestHandler {
+    final ScopedService scopedService;
+    final ReusableService reusableService;
+    final Lazy<ScopedService> lazyScopedService;
+
+    @Inject
+    RequestHandler(
+        ScopedService scopedService,
+        ReusableService reusableService,
+        Lazy<ScopedService> lazyScopedService) {
+      this.scopedService = scopedService;
+      this.reusableService = reusableService;
+      this.lazyScopedService = lazyScopedService;
+    }
+  }
+
+  @Module
+  interface PluginModule {
+    @Provides
+    @IntoSet
+    static Object plugin0() {
+      return new Object();
+    }
+
+    @Provides
+    @IntoSet
+    static Object plugin1() {
+      return new Object();
+    }
+
+    @Provides
+    @IntoSet
+    static Object plugin2() {
+      return new Object();
+    }
+
+    @Provides
+    @IntoSet
+    @Singleton
+    static Object scopedPlugin0(ScopedService scopedService) {
+      return new Object();
+    }
+
+    @Provides
+    @IntoSet
+    @Singleton
+    static Object scopedPlugin1(ScopedService scopedService) {
+      return new Object();
+    }
+
+    @Provides
+    @IntoMap
+    @StringKey("a")
+    static Object namedPluginA() {
+      return new Object();
+    }
+
+    @Provides
+    @IntoMap
+    @StringKey("b")
+    static Object namedPluginB() {
+      return new Object();
+    }
+
+    @Provides
+    @IntoMap
+    @StringKey("c")
+    @Singleton
+    static Object namedPluginC(ScopedService scopedService) {
+      return new Object();
+    }
+
+    @Provides
+    @IntoMap
+    @LazyClassKey(String.class)
+    static Object classKeyedPluginString() {
+      return new Object();
+    }
+
+    @Provides
+    @IntoMap
+    @LazyClassKey(Integer.class)
+    static Object classKeyedPluginInteger() {
+      return new Object();
+    }
+  }
+
+  @Singleton
+  @Component(modules = PluginModule.class)
+  interface BenchmarkComponent {
+    ScopedService scopedService();
+
+    RequestHandler requestHandler();
+
+    Provider<RequestHandler> requestHandlerProvider();
+
+    Set<Object> plugins();
+
+    Map<String, Object> namedPlugins();
+
+    Map<String, Provider<Object>> namedPluginProviders();
+
+    Map<Class<?>, Object> classKeyedPlugins();
+  }
+
+  private BenchmarkComponent component;
+
+  @Setup
+  public void setUp() {
+    component = DaggerComponentBenchmark_BenchmarkComponent.create();
+    component.requestHandler();
+  }
+
+  @Benchmark
+  public Object scopedService() {
+    return component.scopedService();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Object scopedService_contended() {
+    return component.scopedService();
+  }
+
+  @Benchmark
+  public Object requestHandler() {
+    return component.requestHandler();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Object requestHandler_contended() {
+    return component.requestHandler();
+  }
+
+  @Benchmark
+  public Object requestHandlerProvider() {
+    return component.requestHandlerProvider().get();
+  }
+
+  @Benchmark
+  public Object plugins() {
+    return component.plugins();
+  }
+
+  @Benchmark
+  public Object namedPlugins() {
+    return component.namedPlugins();
+  }
+
+  @Benchmark
+  public Object namedPluginProviders() {
+    return component.namedPluginProviders();
+  }
+
+  @Benchmark
+  public Object classKeyedPlugin() {
+    return component.classKeyedPlugins().get(String.class);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Object coldRequestHandler(Cold cold) {
+    return cold.component.requestHandler();
+  }
+
+  /** A component that is recreated before every invocation. */
+  @State(Scope.Thread)
+  public static class Cold {
+    BenchmarkComponent component;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+      component = DaggerComponentBenchmark_BenchmarkComponent.create();
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.benchmarks;
+
+import dagger.internal.DoubleCheck;
+import dagger.internal.LockFreeDoubleCheck;
+import dagger.internal.Provider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link DoubleCheck}, compared against {@link LockFreeDoubleCheck} which generated
+ * components use with {@code -Adagger.lockFreeScoping=enabled}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DoubleCheckBenchmark {
+  /** The scoped provider implementation being measured. */
+  public enum Implementation {
+    DOUBLE_CHECK {
+      @Override
+      Provider<Object> provider(Provider<Object> delegate) {
+        return DoubleCheck.provider(delegate);
+      }
+    },
+    LOCK_FREE_DOUBLE_CHECK {
+      @Override
+      Provider<Object> provider(Provider<Object> delegate) {
+        return LockFreeDoubleCheck.provider(delegate);
+      }
+    };
+
+    abstract Provider<Object> provider(Provider<Object> delegate);
+  }
+
+  @Param
+  Implementation implementation;
+
+  private Provider<Object> provider;
+
+  @Setup
+  public void setUp() {
+    provider = implementation.provider(Object::new);
+    provider.get();
+  }
+
+  @Benchmark
+  public Object get() {
+    return provider.get();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Object getContended() {
+    return provider.get();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Object coldGet(Cold cold) {
+    return cold.provider.get();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 10, batchSize = 1)
+  @Measurement(iterations = 50, batchSize = 1)
+  @Threads(Threads.MAX)
+  public Object coldGetContended(ColdShared cold) {
+    return cold.provider.get();
+  }
+
+  /** A scoped provider that is recreated before every invocation. */
+  @State(Scope.Thread)
+  public static class Cold {
+    Provider<Object> provider;
+
+    @Setup(Level.Invocation)
+    public void setUp(DoubleCheckBenchmark benchmark) {
+      provider = benchmark.implementation.provider(Object::new);
+    }
+  }
+
+  /**
+   * A scoped provider, shared by all benchmark threads, that is recreated before every iteration
+   * and whose delegate is slow enough for the other threads to pile up behind it.
+   */
+  @State(Scope.Benchmark)
+  public static class ColdShared {
+    Provider<Object> provider;
+
+    @Setup(Level.Iteration)
+    public void setUp(DoubleCheckBenchmark benchmark) {
+      provider =
+          benchmark.implementation.provider(
+              () -> {
+                Blackhole.consumeCPU(100_000);
+                return new Object();
+              });
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.benchmarks;
+
+import dagger.internal.InstanceFactory;
+import dagger.internal.LazyClassKeyMap;
+import dagger.internal.MapFactory;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link LazyClassKeyMap}: looking up a value by class key, and creating the map
+ * through {@link LazyClassKeyMap.MapFactory} as generated code does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LazyClassKeyMapBenchmark {
+  private static final Class<?>[] KEYS = {
+    Boolean.class,
+    Byte.class,
+    Character.class,
+    Double.class,
+    Float.class,
+    Integer.class,
+    Long.class,
+    Short.class,
+    String.class,
+    StringBuilder.class,
+    Object.class,
+    Number.class,
+    Thread.class,
+    Runnable.class,
+    Iterable.class,
+    Comparable.class,
+  };
+
+  private LazyClassKeyMap.MapFactory<Object> factory;
+  private Map<Class<?>, Object> map;
+
+  @Setup
+  public void setUp() {
+    factory = newFactory();
+    map = factory.get();
+  }
+
+  @Benchmark
+  public Object get(Lookups lookups) {
+    return map.get(KEYS[lookups.next++ & (KEYS.length - 1)]);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Object getContended(Lookups lookups) {
+    return map.get(KEYS[lookups.next++ & (KEYS.length - 1)]);
+  }
+
+  @Benchmark
+  public Map<Class<?>, Object> factory_get() {
+    return factory.get();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Object coldGet(Cold cold) {
+    return cold.factory.get().get(String.class);
+  }
+
+  /** The per-thread position in {@link #KEYS}. */
+  @State(Scope.Thread)
+  public static class Lookups {
+    int next;
+  }
+
+  /** A {@link LazyClassKeyMap.MapFactory} that is recreated before every invocation. */
+  @State(Scope.Thread)
+  public static class Cold {
+    LazyClassKeyMap.MapFactory<Object> factory;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+      factory = newFactory();
+    }
+  }
+
+  private static LazyClassKeyMap.MapFactory<Object> newFactory() {
+    MapFactory.Builder<String, Object> builder = MapFactory.builder(KEYS.length);
+    for (Class<?> key : KEYS) {
+      builder.put(key.getName(), InstanceFactory.create(new Object()));
+    }
+    return LazyClassKeyMap.MapFactory.of(builder.build());
+  }
+}
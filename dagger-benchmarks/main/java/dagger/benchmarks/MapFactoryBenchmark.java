@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.benchmarks;
+
+import dagger.internal.InstanceFactory;
+import dagger.internal.MapFactory;
+import dagger.internal.MapProviderFactory;
+import dagger.internal.Provider;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link MapFactory} and {@link MapProviderFactory} with {@code size} entries. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MapFactoryBenchmark {
+  @Param({"1", "10", "200"})
+  int size;
+
+  private MapFactory<String, Object> mapFactory;
+  private MapProviderFactory<String, Object> mapProviderFactory;
+
+  @Setup
+  public void setUp() {
+    mapFactory = newMapFactory(size);
+    mapProviderFactory = newMapProviderFactory(size);
+  }
+
+  @Benchmark
+  public Map<String, Object> mapFactory_get() {
+    return mapFactory.get();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Map<String, Object> mapFactory_getContended() {
+    return mapFactory.get();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Map<String, Object> mapFactory_coldGet(Cold cold) {
+    return cold.mapFactory.get();
+  }
+
+  @Benchmark
+  public Map<String, Provider<Object>> mapProviderFactory_get() {
+    return mapProviderFactory.get();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Map<String, Provider<Object>> mapProviderFactory_getContended() {
+    return mapProviderFactory.get();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Map<String, Provider<Object>> mapProviderFactory_coldGet(Cold cold) {
+    return cold.mapProviderFactory.get();
+  }
+
+  /** Map factories that are recreated before every invocation. */
+  @State(Scope.Thread)
+  public static class Cold {
+    MapFactory<String, Object> mapFactory;
+    MapProviderFactory<String, Object> mapProviderFactory;
+
+    @Setup(Level.Invocation)
+    public void setUp(MapFactoryBenchmark benchmark) {
+      mapFactory = newMapFactory(benchmark.size);
+      mapProviderFactory = newMapProviderFactory(benchmark.size);
+    }
+  }
+
+  private static MapFactory<String, Object> newMapFactory(int size) {
+    MapFactory.Builder<String, Object> builder = MapFactory.builder(size);
+    for (int i = 0; i < size; i++) {
+      builder.put("key" + i, InstanceFactory.create(new Object()));
+    }
+    return builder.build();
+  }
+
+  private static MapProviderFactory<String, Object> newMapProviderFactory(int size) {
+    MapProviderFactory.Builder<String, Object> builder = MapProviderFactory.builder(size);
+    for (int i = 0; i < size; i++) {
+      builder.put("key" + i, InstanceFactory.create(new Object()));
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.benchmarks;
+
+import com.google.common.collect.ImmutableSet;
+import dagger.producers.monitoring.ProducerEventSink;
+import dagger.producers.monitoring.ProducerMonitor;
+import dagger.producers.monitoring.ProducerToken;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import dagger.producers.monitoring.internal.Monitors;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.inject.Provider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for dispatching producer events to the monitors installed in a production component,
+ * as generated code does through {@link Monitors#createMonitorForComponent}: creating the
+ * component's monitor, then a monitor for each producer, and sending each one the events of a
+ * successful production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MonitorDispatchBenchmark {
+  /** The monitor factories installed in the component. */
+  public enum Monitoring {
+    /** No monitor factories. */
+    NONE {
+      @Override
+      Set<ProductionComponentMonitor.Factory> factories() {
+        return ImmutableSet.of();
+      }
+    },
+    /** A factory, such as a sampling monitor, that returns a no-op monitor. */
+    NO_OP_MONITOR {
+      @Override
+      Set<ProductionComponentMonitor.Factory> factories() {
+        return ImmutableSet.of(new NoOpMonitorFactory());
+      }
+    },
+    /** A monitor that creates a {@link ProducerMonitor} for each producer. */
+    MONITOR {
+      @Override
+      Set<ProductionComponentMonitor.Factory> factories() {
+        return ImmutableSet.of(new CountingMonitorFactory());
+      }
+    },
+    /** A {@link ProducerEventSink}. */
+    SINK {
+      @Override
+      Set<ProductionComponentMonitor.Factory> factories() {
+        return ImmutableSet.of(new CountingSink());
+      }
+    },
+    /** Both a monitor and a sink. */
+    MONITOR_AND_SINK {
+      @Override
+      Set<ProductionComponentMonitor.Factory> factories() {
+        return ImmutableSet.of(new CountingMonitorFactory(), new CountingSink());
+      }
+    };
+
+    abstract Set<ProductionComponentMonitor.Factory> factories();
+  }
+
+  @Param Monitoring monitoring;
+
+  @Param({"300"})
+  int producers;
+
+  private final Object component = new Object();
+  private final Provider<Object> componentProvider = () -> component;
+  private Provider<Set<ProductionComponentMonitor.Factory>> factoriesProvider;
+  private ProducerToken[] tokens;
+
+  @Setup
+  public void setUp() {
+    Set<ProductionComponentMonitor.Factory> factories = monitoring.factories();
+    factoriesProvider = () -> factories;
+    tokens = new ProducerToken[producers];
+    for (int i = 0; i < producers; i++) {
+      tokens[i] = ProducerToken.create("producer" + i);
+    }
+  }
+
+  @Benchmark
+  public ProductionComponentMonitor produce() {
+    ProductionComponentMonitor monitor =
+        Monitors.createMonitorForComponent(componentProvider, factoriesProvider);
+    for (ProducerToken token : tokens) {
+      ProducerMonitor producerMonitor = monitor.producerMonitorFor(token);
+      producerMonitor.requested();
+      producerMonitor.ready();
+      producerMonitor.methodStarting();
+      producerMonitor.methodFinished();
+      producerMonitor.succeeded(token);
+    }
+    return monitor;
+  }
+
+  private static final class NoOpMonitorFactory extends ProductionComponentMonitor.Factory {
+    @Override
+    public ProductionComponentMonitor create(Object component) {
+      return ProductionComponentMonitor.noOp();
+    }
+  }
+
+  private static final class CountingMonitorFactory extends ProductionComponentMonitor.Factory {
+    private final LongAdder events = new LongAdder();
+
+    @Override
+    public ProductionComponentMonitor create(Object component) {
+      return new ProductionComponentMonitor() {
+        @Override
+        public ProducerMonitor producerMonitorFor(ProducerToken token) {
+          return new ProducerMonitor() {
+            @Override
+            public void requested() {
+              events.increment();
+            }
+
+            @Override
+            public void succeeded(Object value) {
+              events.increment();
+            }
+          };
+        }
+      };
+    }
+  }
+
+  private static final class CountingSink extends ProducerEventSink {
+    private final LongAdder events = new LongAdder();
+
+    @Override
+    public void requested(ProducerToken token) {
+      events.increment();
+    }
+
+    @Override
+    public void succeeded(ProducerToken token, Object value) {
+      events.increment();
+    }
+  }
+}
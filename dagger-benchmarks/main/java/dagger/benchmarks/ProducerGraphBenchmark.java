@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.benchmarks;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.internal.Provider;
+import dagger.producers.Producer;
+import dagger.producers.internal.AbstractProducesMethodProducer;
+import dagger.producers.internal.Producers;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for producing a graph of {@link AbstractProducesMethodProducer}s whose dependencies
+ * are all available immediately, with and without calling {@code @Produces} methods inline as
+ * generated factories do with {@code -Adagger.inlineReadyProducers=enabled}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProducerGraphBenchmark {
+  private static final Provider<ProductionComponentMonitor> MONITOR_PROVIDER =
+      ProductionComponentMonitor::noOp;
+
+  /**
+   * An executor that runs tasks on the calling thread, but that isn't {@code directExecutor()} so
+   * that producers only call their {@code @Produces} methods inline when they opt in.
+   */
+  private static final Provider<Executor> EXECUTOR_PROVIDER = () -> Runnable::run;
+
+  @Param({"false", "true"})
+  boolean inline;
+
+  @Param({"100"})
+  int nodeCount;
+
+  @Benchmark
+  public Integer produceChain() throws Exception {
+    Producer<Integer> producer = new NodeProducer(null, inline);
+    for (int i = 1; i < nodeCount; i++) {
+      producer = new NodeProducer(producer, inline);
+    }
+    return producer.get().get();
+  }
+
+  /**
+   * A producer shaped like a generated factory for {@code @Produces int node(int previous)}, or for
+   * a {@code @Produces} method without parameters if there is no previous node.
+   */
+  private static final class NodeProducer extends AbstractProducesMethodProducer<Integer, Integer> {
+    private final Producer<Integer> previous;
+    private final boolean inline;
+
+    NodeProducer(Producer<Integer> previous, boolean inline) {
+      super(MONITOR_PROVIDER, null, EXECUTOR_PROVIDER);
+      this.previous =
+          previous == null ? null : Producers.nonCancellationPropagatingViewOf(previous);
+      this.inline = inline;
+    }
+
+    @Override
+    protected ListenableFuture<Integer> collectDependencies() {
+      return previous == null ? Futures.immediateFuture(0) : previous.get();
+    }
+
+    @Override
+    protected ListenableFuture<Integer> callProducesMethod(Integer previous) {
+      return Futures.immediateFuture(previous + 1);
+    }
+
+    @Override
+    protected boolean mayCallProducesMethodInline() {
+      return inline;
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.benchmarks;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.internal.Provider;
+import dagger.producers.Producer;
+import dagger.producers.VirtualThreadProductionScope;
+import dagger.producers.internal.AbstractProducesMethodProducer;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for producing a graph whose {@code @Produces} methods block, as methods that call
+ * blocking APIs do, on a shared fixed thread pool compared with a {@link
+ * VirtualThreadProductionScope} per production. Requires JDK 21 or later for the virtual thread
+ * scope.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+public class ProductionExecutorBenchmark {
+  private static final Provider<ProductionComponentMonitor> MONITOR_PROVIDER =
+      ProductionComponentMonitor::noOp;
+
+  /** The production executor being measured. */
+  public enum ExecutorType {
+    FIXED_THREAD_POOL,
+    VIRTUAL_THREAD_SCOPE,
+  }
+
+  @Param
+  ExecutorType executorType;
+
+  /** The number of blocking producers that the root producer depends on. */
+  @Param({"50"})
+  int fanOut;
+
+  /** How long each of those producers blocks. */
+  @Param({"100"})
+  int blockMicros;
+
+  /** The number of threads in the fixed thread pool. */
+  @Param({"16"})
+  int poolSize;
+
+  private ExecutorService pool;
+
+  @Setup
+  public void setUp() {
+    pool = Executors.newFixedThreadPool(poolSize);
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Benchmark
+  public Integer produce() throws Exception {
+    switch (executorType) {
+      case FIXED_THREAD_POOL:
+        return produce(pool);
+      case VIRTUAL_THREAD_SCOPE:
+        try (VirtualThreadProductionScope scope = VirtualThreadProductionScope.open()) {
+          return produce(scope);
+        }
+    }
+    throw new AssertionError(executorType);
+  }
+
+  private Integer produce(Executor executor) throws Exception {
+    Provider<Executor> executorProvider = () -> executor;
+    List<Producer<Integer>> leaves = new ArrayList<>(fanOut);
+    for (int i = 0; i < fanOut; i++) {
+      leaves.add(new BlockingProducer(executorProvider, i, blockMicros));
+    }
+    return new SumProducer(executorProvider, leaves).get().get();
+  }
+
+  /** A producer shaped like a generated factory for a {@code @Produces} method that blocks. */
+  private static final class BlockingProducer extends AbstractProducesMethodProducer<Void, Integer> {
+    private final int value;
+    private final long blockNanos;
+
+    BlockingProducer(Provider<Executor> executorProvider, int value, int blockMicros) {
+      super(MONITOR_PROVIDER, null, executorProvider);
+      this.value = value;
+      this.blockNanos = TimeUnit.MICROSECONDS.toNanos(blockMicros);
+    }
+
+    @Override
+    protected ListenableFuture<Void> collectDependencies() {
+      return Futures.immediateFuture(null);
+    }
+
+    @Override
+    protected ListenableFuture<Integer> callProducesMethod(Void unused) {
+      LockSupport.parkNanos(blockNanos);
+      return Futures.immediateFuture(value);
+    }
+  }
+
+  /** A producer shaped like a generated factory for {@code @Produces int sum(Set<Integer>)}. */
+  private static final class SumProducer
+      extends AbstractProducesMethodProducer<List<Integer>, Integer> {
+    private final List<Producer<Integer>> inputs;
+
+    SumProducer(Provider<Executor> executorProvider, List<Producer<Integer>> inputs) {
+      super(MONITOR_PROVIDER, null, executorProvider);
+      this.inputs = inputs;
+    }
+
+    @Override
+    protected ListenableFuture<List<Integer>> collectDependencies() {
+      List<ListenableFuture<Integer>> futures = new ArrayList<>(inputs.size());
+      for (Producer<Integer> input : inputs) {
+        futures.add(input.get());
+      }
+      return Futures.allAsList(futures);
+    }
+
+    @Override
+    protected ListenableFuture<Integer> callProducesMethod(List<Integer> values) {
+      int sum = 0;
+      for (int value : values) {
+        sum += value;
+      }
+      return Futures.immediateFuture(sum);
+    }
+  }
+}
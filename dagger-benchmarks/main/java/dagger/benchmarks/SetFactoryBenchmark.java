@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.benchmarks;
+
+import dagger.internal.InstanceFactory;
+import dagger.internal.SetFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link SetFactory} with {@code size} individual contributions and one collection
+ * contribution of the same size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SetFactoryBenchmark {
+  @Param({"1", "10", "200"})
+  int size;
+
+  private SetFactory<Object> factory;
+
+  @Setup
+  public void setUp() {
+    factory = newSetFactory(size);
+  }
+
+  @Benchmark
+  public Set<Object> get() {
+    return factory.get();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Set<Object> getContended() {
+    return factory.get();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Set<Object> coldGet(Cold cold) {
+    return cold.factory.get();
+  }
+
+  /** A {@link SetFactory} that is recreated before every invocation. */
+  @State(Scope.Thread)
+  public static class Cold {
+    SetFactory<Object> factory;
+
+    @Setup(Level.Invocation)
+    public void setUp(SetFactoryBenchmark benchmark) {
+      factory = newSetFactory(benchmark.size);
+    }
+  }
+
+  private static SetFactory<Object> newSetFactory(int size) {
+    SetFactory.Builder<Object> builder = SetFactory.builder(size, 1);
+    List<Object> collection = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      builder.addProvider(InstanceFactory.create(new Object()));
+      collection.add(new Object());
+    }
+    builder.addCollectionProvider(InstanceFactory.<Collection<Object>>create(collection));
+    return builder.build();
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.benchmarks;
+
+import dagger.internal.SingleCheck;
+import dagger.internal.Provider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for {@link SingleCheck}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SingleCheckBenchmark {
+  private Provider<Object> provider;
+
+  @Setup
+  public void setUp() {
+    provider = SingleCheck.provider(Object::new);
+    provider.get();
+  }
+
+  @Benchmark
+  public Object get() {
+    return provider.get();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Object getContended() {
+    return provider.get();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Object coldGet(Cold cold) {
+    return cold.provider.get();
+  }
+
+  /** A {@link SingleCheck} that is recreated before every invocation. */
+  @State(Scope.Thread)
+  public static class Cold {
+    Provider<Object> provider;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+      provider = SingleCheck.provider(Object::new);
+    }
+  }
+}
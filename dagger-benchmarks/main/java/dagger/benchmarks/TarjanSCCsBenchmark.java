@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.graph.SuccessorsFunction;
+import dagger.internal.codegen.base.TarjanSCCs;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link TarjanSCCs}, which the compiler runs over the full binding graph of every
+ * component, on synthetic graphs about the size of a large application's root component.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TarjanSCCsBenchmark {
+  /** The shape of the synthetic binding graph. */
+  public enum Shape {
+    /**
+     * Each node depends on the next one, so the depth-first search is as deep as the graph, plus a
+     * cycle every thousand nodes and one random dependency per node.
+     */
+    DEEP_CHAIN {
+      @Override
+      List<List<Integer>> successors(int nodeCount, Random random) {
+        List<List<Integer>> successors = new ArrayList<>(nodeCount);
+        for (int node = 0; node < nodeCount; node++) {
+          List<Integer> nodeSuccessors = new ArrayList<>(3);
+          if (node + 1 < nodeCount) {
+            nodeSuccessors.add(node + 1);
+          }
+          if (node % 1000 == 999) {
+            nodeSuccessors.add(node - 500);
+          }
+          nodeSuccessors.add(random.nextInt(nodeCount));
+          successors.add(nodeSuccessors);
+        }
+        return successors;
+      }
+    },
+    /** Each node depends on up to four earlier nodes, like a typical acyclic binding graph. */
+    WIDE_DAG {
+      @Override
+      List<List<Integer>> successors(int nodeCount, Random random) {
+        List<List<Integer>> successors = new ArrayList<>(nodeCount);
+        for (int node = 0; node < nodeCount; node++) {
+          List<Integer> nodeSuccessors = new ArrayList<>(4);
+          for (int i = 0; node > 0 && i < 4; i++) {
+            nodeSuccessors.add(random.nextInt(node));
+          }
+          successors.add(nodeSuccessors);
+        }
+        return successors;
+      }
+    };
+
+    abstract List<List<Integer>> successors(int nodeCount, Random random);
+  }
+
+  @Param({"1000", "100000"})
+  int nodeCount;
+
+  @Param
+  Shape shape;
+
+  private ImmutableList<Integer> nodes;
+  private SuccessorsFunction<Integer> successorsFunction;
+
+  @Setup
+  public void setUp() {
+    ImmutableList.Builder<Integer> nodes = ImmutableList.builderWithExpectedSize(nodeCount);
+    for (int node = 0; node < nodeCount; node++) {
+      nodes.add(node);
+    }
+    this.nodes = nodes.build();
+    List<List<Integer>> successors = shape.successors(nodeCount, new Random(0));
+    this.successorsFunction = successors::get;
+  }
+
+  @Benchmark
+  public ImmutableList<ImmutableSet<Integer>> compute() {
+    return TarjanSCCs.compute(nodes, successorsFunction);
+  }
+}
@@ -23,19 +23,21 @@ import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import com.google.common.graph.SuccessorsFunction;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * An implementation of Tarjan's algorithm for finding the SCC of a graph. This is based on the
  * psuedo code algorithm here:
  * http://en.wikipedia.org/wiki/Tarjan%27s_strongly_connected_components_algorithm
+ *
+ * <p>The depth-first search uses an explicit stack rather than recursion, so that the depth of the
+ * graph is not limited by the thread's stack size. Each node is identified by its index, the order
+ * in which the search discovers it, and all per-node state is kept in arrays indexed by it.
  */
 public final class TarjanSCCs {
 
@@ -48,19 +50,37 @@ public final class TarjanSCCs {
   private static class TarjanSCC<NodeT> {
     private final ImmutableCollection<NodeT> nodes;
     private final SuccessorsFunction<NodeT> successorsFunction;
-    private final Deque<NodeT> stack;
-    private final Set<NodeT> onStack;
     private final Map<NodeT, Integer> indexes;
-    private final Map<NodeT, Integer> lowLinks;
+    private final List<NodeT> nodesByIndex;
     private final List<ImmutableSet<NodeT>> stronglyConnectedComponents = new ArrayList<>();
 
+    private int[] lowLinks;
+    private boolean[] onStack;
+
+    /** The stack of nodes that are not yet assigned to an SCC. */
+    private int[] stack;
+
+    private int stackSize;
+
+    /** The nodes whose successors are being visited, i.e. the depth-first search's call stack. */
+    private int[] callStack;
+
+    /** The remaining successors of each node in {@link #callStack}. */
+    private Iterator<?>[] successorIterators;
+
+    private int callStackSize;
+
     TarjanSCC(ImmutableCollection<NodeT> nodes, SuccessorsFunction<NodeT> successorsFunction) {
       this.nodes = nodes;
       this.successorsFunction = successorsFunction;
-      this.stack = new ArrayDeque<>(nodes.size());
-      this.onStack = Sets.newHashSetWithExpectedSize(nodes.size());
-      this.indexes = Maps.newHashMapWithExpectedSize(nodes.size());
-      this.lowLinks = Maps.newHashMapWithExpectedSize(nodes.size());
+      int capacity = Math.max(nodes.size(), 1);
+      this.indexes = Maps.newHashMapWithExpectedSize(capacity);
+      this.nodesByIndex = new ArrayList<>(capacity);
+      this.lowLinks = new int[capacity];
+      this.onStack = new boolean[capacity];
+      this.stack = new int[capacity];
+      this.callStack = new int[capacity];
+      this.successorIterators = new Iterator<?>[capacity];
     }
 
     private ImmutableList<ImmutableSet<NodeT>> compute() {
@@ -73,37 +93,71 @@ public final class TarjanSCCs {
       return ImmutableList.copyOf(stronglyConnectedComponents);
     }
 
-    private void stronglyConnect(NodeT node) {
-      // Set the index and lowLink for node to the smallest unused index and add it to the stack
-      lowLinks.put(node, indexes.size());
-      indexes.put(node, indexes.size());
-      stack.push(node);
-      onStack.add(node);
-
-      for (NodeT successor : successorsFunction.successors(node)) {
-        if (!indexes.containsKey(successor)) {
-          // Successor has not been processed.
-          stronglyConnect(successor);
-          lowLinks.put(node, min(lowLinks.get(node), lowLinks.get(successor)));
-        } else if (onStack.contains(successor)) {
-          // Successor is on the stack and hence in the current SCC.
-          lowLinks.put(node, min(lowLinks.get(node), indexes.get(successor)));
-        } else {
-          // Successor is not on the stack and hence in an already processed SCC, so ignore.
+    private void stronglyConnect(NodeT root) {
+      visit(root);
+      while (callStackSize > 0) {
+        int node = callStack[callStackSize - 1];
+        @SuppressWarnings("unchecked") // only iterators of successors are pushed
+        Iterator<NodeT> successors = (Iterator<NodeT>) successorIterators[callStackSize - 1];
+        if (successors.hasNext()) {
+          NodeT successor = successors.next();
+          Integer successorIndex = indexes.get(successor);
+          if (successorIndex == null) {
+            // Successor has not been processed, so process it before the node's other successors.
+            visit(successor);
+          } else if (onStack[successorIndex]) {
+            // Successor is on the stack and hence in the current SCC.
+            lowLinks[node] = min(lowLinks[node], successorIndex);
+          } else {
+            // Successor is not on the stack and hence in an already processed SCC, so ignore.
+          }
+          continue;
+        }
+
+        // All successors have been processed, so return to the node's predecessor.
+        successorIterators[--callStackSize] = null;
+        if (lowLinks[node] == node) {
+          // The node is the root of an SCC, so pop the stack until reaching it to get all SCC
+          // nodes.
+          ImmutableSet.Builder<NodeT> scc = ImmutableSet.builder();
+          int currNode;
+          do {
+            currNode = stack[--stackSize];
+            onStack[currNode] = false;
+            scc.add(nodesByIndex.get(currNode));
+          } while (currNode != node);
+          stronglyConnectedComponents.add(scc.build());
+        }
+        if (callStackSize > 0) {
+          int predecessor = callStack[callStackSize - 1];
+          lowLinks[predecessor] = min(lowLinks[predecessor], lowLinks[node]);
         }
       }
+    }
 
-      // If node is the root of the SCC, pop the stack until reaching the root to get all SCC nodes.
-      if (lowLinks.get(node).equals(indexes.get(node))) {
-        ImmutableSet.Builder<NodeT> scc = ImmutableSet.builder();
-        NodeT currNode;
-        do {
-          currNode = stack.pop();
-          onStack.remove(currNode);
-          scc.add(currNode);
-        } while (!node.equals(currNode));
-        stronglyConnectedComponents.add(scc.build());
+    /**
+     * Sets the index and lowLink for node to the smallest unused index, and adds it to the stack
+     * and the call stack.
+     */
+    private void visit(NodeT node) {
+      int index = nodesByIndex.size();
+      if (index == lowLinks.length) {
+        // Successors outside of the initial nodes were discovered, so grow the arrays.
+        int newCapacity = 2 * index;
+        lowLinks = Arrays.copyOf(lowLinks, newCapacity);
+        onStack = Arrays.copyOf(onStack, newCapacity);
+        stack = Arrays.copyOf(stack, newCapacity);
+        callStack = Arrays.copyOf(callStack, newCapacity);
+        successorIterators = Arrays.copyOf(successorIterators, newCapacity);
       }
+      indexes.put(node, index);
+      nodesByIndex.add(node);
+      lowLinks[index] = index;
+      stack[stackSize++] = index;
+      onStack[index] = true;
+      callStack[callStackSize] = index;
+      successorIterators[callStackSize] = successorsFunction.successors(node).iterator();
+      callStackSize++;
     }
   }
 
@@ -250,11 +250,17 @@ public final class BindingFactory {
    * Returns a {@link BindingKind#MULTIBOUND_SET} binding given a set of multibinding contributions.
    *
    * @param key a key that may be satisfied by a multibinding
+   * @param multibindingDeclarations the {@code @Multibinds} declarations for {@code key}
    */
   public MultiboundSetBinding multiboundSet(
-      Key key, Iterable<ContributionBinding> multibindingContributions) {
+      Key key,
+      Iterable<ContributionBinding> multibindingContributions,
+      Iterable<MultibindingDeclaration> multibindingDeclarations) {
     return MultiboundSetBinding.builder()
         .optionalBindingType(multibindingBindingType(key, multibindingContributions))
+        .assembledInParallel(
+            Iterables.any(
+                multibindingDeclarations, MultibindingDeclaration::assembledInParallel))
         .key(key)
         .dependencies(
             dependencyRequestFactory.forMultibindingContributions(key, multibindingContributions))
@@ -22,7 +22,6 @@ import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Predicates.not;
 import static dagger.internal.codegen.binding.AssistedInjectionAnnotations.isAssistedFactoryType;
 import static dagger.internal.codegen.binding.LegacyBindingGraphFactory.useLegacyBindingGraphFactory;
-import static dagger.internal.codegen.extension.DaggerCollectors.onlyElement;
 import static dagger.internal.codegen.extension.DaggerGraphs.unreachableNodes;
 import static dagger.internal.codegen.extension.DaggerStreams.toImmutableSet;
 import static dagger.internal.codegen.model.BindingKind.ASSISTED_INJECTION;
@@ -131,6 +130,8 @@ public final class BindingGraphFactory {
   private final class Resolver {
     final ComponentPath componentPath;
     final Optional<Resolver> parentResolver;
+    /** This resolver and its ancestors, from the root component's resolver to this one. */
+    final ImmutableList<Resolver> resolverLineage;
     final ComponentNode componentNode;
     final ComponentDescriptor componentDescriptor;
     final ComponentDeclarations declarations;
@@ -139,6 +140,10 @@ public final class BindingGraphFactory {
     final Map<Key, ResolvedBindings> resolvedMembersInjectionBindings = new LinkedHashMap<>();
     final RequiresResolutionChecker requiresResolutionChecker = new RequiresResolutionChecker();
     final Queue<ComponentDescriptor> subcomponentsToResolve = new ArrayDeque<>();
+    final Map<Key, ImmutableList<Resolver>> resolversWithExplicitDeclarationsCache =
+        new HashMap<>();
+    final Map<Key, ImmutableSet<OptionalBindingDeclaration>> optionalBindingDeclarationsCache =
+        new HashMap<>();
 
     Resolver(ComponentDescriptor componentDescriptor) {
       this(Optional.empty(), componentDescriptor);
@@ -150,6 +155,13 @@ public final class BindingGraphFactory {
 
     private Resolver(Optional<Resolver> parentResolver, ComponentDescriptor componentDescriptor) {
       this.parentResolver = parentResolver;
+      this.resolverLineage =
+          parentResolver.isPresent()
+              ? ImmutableList.<Resolver>builder()
+                  .addAll(parentResolver.get().resolverLineage)
+                  .add(this)
+                  .build()
+              : ImmutableList.of(this);
       this.componentDescriptor = checkNotNull(componentDescriptor);
       DaggerTypeElement componentType = DaggerTypeElement.from(componentDescriptor.typeElement());
       componentPath =
@@ -246,18 +258,17 @@ public final class BindingGraphFactory {
         multibindingContributions.addAll(resolver.getLocalMultibindingContributions(requestKey));
         multibindingDeclarations.addAll(resolver.declarations.multibindings(requestKey));
         subcomponentDeclarations.addAll(resolver.declarations.subcomponents(requestKey));
-        // The optional binding declarations are keyed by the unwrapped type.
-        keyFactory.unwrapOptional(requestKey)
-            .map(resolver.declarations::optionalBindings)
-            .ifPresent(optionalBindingDeclarations::addAll);
       }
+      optionalBindingDeclarations.addAll(getOptionalBindingDeclarations(requestKey));
 
       // Add synthetic multibinding
       if (!multibindingContributions.isEmpty() || !multibindingDeclarations.isEmpty()) {
         if (MapType.isMap(requestKey)) {
           bindings.add(bindingFactory.multiboundMap(requestKey, multibindingContributions));
         } else if (SetType.isSet(requestKey)) {
-          bindings.add(bindingFactory.multiboundSet(requestKey, multibindingContributions));
+          bindings.add(
+              bindingFactory.multiboundSet(
+                  requestKey, multibindingContributions, multibindingDeclarations));
         } else {
           throw new AssertionError("Unexpected type in multibinding key: " + requestKey);
         }
@@ -349,7 +360,7 @@ public final class BindingGraphFactory {
     }
 
     private ComponentDescriptor rootComponent() {
-      return parentResolver.map(Resolver::rootComponent).orElse(componentDescriptor);
+      return rootResolver().componentDescriptor;
     }
 
     /** Returns the resolved members injection bindings for the given {@link Key}. */
@@ -455,7 +466,8 @@ public final class BindingGraphFactory {
       // TODO(b/359893922): we currently iterate from child to parent to find an owning resolver,
       // but we probably want to iterate from parent to child to catch missing bindings in
       // misconfigured repeated modules.
-      for (Resolver requestResolver : getResolverLineage().reverse()) {
+      for (Resolver requestResolver :
+          getResolversWithExplicitDeclarations(binding.key()).reverse()) {
         if (requestResolver.containsExplicitBinding(binding)) {
           return Optional.of(requestResolver);
         }
@@ -497,13 +509,31 @@ public final class BindingGraphFactory {
 
     /** Returns the resolver lineage from parent to child. */
     private ImmutableList<Resolver> getResolverLineage() {
-      ImmutableList.Builder<Resolver> resolverList = ImmutableList.builder();
-      for (Optional<Resolver> currentResolver = Optional.of(this);
-          currentResolver.isPresent();
-          currentResolver = currentResolver.get().parentResolver) {
-        resolverList.add(currentResolver.get());
-      }
-      return resolverList.build().reverse();
+      return resolverLineage;
+    }
+
+    /**
+     * Returns the resolvers in this resolver's lineage, from parent to child, whose component
+     * declares an explicit binding, delegate or subcomponent for {@code key}. These are the only
+     * resolvers for which {@link #containsExplicitBinding} can be true for a binding for {@code
+     * key}.
+     */
+    private ImmutableList<Resolver> getResolversWithExplicitDeclarations(Key key) {
+      ImmutableList<Resolver> resolvers = resolversWithExplicitDeclarationsCache.get(key);
+      if (resolvers == null) {
+        ImmutableList<Resolver> ancestorResolvers =
+            parentResolver.isPresent()
+                ? parentResolver.get().getResolversWithExplicitDeclarations(key)
+                : ImmutableList.of();
+        resolvers =
+            !declarations.bindings(key).isEmpty()
+                    || !declarations.delegates(key).isEmpty()
+                    || !declarations.subcomponents(key).isEmpty()
+                ? ImmutableList.<Resolver>builder().addAll(ancestorResolvers).add(this).build()
+                : ancestorResolvers;
+        resolversWithExplicitDeclarationsCache.put(key, resolvers);
+      }
+      return resolvers;
     }
 
     /**
@@ -533,15 +563,35 @@ public final class BindingGraphFactory {
      * ancestor resolvers.
      */
     private ImmutableSet<OptionalBindingDeclaration> getOptionalBindingDeclarations(Key key) {
+      // The optional binding declarations are keyed by the unwrapped type.
       Optional<Key> unwrapped = keyFactory.unwrapOptional(key);
       if (unwrapped.isEmpty()) {
         return ImmutableSet.of();
       }
-      ImmutableSet.Builder<OptionalBindingDeclaration> declarations = ImmutableSet.builder();
-      for (Resolver resolver : getResolverLineage()) {
-        declarations.addAll(resolver.declarations.optionalBindings(unwrapped.get()));
+      return getOptionalBindingDeclarationsForUnwrappedKey(unwrapped.get());
+    }
+
+    private ImmutableSet<OptionalBindingDeclaration> getOptionalBindingDeclarationsForUnwrappedKey(
+        Key unwrappedKey) {
+      ImmutableSet<OptionalBindingDeclaration> optionalBindingDeclarations =
+          optionalBindingDeclarationsCache.get(unwrappedKey);
+      if (optionalBindingDeclarations == null) {
+        ImmutableSet<OptionalBindingDeclaration> ancestorDeclarations =
+            parentResolver.isPresent()
+                ? parentResolver.get().getOptionalBindingDeclarationsForUnwrappedKey(unwrappedKey)
+                : ImmutableSet.of();
+        ImmutableSet<OptionalBindingDeclaration> localDeclarations =
+            declarations.optionalBindings(unwrappedKey);
+        optionalBindingDeclarations =
+            localDeclarations.isEmpty()
+                ? ancestorDeclarations
+                : ImmutableSet.<OptionalBindingDeclaration>builder()
+                    .addAll(ancestorDeclarations)
+                    .addAll(localDeclarations)
+                    .build();
+        optionalBindingDeclarationsCache.put(unwrappedKey, optionalBindingDeclarations);
       }
-      return declarations.build();
+      return optionalBindingDeclarations;
     }
 
     /**
@@ -550,14 +600,15 @@ public final class BindingGraphFactory {
      * MembersInjectionBinding}s are not inherited.
      */
     private Optional<ResolvedBindings> getPreviouslyResolvedBindings(Key key) {
-      if (parentResolver.isEmpty()) {
-        return Optional.empty();
+      // Walk the ancestors from child to parent, skipping this resolver.
+      for (int i = resolverLineage.size() - 2; i >= 0; i--) {
+        ResolvedBindings resolvedBindings =
+            resolverLineage.get(i).resolvedContributionBindings.get(key);
+        if (resolvedBindings != null) {
+          return Optional.of(resolvedBindings);
+        }
       }
-      // Check the parent's resolvedContributionBindings directly before calling
-      // parentResolver.getPreviouslyResolvedBindings() otherwise the parent will skip itself.
-      return parentResolver.get().resolvedContributionBindings.containsKey(key)
-          ? Optional.of(parentResolver.get().resolvedContributionBindings.get(key))
-          : parentResolver.get().getPreviouslyResolvedBindings(key);
+      return Optional.empty();
     }
 
     private ResolvedBindings resolveMembersInjectionKey(Key key) {
@@ -626,10 +677,11 @@ public final class BindingGraphFactory {
 
     private void addSubcomponentEdge(BindingNode binding) {
       checkState(binding.kind() == SUBCOMPONENT_CREATOR);
-      Resolver owningResolver =
-          getResolverLineage().reverse().stream()
-                .filter(resolver -> resolver.componentPath.equals(binding.componentPath()))
-                .collect(onlyElement());
+      // The resolver at depth N in the lineage is the one for the component path of length N + 1.
+      int owningResolverDepth = binding.componentPath().components().size() - 1;
+      checkState(owningResolverDepth < resolverLineage.size());
+      Resolver owningResolver = resolverLineage.get(owningResolverDepth);
+      checkState(owningResolver.componentPath.equals(binding.componentPath()));
       ComponentDescriptor subcomponent =
           owningResolver.componentDescriptor.getChildComponentWithBuilderType(
               binding.key().type().xprocessing().getTypeElement());
@@ -668,7 +720,7 @@ public final class BindingGraphFactory {
     }
 
     private Resolver rootResolver() {
-      return parentResolver.isPresent() ? parentResolver.get().rootResolver() : this;
+      return resolverLineage.get(0);
     }
 
     private final class RequiresResolutionChecker {
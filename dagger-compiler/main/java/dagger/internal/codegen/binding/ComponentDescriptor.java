@@ -38,6 +38,7 @@ import static dagger.internal.codegen.xprocessing.XElements.hasAnyAnnotation;
 import static dagger.internal.codegen.xprocessing.XTypeElements.getAllUnimplementedMethods;
 import static dagger.internal.codegen.xprocessing.XTypeNames.isFutureType;
 import static dagger.internal.codegen.xprocessing.XTypes.isDeclared;
+import static dagger.internal.codegen.xprocessing.XTypes.isTypeOf;
 
 import androidx.room.compiler.processing.XElement;
 import androidx.room.compiler.processing.XMethodElement;
@@ -284,6 +285,17 @@ public abstract class ComponentDescriptor {
         .collect(toImmutableSet());
   }
 
+  /**
+   * Returns the {@link dagger.Warmable#warmUp} method that Dagger implements, if this component
+   * extends {@link dagger.Warmable}.
+   */
+  @Memoized
+  public Optional<XMethodElement> warmUpMethod() {
+    return getAllUnimplementedMethods(typeElement()).stream()
+        .filter(method -> isWarmUpMethod(method, typeElement()))
+        .findFirst();
+  }
+
   /**
    * Returns {@code true} for components that have a creator, either because the user {@linkplain
    * #creatorDescriptor() specified one} or because it's a top-level component with an implicit
@@ -504,6 +516,24 @@ public abstract class ComponentDescriptor {
     return isComponentContributionMethod(method) && isFutureType(method.getReturnType());
   }
 
+  /**
+   * Returns {@code true} if {@code method} is a {@link dagger.Warmable#warmUp} method of {@code
+   * component}. Such methods are implemented by Dagger rather than treated as members-injection
+   * methods.
+   */
+  public static boolean isWarmUpMethod(XMethodElement method, XTypeElement component) {
+    return getSimpleName(method).equals("warmUp")
+        && method.getParameters().size() == 1
+        && isTypeOf(getOnlyElement(method.getParameters()).getType(), XTypeNames.EXECUTOR)
+        && isVoid(method.getReturnType())
+        && isWarmable(component.getType());
+  }
+
+  private static boolean isWarmable(XType type) {
+    return isTypeOf(type, XTypeNames.WARMABLE)
+        || type.getSuperTypes().stream().anyMatch(ComponentDescriptor::isWarmable);
+  }
+
   /** A factory for creating a {@link ComponentDescriptor}. */
   @Singleton
   public static final class Factory implements ClearableCache {
@@ -588,6 +618,9 @@ public abstract class ComponentDescriptor {
           subcomponentsByBuilderMethod = ImmutableBiMap.builder();
       if (componentAnnotation.isRealComponent()) {
         for (XMethodElement componentMethod : getAllUnimplementedMethods(typeElement)) {
+          if (isWarmUpMethod(componentMethod, typeElement)) {
+            continue;
+          }
           ComponentMethodDescriptor componentMethodDescriptor =
               getDescriptorForComponentMethod(componentAnnotation, typeElement, componentMethod);
           componentMethodsBuilder.add(componentMethodDescriptor);
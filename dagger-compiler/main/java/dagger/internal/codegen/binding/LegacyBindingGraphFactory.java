@@ -371,7 +371,9 @@ public final class LegacyBindingGraphFactory {
         if (MapType.isMap(requestKey)) {
           bindings.add(bindingFactory.multiboundMap(requestKey, multibindingContributions));
         } else if (SetType.isSet(requestKey)) {
-          bindings.add(bindingFactory.multiboundSet(requestKey, multibindingContributions));
+          bindings.add(
+              bindingFactory.multiboundSet(
+                  requestKey, multibindingContributions, multibindingDeclarations));
         } else {
           throw new AssertionError("Unexpected type in multibinding key: " + requestKey);
         }
@@ -59,6 +59,12 @@ public abstract class MultibindingDeclaration extends Declaration
   @Override
   public abstract ContributionType contributionType();
 
+  /**
+   * Returns {@code true} if the declaration is annotated with {@link
+   * dagger.multibindings.AssembledInParallel @AssembledInParallel}.
+   */
+  public abstract boolean assembledInParallel();
+
   @Memoized
   @Override
   public abstract int hashCode();
@@ -94,7 +100,8 @@ public abstract class MultibindingDeclaration extends Declaration
           Optional.of(method),
           Optional.of(contributingType),
           keyFactory.forMultibindsMethod(method, methodType),
-          contributionType(returnType));
+          contributionType(returnType),
+          method.hasAnnotation(XTypeNames.ASSEMBLED_IN_PARALLEL));
     }
 
     private ContributionType contributionType(XType returnType) {
@@ -45,6 +45,12 @@ public abstract class MultiboundSetBinding extends ContributionBinding {
     return Nullability.NOT_NULLABLE;
   }
 
+  /**
+   * Returns {@code true} if any {@link MultibindingDeclaration} for this set is {@linkplain
+   * MultibindingDeclaration#assembledInParallel() assembled in parallel}.
+   */
+  public abstract boolean assembledInParallel();
+
   @Override
   public abstract Builder toBuilder();
 
@@ -57,7 +63,7 @@ public abstract class MultiboundSetBinding extends ContributionBinding {
   public abstract boolean equals(Object obj);
 
   static Builder builder() {
-    return new AutoValue_MultiboundSetBinding.Builder();
+    return new AutoValue_MultiboundSetBinding.Builder().assembledInParallel(false);
   }
 
   /** A {@link MultiboundSetBinding} builder. */
@@ -67,5 +73,7 @@ public abstract class MultiboundSetBinding extends ContributionBinding {
     abstract Builder dependencies(ImmutableSet<DependencyRequest> dependencies);
 
     abstract Builder optionalBindingType(Optional<BindingType> optionalBindingType);
+
+    abstract Builder assembledInParallel(boolean assembledInParallel);
   }
 }
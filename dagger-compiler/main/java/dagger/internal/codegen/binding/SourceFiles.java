@@ -248,6 +248,8 @@ public final class SourceFiles {
    *
    * <ul>
    *   <li>{@link dagger.producers.internal.SetFactory} for provision bindings.
+   *   <li>{@link dagger.internal.ParallelSetFactory} for provision bindings that are {@linkplain
+   *       MultiboundSetBinding#assembledInParallel() assembled in parallel}.
    *   <li>{@link dagger.producers.internal.SetProducer} for production bindings for {@code Set<T>}.
    *   <li>{@link dagger.producers.internal.SetOfProducedProducer} for production bindings for
    *       {@code Set<Produced<T>>}.
@@ -256,7 +258,9 @@ public final class SourceFiles {
   public static XClassName setFactoryClassName(MultiboundSetBinding binding) {
     switch (binding.bindingType()) {
       case PROVISION:
-        return XTypeNames.SET_FACTORY;
+        return binding.assembledInParallel() && !binding.dependencies().isEmpty()
+            ? XTypeNames.PARALLEL_SET_FACTORY
+            : XTypeNames.SET_FACTORY;
       case PRODUCTION:
         SetType setType = SetType.from(binding.key());
         return setType.elementsAreTypeOf(XTypeNames.PRODUCED)
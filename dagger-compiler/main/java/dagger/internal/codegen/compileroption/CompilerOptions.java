@@ -31,10 +31,48 @@ public abstract class CompilerOptions {
    */
   public abstract boolean fastInit(XTypeElement element);
 
+  /**
+   * Returns true if the lock-free scoping flag, {@code lockFreeScoping}, is enabled.
+   *
+   * <p>If enabled, scoped bindings in the generated component are memoized with {@code
+   * dagger.internal.LockFreeDoubleCheck} instead of {@code dagger.internal.DoubleCheck}, so threads
+   * racing to initialize a cold scoped binding park rather than contend on an object monitor.
+   */
+  public abstract boolean lockFreeScoping(XTypeElement component);
+
+  /**
+   * Returns true if the virtual thread safe scoping flag, {@code virtualThreadSafeScoping}, is
+   * enabled.
+   *
+   * <p>If enabled, scoped bindings in the generated component are memoized with {@code
+   * dagger.internal.VirtualThreadSafeDoubleCheck}, which guards initialization with a {@code
+   * ReentrantLock} so that virtual threads waiting on a slow scoped binding do not pin their carrier
+   * threads.
+   */
+  public abstract boolean virtualThreadSafeScoping(XTypeElement component);
+
   public abstract boolean formatGeneratedSource();
 
   public abstract boolean writeProducerNameInToken();
 
+  /**
+   * Returns true if the inline ready producers flag, {@code inlineReadyProducers}, is enabled.
+   *
+   * <p>If enabled, generated producer factories call their {@code @Produces} method on the
+   * requesting thread, rather than on the production executor, when all of its asynchronous
+   * dependencies are already done.
+   */
+  public abstract boolean inlineReadyProducers();
+
+  /**
+   * Returns true if the producer priorities flag, {@code producerPriorities}, is enabled.
+   *
+   * <p>If enabled, generated components give each producer a static scheduling priority: the length
+   * of the longest chain of bindings between it and an entry point. {@code
+   * dagger.producers.PriorityExecutor} uses it to run producers on the critical path first.
+   */
+  public abstract boolean producerPriorities();
+
   public abstract Diagnostic.Kind nullableValidationKind();
 
   public final boolean doCheckForNulls() {
@@ -31,12 +31,16 @@ import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompil
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.GENERATED_CLASS_EXTENDS_COMPONENT;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.IGNORE_PROVISION_KEY_WILDCARDS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.INCLUDE_STACKTRACE_WITH_DEFERRED_ERROR_MESSAGES;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.INLINE_READY_PRODUCERS;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.LOCK_FREE_SCOPING;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.PLUGINS_VISIT_FULL_BINDING_GRAPHS;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.PRODUCER_PRIORITIES;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.STRICT_MULTIBINDING_VALIDATION;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.STRICT_SUPERFICIAL_VALIDATION;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.USE_BINDING_GRAPH_FIX;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.USE_FRAMEWORK_TYPE_IN_MAP_MULTIBINDING_CONTRIBUTION_KEY;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.VALIDATE_TRANSITIVE_COMPONENT_DEPENDENCIES;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.VIRTUAL_THREAD_SAFE_SCOPING;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.WARN_IF_INJECTION_FACTORY_NOT_GENERATED_UPSTREAM;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.WRITE_PRODUCER_NAME_IN_TOKEN;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.KeyOnlyOption.HEADER_COMPILATION;
@@ -109,6 +113,16 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
     return isEnabled(FAST_INIT);
   }
 
+  @Override
+  public boolean lockFreeScoping(XTypeElement component) {
+    return isEnabled(LOCK_FREE_SCOPING);
+  }
+
+  @Override
+  public boolean virtualThreadSafeScoping(XTypeElement component) {
+    return isEnabled(VIRTUAL_THREAD_SAFE_SCOPING);
+  }
+
   @Override
   public boolean formatGeneratedSource() {
     return isEnabled(FORMAT_GENERATED_SOURCE);
@@ -119,6 +133,16 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
     return isEnabled(WRITE_PRODUCER_NAME_IN_TOKEN);
   }
 
+  @Override
+  public boolean inlineReadyProducers() {
+    return isEnabled(INLINE_READY_PRODUCERS);
+  }
+
+  @Override
+  public boolean producerPriorities() {
+    return isEnabled(PRODUCER_PRIORITIES);
+  }
+
   @Override
   public Diagnostic.Kind nullableValidationKind() {
     return diagnosticKind(NULLABLE_VALIDATION);
@@ -244,6 +268,13 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
     noLongerRecognized(FLOATING_BINDS_METHODS);
     noLongerRecognized(EXPERIMENTAL_AHEAD_OF_TIME_SUBCOMPONENTS);
     noLongerRecognized(USE_GRADLE_INCREMENTAL_PROCESSING);
+    if (isEnabled(LOCK_FREE_SCOPING) && isEnabled(VIRTUAL_THREAD_SAFE_SCOPING)) {
+      messager.printMessage(
+          Diagnostic.Kind.ERROR,
+          String.format(
+              "Only one of %s and %s can be enabled.",
+              LOCK_FREE_SCOPING, VIRTUAL_THREAD_SAFE_SCOPING));
+    }
     if (processingEnv.getBackend() == XProcessingEnv.Backend.KSP
         && !isEnabled(IGNORE_PROVISION_KEY_WILDCARDS)) {
       processingEnv.getMessager().printMessage(
@@ -348,7 +379,15 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
 
     IGNORE_PROVISION_KEY_WILDCARDS(ENABLED),
 
-    VALIDATE_TRANSITIVE_COMPONENT_DEPENDENCIES(ENABLED)
+    VALIDATE_TRANSITIVE_COMPONENT_DEPENDENCIES(ENABLED),
+
+    LOCK_FREE_SCOPING,
+
+    VIRTUAL_THREAD_SAFE_SCOPING,
+
+    INLINE_READY_PRODUCERS,
+
+    PRODUCER_PRIORITIES,
     ;
 
     final FeatureStatus defaultValue;
@@ -156,6 +156,11 @@ final class ComponentHjarGenerator extends SourceFileGenerator<ComponentDescript
               method ->
                   generatedComponent.addMethod(
                       emptyComponentMethod(componentElement, method.methodElement())));
+      componentDescriptor
+          .warmUpMethod()
+          .ifPresent(
+              method ->
+                  generatedComponent.addMethod(emptyComponentMethod(componentElement, method)));
 
       if (componentDescriptor.isProduction()) {
         generatedComponent
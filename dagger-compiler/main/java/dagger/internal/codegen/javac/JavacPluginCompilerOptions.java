@@ -36,6 +36,16 @@ final class JavacPluginCompilerOptions extends CompilerOptions {
     return false;
   }
 
+  @Override
+  public boolean lockFreeScoping(XTypeElement component) {
+    return false;
+  }
+
+  @Override
+  public boolean virtualThreadSafeScoping(XTypeElement component) {
+    return false;
+  }
+
   @Override
   public boolean formatGeneratedSource() {
     return false;
@@ -46,6 +56,16 @@ final class JavacPluginCompilerOptions extends CompilerOptions {
     return true;
   }
 
+  @Override
+  public boolean inlineReadyProducers() {
+    return false;
+  }
+
+  @Override
+  public boolean producerPriorities() {
+    return false;
+  }
+
   @Override
   public Diagnostic.Kind nullableValidationKind() {
     return NOTE;
@@ -28,7 +28,8 @@ import javax.inject.Inject;
 /**
  * Processing step that verifies that {@link dagger.multibindings.IntoSet}, {@link
  * dagger.multibindings.ElementsIntoSet} and {@link dagger.multibindings.IntoMap} are not present on
- * non-binding methods.
+ * non-binding methods, and that {@link dagger.multibindings.AssembledInParallel} is only present on
+ * {@link dagger.multibindings.Multibinds} methods.
  */
 final class MultibindingAnnotationsProcessingStep
     extends TypeCheckingProcessingStep<XExecutableElement> {
@@ -41,19 +42,34 @@ final class MultibindingAnnotationsProcessingStep
 
   @Override
   public ImmutableSet<XClassName> annotationClassNames() {
-    return ImmutableSet.of(XTypeNames.INTO_SET, XTypeNames.ELEMENTS_INTO_SET, XTypeNames.INTO_MAP);
+    return ImmutableSet.of(
+        XTypeNames.INTO_SET,
+        XTypeNames.ELEMENTS_INTO_SET,
+        XTypeNames.INTO_MAP,
+        XTypeNames.ASSEMBLED_IN_PARALLEL);
   }
 
   @Override
   protected void process(XExecutableElement method, ImmutableSet<XClassName> annotations) {
+    if (annotations.contains(XTypeNames.ASSEMBLED_IN_PARALLEL)
+        && !method.hasAnnotation(XTypeNames.MULTIBINDS)) {
+      messager.printMessage(
+          ERROR,
+          "@AssembledInParallel may only be on @Multibinds methods",
+          method,
+          method.getAnnotation(XTypeNames.ASSEMBLED_IN_PARALLEL));
+    }
     if (!anyBindingMethodValidator.isBindingMethod(method)) {
-      annotations.forEach(
-          annotation ->
-              messager.printMessage(
-                  ERROR,
-                  "Multibinding annotations may only be on @Provides, @Produces, or @Binds methods",
-                  method,
-                  method.getAnnotation(annotation)));
+      annotations.stream()
+          .filter(annotation -> !annotation.equals(XTypeNames.ASSEMBLED_IN_PARALLEL))
+          .forEach(
+              annotation ->
+                  messager.printMessage(
+                      ERROR,
+                      "Multibinding annotations may only be on @Provides, @Produces, or @Binds"
+                          + " methods",
+                      method,
+                      method.getAnnotation(annotation)));
     }
   }
 }
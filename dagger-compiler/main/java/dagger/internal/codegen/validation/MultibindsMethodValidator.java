@@ -80,6 +80,9 @@ class MultibindsMethodValidator extends BindingMethodValidator {
     protected void checkType() {
       if (MapType.isMap(method.getReturnType())) {
         checkMapType(MapType.from(method.getReturnType()));
+        if (method.hasAnnotation(XTypeNames.ASSEMBLED_IN_PARALLEL)) {
+          report.addError(bindingMethods("that return a Map cannot be @AssembledInParallel"));
+        }
       } else if (SetType.isSet(method.getReturnType())) {
         checkSetType(SetType.from(method.getReturnType()));
       } else {
@@ -17,9 +17,17 @@
 package dagger.internal.codegen.writing;
 
 import static androidx.room.compiler.codegen.compat.XConverters.toJavaPoet;
+import static com.google.common.collect.Iterables.getOnlyElement;
 
+import androidx.room.compiler.codegen.XClassName;
 import com.squareup.javapoet.CodeBlock;
+import dagger.internal.codegen.base.MapType;
 import dagger.internal.codegen.binding.Binding;
+import dagger.internal.codegen.binding.BindingGraph;
+import dagger.internal.codegen.binding.BindingType;
+import dagger.internal.codegen.binding.ContributionBinding;
+import dagger.internal.codegen.compileroption.CompilerOptions;
+import dagger.internal.codegen.model.DependencyRequest;
 import dagger.internal.codegen.writing.FrameworkFieldInitializer.FrameworkInstanceCreationExpression;
 import dagger.internal.codegen.xprocessing.XTypeNames;
 import javax.inject.Inject;
@@ -27,17 +35,93 @@ import javax.inject.Inject;
 /** Holds common methods for BindingRepresentations. */
 final class BindingRepresentations {
 
-  @Inject BindingRepresentations() {}
+  private final BindingGraph graph;
+  private final CompilerOptions compilerOptions;
+
+  @Inject
+  BindingRepresentations(BindingGraph graph, CompilerOptions compilerOptions) {
+    this.graph = graph;
+    this.compilerOptions = compilerOptions;
+  }
 
   FrameworkInstanceCreationExpression scope(
       Binding binding, FrameworkInstanceCreationExpression unscoped) {
     return () ->
         CodeBlock.of(
             "$T.provider($L)",
-            toJavaPoet(
-                binding.scope().get().isReusable()
-                    ? XTypeNames.SINGLE_CHECK
-                    : XTypeNames.DOUBLE_CHECK),
+            toJavaPoet(scopedProviderType(binding)),
             unscoped.creationExpression());
   }
+
+  /** Returns the runtime type used to memoize instances of the given scoped binding. */
+  XClassName scopedProviderType(Binding binding) {
+    if (binding.scope().get().isReusable()) {
+      return XTypeNames.SINGLE_CHECK;
+    }
+    if (compilerOptions.lockFreeScoping(graph.componentTypeElement())) {
+      return XTypeNames.LOCK_FREE_DOUBLE_CHECK;
+    }
+    if (compilerOptions.virtualThreadSafeScoping(graph.componentTypeElement())) {
+      return XTypeNames.VIRTUAL_THREAD_SAFE_DOUBLE_CHECK;
+    }
+    return XTypeNames.DOUBLE_CHECK;
+  }
+
+  /**
+   * Returns {@code true} if the given unscoped multibinding's collection can be created once and
+   * reused, because every contribution always provides the same instance.
+   *
+   * <p>Such multibindings are memoized with {@link dagger.internal.SingleCheck}: the collections
+   * that {@code SetFactory} and {@code MapFactory} return are immutable, so creating one more than
+   * once when the first requests race is harmless.
+   */
+  boolean isMemoizedMultibinding(ContributionBinding binding) {
+    switch (binding.kind()) {
+      case MULTIBOUND_MAP:
+        if (MapType.from(binding.key()).valuesAreFrameworkType()) {
+          // The contributing map of a Map<K, Provider<V>> is already reused.
+          return false;
+        }
+        // fall through
+      case MULTIBOUND_SET:
+        if (binding.scope().isPresent()
+            || !binding.bindingType().equals(BindingType.PROVISION)
+            || binding.dependencies().isEmpty()) {
+          return false;
+        }
+        for (DependencyRequest dependency : binding.dependencies()) {
+          if (!alwaysProvidesSameInstance(graph.contributionBinding(dependency.key()))) {
+            return false;
+          }
+        }
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private boolean alwaysProvidesSameInstance(ContributionBinding binding) {
+    if (binding.scope().isPresent()) {
+      return true;
+    }
+    switch (binding.kind()) {
+      case BOUND_INSTANCE:
+      case COMPONENT:
+        return true;
+      case DELEGATE:
+        return alwaysProvidesSameInstance(
+            graph.contributionBinding(getOnlyElement(binding.dependencies()).key()));
+      default:
+        return false;
+    }
+  }
+
+  /** Memoizes the framework instance of a {@linkplain #isMemoizedMultibinding multibinding}. */
+  FrameworkInstanceCreationExpression memoize(FrameworkInstanceCreationExpression unmemoized) {
+    return () ->
+        CodeBlock.of(
+            "$T.provider($L)",
+            toJavaPoet(XTypeNames.SINGLE_CHECK),
+            unmemoized.creationExpression());
+  }
 }
@@ -23,6 +23,7 @@ import static com.google.common.base.CaseFormat.UPPER_UNDERSCORE;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Suppliers.memoize;
+import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.squareup.javapoet.MethodSpec.constructorBuilder;
 import static com.squareup.javapoet.MethodSpec.methodBuilder;
 import static com.squareup.javapoet.TypeSpec.classBuilder;
@@ -76,11 +77,13 @@ import dagger.internal.codegen.binding.Binding;
 import dagger.internal.codegen.binding.BindingGraph;
 import dagger.internal.codegen.binding.BindingNode;
 import dagger.internal.codegen.binding.BindingRequest;
+import dagger.internal.codegen.binding.BindingType;
 import dagger.internal.codegen.binding.CancellationPolicy;
 import dagger.internal.codegen.binding.ComponentCreatorDescriptor;
 import dagger.internal.codegen.binding.ComponentDescriptor;
 import dagger.internal.codegen.binding.ComponentDescriptor.ComponentMethodDescriptor;
 import dagger.internal.codegen.binding.ComponentRequirement;
+import dagger.internal.codegen.binding.FrameworkType;
 import dagger.internal.codegen.binding.KeyVariableNamer;
 import dagger.internal.codegen.binding.MethodSignature;
 import dagger.internal.codegen.binding.ModuleDescriptor;
@@ -240,6 +243,48 @@ public final class ComponentImplementation {
     return partitions.build();
   }
 
+  /**
+   * Returns the scoped provision bindings owned by this component, grouped into the waves in which
+   * {@link dagger.Warmable#warmUp} creates them.
+   *
+   * <p>A binding's wave is one more than the latest wave of any scoped binding it transitively
+   * depends on, so bindings in the same wave never wait on each other's initialization. Scoped
+   * bindings in the same dependency cycle are put in consecutive waves so that they are created one
+   * at a time.
+   */
+  private static ImmutableList<ImmutableList<Binding>> warmUpWaves(BindingGraph graph) {
+    Map<Node, Integer> depths = new HashMap<>();
+    ListMultimap<Integer, Binding> waves = MultimapBuilder.treeKeys().arrayListValues().build();
+    // The SCCs are in reverse topological order, so each node's dependencies are visited first.
+    for (ImmutableSet<Node> nodes : graph.topLevelBindingGraph().stronglyConnectedNodes()) {
+      int depth = 0;
+      for (Node node : nodes) {
+        for (Node successor : graph.topLevelBindingGraph().network().successors(node)) {
+          if (successor instanceof BindingNode && !nodes.contains(successor)) {
+            depth = Math.max(depth, depths.get(successor));
+          }
+        }
+      }
+      for (Node node : nodes) {
+        if (node instanceof BindingNode && isWarmedUp((BindingNode) node, graph)) {
+          waves.put(++depth, ((BindingNode) node).delegate());
+        }
+      }
+      for (Node node : nodes) {
+        depths.put(node, depth);
+      }
+    }
+    return waves.asMap().values().stream().map(ImmutableList::copyOf).collect(toImmutableList());
+  }
+
+  private static boolean isWarmedUp(BindingNode bindingNode, BindingGraph graph) {
+    Binding binding = bindingNode.delegate();
+    return bindingNode.componentPath().equals(graph.componentPath())
+        && binding.bindingType().equals(BindingType.PROVISION)
+        && binding.scope().isPresent()
+        && !binding.scope().get().isReusable();
+  }
+
   /** The boolean parameter of the onProducerFutureCancelled method. */
   public static final ParameterSpec MAY_INTERRUPT_IF_RUNNING_PARAM =
       ParameterSpec.builder(boolean.class, "mayInterruptIfRunning").build();
@@ -754,6 +799,7 @@ public final class ComponentImplementation {
         addCreator();
         addFactoryMethods();
         addInterfaceMethods();
+        graph.componentDescriptor().warmUpMethod().ifPresent(this::addWarmUpMethod);
         addChildComponents();
         addShards();
       }
@@ -926,6 +972,37 @@ public final class ComponentImplementation {
       }
     }
 
+    private void addWarmUpMethod(XMethodElement warmUpMethod) {
+      MethodSpec.Builder method = overriding(warmUpMethod, graph.componentTypeElement().getType());
+      ImmutableList<CodeBlock> waves =
+          warmUpWaves(graph).stream()
+              .map(
+                  wave ->
+                      CodeBlock.of(
+                          "new $T<?>[] {$L}",
+                          toJavaPoet(XTypeNames.DAGGER_PROVIDER),
+                          wave.stream()
+                              .map(
+                                  binding ->
+                                      componentRequestRepresentationsProvider
+                                          .get()
+                                          .getDependencyExpression(
+                                              BindingRequest.bindingRequest(
+                                                  binding.key(), FrameworkType.PROVIDER),
+                                              name)
+                                          .codeBlock())
+                              .collect(CodeBlocks.toParametersCodeBlock())))
+              .collect(toImmutableList());
+      if (!waves.isEmpty()) {
+        method.addStatement(
+            "$T.run($N, $L)",
+            toJavaPoet(XTypeNames.WARM_UP_WAVES),
+            getOnlyElement(method.parameters),
+            CodeBlocks.makeParametersCodeBlock(waves));
+      }
+      addMethod(COMPONENT_METHOD, method.build());
+    }
+
     private void addChildComponents() {
       for (BindingGraph subgraph : graph.subgraphs()) {
         topLevelImplementation()
@@ -19,6 +19,7 @@ package dagger.internal.codegen.writing;
 import static dagger.internal.codegen.model.BindingKind.DELEGATE;
 
 import dagger.internal.codegen.binding.ContributionBinding;
+import dagger.internal.codegen.binding.MultiboundSetBinding;
 import dagger.internal.codegen.writing.ComponentImplementation.CompilerMode;
 
 /** Generation mode for satisfying framework request to Provision Binding. */
@@ -58,6 +59,12 @@ enum FrameworkInstanceKind {
         // e.g. a component provider can use FactoryInstance.create(this).
         return false;
       case MULTIBOUND_SET:
+        if (((MultiboundSetBinding) binding).assembledInParallel()) {
+          // A SwitchingProvider would build the set with a direct instance expression, which calls
+          // each contribution in turn, so use a ParallelSetFactory field instead.
+          return false;
+        }
+        // fall through
       case MULTIBOUND_MAP:
       case OPTIONAL:
         // These binding kinds avoid SwitchingProvider when their are no dependencies,
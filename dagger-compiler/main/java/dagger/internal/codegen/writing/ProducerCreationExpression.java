@@ -25,8 +25,10 @@ import dagger.assisted.Assisted;
 import dagger.assisted.AssistedFactory;
 import dagger.assisted.AssistedInject;
 import dagger.internal.codegen.binding.ProductionBinding;
+import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.writing.ComponentImplementation.ShardImplementation;
 import dagger.internal.codegen.writing.FrameworkFieldInitializer.FrameworkInstanceCreationExpression;
+import dagger.internal.codegen.xprocessing.XTypeNames;
 
 /**
  * A {@link dagger.producers.Producer} creation expression for a {@link
@@ -37,25 +39,39 @@ final class ProducerCreationExpression implements FrameworkInstanceCreationExpre
 
   private final ShardImplementation shardImplementation;
   private final ComponentRequestRepresentations componentRequestRepresentations;
+  private final ProducerPriorities producerPriorities;
+  private final CompilerOptions compilerOptions;
   private final ProductionBinding binding;
 
   @AssistedInject
   ProducerCreationExpression(
       @Assisted ProductionBinding binding,
       ComponentImplementation componentImplementation,
-      ComponentRequestRepresentations componentRequestRepresentations) {
+      ComponentRequestRepresentations componentRequestRepresentations,
+      ProducerPriorities producerPriorities,
+      CompilerOptions compilerOptions) {
     this.binding = checkNotNull(binding);
     this.shardImplementation = componentImplementation.shardImplementation(binding);
     this.componentRequestRepresentations = checkNotNull(componentRequestRepresentations);
+    this.producerPriorities = checkNotNull(producerPriorities);
+    this.compilerOptions = checkNotNull(compilerOptions);
   }
 
   @Override
   public CodeBlock creationExpression() {
-    return CodeBlock.of(
-        "$T.create($L)",
-        toJavaPoet(generatedClassNameForBinding(binding)),
-        componentRequestRepresentations.getCreateMethodArgumentsCodeBlock(
-            binding, shardImplementation.name()));
+    CodeBlock factory =
+        CodeBlock.of(
+            "$T.create($L)",
+            toJavaPoet(generatedClassNameForBinding(binding)),
+            componentRequestRepresentations.getCreateMethodArgumentsCodeBlock(
+                binding, shardImplementation.name()));
+    return compilerOptions.producerPriorities()
+        ? CodeBlock.of(
+            "$T.withSchedulingPriority($L, $L)",
+            toJavaPoet(XTypeNames.PRODUCERS),
+            factory,
+            producerPriorities.priority(binding))
+        : factory;
   }
 
   @AssistedFactory
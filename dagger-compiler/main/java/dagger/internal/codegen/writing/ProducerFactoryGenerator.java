@@ -62,6 +62,7 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
 import dagger.internal.codegen.base.ContributionType;
+import dagger.internal.codegen.base.MapType;
 import dagger.internal.codegen.base.SetType;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.base.UniqueNameSet;
@@ -130,6 +131,14 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
             .addMethod(collectDependenciesMethod(binding, factoryFields))
             .addMethod(callProducesMethod(binding, factoryFields));
 
+    if (compilerOptions.inlineReadyProducers()) {
+      factoryBuilder.addMethod(mayCallProducesMethodInlineMethod());
+    }
+
+    if (handlesFailedInputs(binding)) {
+      factoryBuilder.addMethod(handlesFailedInputsMethod());
+    }
+
     gwtIncompatibleAnnotation(binding).ifPresent(factoryBuilder::addAnnotation);
 
     return ImmutableList.of(factoryBuilder);
@@ -221,6 +230,9 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
   //   ListenableFuture<Bar> barFuture = barProducer.get();
   //   return Futures.<Object>allAsList(fooFuture, barFuture);
   // }
+  //
+  // With -Adagger.inlineReadyProducers=enabled, Example 3 uses Producers.allAsList() instead, which
+  // doesn't register listeners when every dependency is already done.
   public MethodSpec collectDependenciesMethod(
       ProductionBinding binding, FactoryFields factoryFields) {
     MethodSpec.Builder methodBuilder =
@@ -262,7 +274,9 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
             .addCode(argAssignments.build())
             .addStatement(
                 "return $T.<$T>allAsList($L)",
-                toJavaPoet(XTypeNames.FUTURES),
+                compilerOptions.inlineReadyProducers()
+                    ? toJavaPoet(XTypeNames.PRODUCERS)
+                    : toJavaPoet(XTypeNames.FUTURES),
                 toJavaPoet(XTypeName.ANY_OBJECT),
                 makeParametersCodeBlock(argNames.build()))
             .build();
@@ -358,6 +372,47 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
     return methodBuilder.build();
   }
 
+  // @Override
+  // protected boolean mayCallProducesMethodInline() {
+  //   return true;
+  // }
+  private MethodSpec mayCallProducesMethodInlineMethod() {
+    return methodBuilder("mayCallProducesMethodInline")
+        .addAnnotation(Override.class)
+        .addModifiers(PROTECTED)
+        .returns(boolean.class)
+        .addStatement("return true")
+        .build();
+  }
+
+  // @Override
+  // protected boolean handlesFailedInputs() {
+  //   return true;
+  // }
+  private MethodSpec handlesFailedInputsMethod() {
+    return methodBuilder("handlesFailedInputs")
+        .addAnnotation(Override.class)
+        .addModifiers(PROTECTED)
+        .returns(boolean.class)
+        .addStatement("return true")
+        .build();
+  }
+
+  /**
+   * Returns true if the {@code @Produces} method takes a {@code Produced} input, either directly or
+   * as the elements of a multibound {@code Set} or {@code Map}.
+   */
+  private static boolean handlesFailedInputs(ProductionBinding binding) {
+    return asyncDependencies(binding).stream()
+        .anyMatch(
+            dependency ->
+                dependency.kind() == RequestKind.PRODUCED
+                    || (SetType.isSet(dependency.key())
+                        && SetType.from(dependency.key()).elementsAreTypeOf(XTypeNames.PRODUCED))
+                    || (MapType.isMap(dependency.key())
+                        && MapType.from(dependency.key()).valuesAreTypeOf(XTypeNames.PRODUCED)));
+  }
+
   private ParameterSpec callProducesMethodParameter(ProductionBinding binding) {
     ImmutableList<DependencyRequest> asyncDependencies = asyncDependencies(binding);
     switch (asyncDependencies.size()) {
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.writing;
+
+import com.google.common.graph.ImmutableNetwork;
+import dagger.internal.codegen.binding.BindingGraph;
+import dagger.internal.codegen.binding.BindingNode;
+import dagger.internal.codegen.binding.ProductionBinding;
+import dagger.internal.codegen.model.BindingGraph.DependencyEdge;
+import dagger.internal.codegen.model.BindingGraph.Edge;
+import dagger.internal.codegen.model.BindingGraph.Node;
+import dagger.internal.codegen.model.Key;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Inject;
+
+/**
+ * Computes the static scheduling priorities of the production bindings in a component, for {@code
+ * -Adagger.producerPriorities=enabled}.
+ *
+ * <p>The priority of a binding is the length of the longest chain of dependency requests from it
+ * to an entry point of the top-level component or any of its subcomponents. Bindings that are only
+ * requested by entry points have priority zero. Requests for a {@code Provider} or {@code Lazy} are
+ * not followed, since they don't wait for the binding.
+ */
+@PerComponentImplementation
+final class ProducerPriorities {
+  private final BindingGraph graph;
+  private final Map<Node, Integer> priorities = new HashMap<>();
+  private Map<Key, BindingNode> localBindingNodes;
+
+  @Inject
+  ProducerPriorities(BindingGraph graph) {
+    this.graph = graph;
+  }
+
+  /** Returns the scheduling priority of {@code binding}, which is owned by this component. */
+  int priority(ProductionBinding binding) {
+    if (localBindingNodes == null) {
+      localBindingNodes = new HashMap<>();
+      for (BindingNode node : graph.localBindingNodes()) {
+        localBindingNodes.put(node.key(), node);
+      }
+    }
+    BindingNode node = localBindingNodes.get(binding.key());
+    return node == null ? 0 : priority(node);
+  }
+
+  private int priority(Node node) {
+    Integer cached = priorities.get(node);
+    if (cached != null) {
+      return cached;
+    }
+    // A depth-first traversal of the dependents of the node, iterative so that long chains of
+    // bindings can't overflow the stack.
+    Set<Node> visiting = new HashSet<>();
+    Deque<Node> stack = new ArrayDeque<>();
+    stack.push(node);
+    while (!stack.isEmpty()) {
+      Node current = stack.peek();
+      if (priorities.containsKey(current)) {
+        stack.pop();
+        continue;
+      }
+      List<Node> dependents = waitingDependents(current);
+      if (visiting.add(current)) {
+        boolean dependentsDone = true;
+        for (Node dependent : dependents) {
+          if (!priorities.containsKey(dependent) && !visiting.contains(dependent)) {
+            stack.push(dependent);
+            dependentsDone = false;
+          }
+        }
+        if (!dependentsDone) {
+          continue;
+        }
+      }
+      stack.pop();
+      int priority = 0;
+      for (Node dependent : dependents) {
+        // A dependent that is still being visited is part of a cycle; don't count it.
+        Integer dependentPriority = priorities.get(dependent);
+        if (dependentPriority != null) {
+          priority = Math.max(priority, dependentPriority + 1);
+        }
+      }
+      priorities.put(current, priority);
+    }
+    return priorities.get(node);
+  }
+
+  /**
+   * Returns the bindings that request {@code node} and wait for its value. Entry points are not
+   * included, since they add nothing to the priority.
+   */
+  private List<Node> waitingDependents(Node node) {
+    ImmutableNetwork<Node, Edge> network = graph.topLevelBindingGraph().network();
+    List<Node> dependents = new ArrayList<>();
+    for (Edge edge : network.inEdges(node)) {
+      if (edge instanceof DependencyEdge && waitsForValue((DependencyEdge) edge)) {
+        Node dependent = network.incidentNodes(edge).source();
+        if (dependent instanceof BindingNode) {
+          dependents.add(dependent);
+        }
+      }
+    }
+    return dependents;
+  }
+
+  private static boolean waitsForValue(DependencyEdge edge) {
+    switch (edge.dependencyRequest().kind()) {
+      case PROVIDER:
+      case LAZY:
+      case PROVIDER_OF_LAZY:
+        return false;
+      default:
+        return true;
+    }
+  }
+}
@@ -41,7 +41,9 @@ final class ProviderInstanceSupplier implements FrameworkInstanceSupplier {
             binding,
             binding.scope().isPresent()
                 ? bindingRepresentations.scope(binding, frameworkInstanceCreationExpression)
-                : frameworkInstanceCreationExpression);
+                : bindingRepresentations.isMemoizedMultibinding(binding)
+                    ? bindingRepresentations.memoize(frameworkInstanceCreationExpression)
+                    : frameworkInstanceCreationExpression);
   }
 
   @Override
@@ -26,6 +26,7 @@ import dagger.internal.codegen.binding.BindingGraph;
 import dagger.internal.codegen.binding.BindingRequest;
 import dagger.internal.codegen.binding.ContributionBinding;
 import dagger.internal.codegen.binding.DelegateBinding;
+import dagger.internal.codegen.binding.MultiboundSetBinding;
 import dagger.internal.codegen.model.RequestKind;
 import dagger.internal.codegen.writing.ComponentImplementation.CompilerMode;
 
@@ -35,6 +36,7 @@ import dagger.internal.codegen.writing.ComponentImplementation.CompilerMode;
  */
 final class ProvisionBindingRepresentation implements BindingRepresentation {
   private final BindingGraph graph;
+  private final BindingRepresentations bindingRepresentations;
   private final CompilerMode compilerMode;
   private final ContributionBinding binding;
   private final DirectInstanceBindingRepresentation directInstanceBindingRepresentation;
@@ -46,9 +48,11 @@ final class ProvisionBindingRepresentation implements BindingRepresentation {
       DirectInstanceBindingRepresentation.Factory directInstanceBindingRepresentationFactory,
       FrameworkInstanceBindingRepresentation.Factory frameworkInstanceBindingRepresentationFactory,
       BindingGraph graph,
+      BindingRepresentations bindingRepresentations,
       ComponentImplementation componentImplementation) {
     this.binding = binding;
     this.graph = graph;
+    this.bindingRepresentations = bindingRepresentations;
     this.compilerMode = componentImplementation.compilerMode();
     this.directInstanceBindingRepresentation =
         directInstanceBindingRepresentationFactory.create(binding);
@@ -92,11 +96,20 @@ final class ProvisionBindingRepresentation implements BindingRepresentation {
       case ASSISTED_INJECTION:
         throw new IllegalStateException(
             "Assisted injection binding shouldn't be requested with an instance request.");
+      case MULTIBOUND_SET:
+        if (((MultiboundSetBinding) binding).assembledInParallel()) {
+          // The direct instance expression calls each contribution in turn, so use the
+          // ParallelSetFactory instead.
+          return false;
+        }
+        // fall through
       default:
         // We don't need to use Provider#get() if there's no caching, so use a direct instance.
         // TODO(bcorso): This can be optimized in cases where we know a Provider field already
         // exists, in which case even if it's not scoped we might as well call Provider#get().
-        return !needsCaching(binding, graph);
+        return !needsCaching(binding, graph)
+            // Reuse the memoized collection rather than building a new one for each request.
+            && !bindingRepresentations.isMemoizedMultibinding(binding);
     }
   }
 
@@ -22,8 +22,6 @@ import com.squareup.javapoet.CodeBlock;
 import dagger.assisted.Assisted;
 import dagger.assisted.AssistedFactory;
 import dagger.assisted.AssistedInject;
-import dagger.internal.codegen.binding.Binding;
-import dagger.internal.codegen.binding.BindingGraph;
 import dagger.internal.codegen.binding.ContributionBinding;
 import dagger.internal.codegen.model.BindingKind;
 import dagger.internal.codegen.writing.ComponentImplementation.ShardImplementation;
@@ -36,14 +34,16 @@ import dagger.internal.codegen.xprocessing.XTypeNames;
  */
 final class SwitchingProviderInstanceSupplier implements FrameworkInstanceSupplier {
   private final FrameworkInstanceSupplier frameworkInstanceSupplier;
+  private final BindingRepresentations bindingRepresentations;
 
   @AssistedInject
   SwitchingProviderInstanceSupplier(
       @Assisted ContributionBinding binding,
-      BindingGraph graph,
       ComponentImplementation componentImplementation,
       UnscopedDirectInstanceRequestRepresentationFactory
-          unscopedDirectInstanceRequestRepresentationFactory) {
+          unscopedDirectInstanceRequestRepresentationFactory,
+      BindingRepresentations bindingRepresentations) {
+    this.bindingRepresentations = bindingRepresentations;
     ShardImplementation shardImplementation = componentImplementation.shardImplementation(binding);
     FrameworkInstanceCreationExpression frameworkInstanceCreationExpression =
         shardImplementation
@@ -61,21 +61,22 @@ final class SwitchingProviderInstanceSupplier implements FrameworkInstanceSuppli
   }
 
   private FrameworkInstanceCreationExpression scope(
-      Binding binding, FrameworkInstanceCreationExpression unscoped) {
+      ContributionBinding binding, FrameworkInstanceCreationExpression unscoped) {
+    if (bindingRepresentations.isMemoizedMultibinding(binding)) {
+      return bindingRepresentations.memoize(unscoped);
+    }
     // Caching assisted factory provider, so that there won't be new factory created for each
     // provider.get() call.
     if (!binding.scope().isPresent() && !binding.kind().equals(BindingKind.ASSISTED_FACTORY)) {
       return unscoped;
     }
+    if (binding.scope().isPresent()) {
+      return bindingRepresentations.scope(binding, unscoped);
+    }
     return () ->
         CodeBlock.of(
             "$T.provider($L)",
-            toJavaPoet(
-                binding.scope().isPresent()
-                    ? (binding.scope().get().isReusable()
-                        ? XTypeNames.SINGLE_CHECK
-                        : XTypeNames.DOUBLE_CHECK)
-                    : XTypeNames.SINGLE_CHECK),
+            toJavaPoet(XTypeNames.SINGLE_CHECK),
             unscoped.creationExpression());
   }
 
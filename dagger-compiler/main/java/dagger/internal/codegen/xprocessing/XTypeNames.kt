@@ -32,6 +32,8 @@ import com.squareup.javapoet.TypeName
 object XTypeNames {
 
   // Dagger Core classnames
+  @JvmField
+  val ASSEMBLED_IN_PARALLEL = XClassName.get("dagger.multibindings", "AssembledInParallel")
   @JvmField val ASSISTED = XClassName.get("dagger.assisted", "Assisted")
   @JvmField val ASSISTED_FACTORY = XClassName.get("dagger.assisted", "AssistedFactory")
   @JvmField val ASSISTED_INJECT = XClassName.get("dagger.assisted", "AssistedInject")
@@ -53,6 +55,7 @@ object XTypeNames {
   @JvmField val SUBCOMPONENT = XClassName.get("dagger", "Subcomponent")
   @JvmField val SUBCOMPONENT_BUILDER = XClassName.get("dagger", "Subcomponent", "Builder")
   @JvmField val SUBCOMPONENT_FACTORY = XClassName.get("dagger", "Subcomponent", "Factory")
+  @JvmField val WARMABLE = XClassName.get("dagger", "Warmable")
 
   // Dagger Internal classnames
   @JvmField val IDENTIFIER_NAME_STRING = XClassName.get("dagger.internal", "IdentifierNameString")
@@ -80,11 +83,14 @@ object XTypeNames {
   @JvmField
   val INJECTED_FIELD_SIGNATURE = XClassName.get("dagger.internal", "InjectedFieldSignature")
   @JvmField val INSTANCE_FACTORY = XClassName.get("dagger.internal", "InstanceFactory")
+  @JvmField
+  val LOCK_FREE_DOUBLE_CHECK = XClassName.get("dagger.internal", "LockFreeDoubleCheck")
   @JvmField val MAP_BUILDER = XClassName.get("dagger.internal", "MapBuilder")
   @JvmField val MAP_FACTORY = XClassName.get("dagger.internal", "MapFactory")
   @JvmField val MAP_PROVIDER_FACTORY = XClassName.get("dagger.internal", "MapProviderFactory")
   @JvmField val MEMBERS_INJECTOR = XClassName.get("dagger", "MembersInjector")
   @JvmField val MEMBERS_INJECTORS = XClassName.get("dagger.internal", "MembersInjectors")
+  @JvmField val PARALLEL_SET_FACTORY = XClassName.get("dagger.internal", "ParallelSetFactory")
   @JvmField val PROVIDER = XClassName.get("javax.inject", "Provider")
   @JvmField val JAKARTA_PROVIDER = XClassName.get("jakarta.inject", "Provider")
   @JvmField val DAGGER_PROVIDER = XClassName.get("dagger.internal", "Provider")
@@ -94,6 +100,10 @@ object XTypeNames {
   @JvmField val QUALIFIER_METADATA = XClassName.get("dagger.internal", "QualifierMetadata")
   @JvmField val SET_FACTORY = XClassName.get("dagger.internal", "SetFactory")
   @JvmField val SINGLE_CHECK = XClassName.get("dagger.internal", "SingleCheck")
+  @JvmField
+  val VIRTUAL_THREAD_SAFE_DOUBLE_CHECK =
+    XClassName.get("dagger.internal", "VirtualThreadSafeDoubleCheck")
+  @JvmField val WARM_UP_WAVES = XClassName.get("dagger.internal", "WarmUpWaves")
   @JvmField val LAZY = XClassName.get("dagger", "Lazy")
 
   // Dagger Producers classnames
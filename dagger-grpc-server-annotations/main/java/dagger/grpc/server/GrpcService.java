@@ -45,6 +45,21 @@ import java.lang.annotation.Target;
  *     {@linkplain dagger.Component component} and call subcomponent factory methods to instantiate
  *     the correct subcomponent.
  * </ol>
+ *
+ * <p>{@code FooGrpcProxyModule} creates a new subcomponent for every call, and with it every
+ * {@link CallScoped} instance and the service's {@code ServerServiceDefinition}. Subcomponents are
+ * not pooled or reused across calls. A component can't release its scoped instances, so a reused
+ * subcomponent would pass one call's call-scoped objects, including any that captured its {@code
+ * Metadata}, on to the next call. To make creating the subcomponent cheaper, compile it with
+ * {@code -Adagger.fastInit=enabled}, which initializes fewer of its fields eagerly. A service that
+ * keeps no per-call state can install {@code FooUnscopedGrpcServiceModule} instead, which creates
+ * no subcomponent at all.
+ *
+ * <p>{@code FooGrpcServiceModule} applies the interceptors bound to {@code
+ * List<? extends ServerInterceptor>} to every method of the service. Interceptors for a single
+ * method go in the {@code Map<String, List<? extends ServerInterceptor>>} multibinding, keyed by
+ * the method's full name, which {@code FooGrpcProxyModule} applies once in the {@code @Singleton}
+ * server component. Both bindings are qualified with {@code @ForGrpcService(FooGrpc.class)}.
  */
 @Documented
 @Target(ElementType.TYPE)
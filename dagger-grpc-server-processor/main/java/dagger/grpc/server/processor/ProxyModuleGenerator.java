@@ -18,16 +18,21 @@ package dagger.grpc.server.processor;
 
 import static com.google.auto.common.MoreElements.hasModifiers;
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.squareup.javapoet.MethodSpec.constructorBuilder;
 import static com.squareup.javapoet.MethodSpec.methodBuilder;
 import static com.squareup.javapoet.TypeSpec.anonymousClassBuilder;
 import static com.squareup.javapoet.TypeSpec.classBuilder;
+import static com.squareup.javapoet.WildcardTypeName.subtypeOf;
+import static javax.lang.model.element.Modifier.ABSTRACT;
 import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
 import static javax.lang.model.util.ElementFilter.fieldsIn;
 import static javax.lang.model.util.ElementFilter.methodsIn;
 
 import com.google.common.collect.ImmutableList;
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
@@ -36,6 +41,7 @@ import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import dagger.grpc.server.GrpcService;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
@@ -48,6 +54,13 @@ import javax.lang.model.type.TypeMirror;
  */
 final class ProxyModuleGenerator extends SourceGenerator {
 
+  private static final TypeName MAP_OF_METHOD_INTERCEPTORS =
+      ParameterizedTypeName.get(
+          ClassName.get(Map.class),
+          ClassName.get(String.class),
+          ParameterizedTypeName.get(
+              ClassName.get(List.class), subtypeOf(IoGrpc.SERVER_INTERCEPTOR)));
+
   private final GrpcServiceModel grpcServiceModel;
 
   ProxyModuleGenerator(GrpcServiceModel grpcServiceModel) {
@@ -59,21 +72,37 @@ final class ProxyModuleGenerator extends SourceGenerator {
   protected TypeSpec createType() {
     TypeSpec.Builder proxyModule =
         classBuilder(grpcServiceModel.proxyModuleName)
-            .addModifiers(PUBLIC, FINAL)
+            .addModifiers(PUBLIC, ABSTRACT)
             .addJavadoc(
                 "Install this module in the {@link $T @Singleton} server component.\n",
                 JavaxInject.singleton().type);
     grpcServiceModel.generatedAnnotation().ifPresent(proxyModule::addAnnotation);
     return proxyModule
         .addAnnotation(Dagger.module())
+        .addMethod(declareMethodInterceptors())
         .addMethod(provideServiceDefinitionContribution())
         .addMethod(provideServiceDefinitionFactory())
+        .addMethod(constructorBuilder().addModifiers(PRIVATE).build())
+        .build();
+  }
+
+  /**
+   * Returns the {@link dagger.multibindings.Multibinds @Multibinds} method that declares the
+   * interceptors for individual methods of the service, keyed by full method name.
+   */
+  private MethodSpec declareMethodInterceptors() {
+    return methodBuilder("methodInterceptors")
+        .addAnnotation(Dagger.multibinds())
+        .addAnnotation(grpcServiceModel.forGrpcService())
+        .addModifiers(ABSTRACT)
+        .returns(MAP_OF_METHOD_INTERCEPTORS)
         .build();
   }
 
   /**
    * Returns the {@link dagger.Provides @Provides} method for the proxying {@link
-   * io.grpc.ServerServiceDefinition}.
+   * io.grpc.ServerServiceDefinition}. The method interceptors are applied here, once, rather than to
+   * the service definition created for each call.
    */
   private MethodSpec provideServiceDefinitionContribution() {
     MethodSpec.Builder method =
@@ -88,8 +117,13 @@ final class ProxyModuleGenerator extends SourceGenerator {
                         Dagger.GrpcServer.SERVICE_DEFINITION_FACTORY, "serviceDefinitionFactory")
                     .addAnnotation(grpcServiceModel.forGrpcService())
                     .build())
+            .addParameter(
+                ParameterSpec.builder(MAP_OF_METHOD_INTERCEPTORS, "methodInterceptors")
+                    .addAnnotation(grpcServiceModel.forGrpcService())
+                    .build())
             .addCode(
-                "return $T.builder($T.SERVICE_NAME)",
+                "return $T.intercept($T.builder($T.SERVICE_NAME)",
+                Dagger.GrpcServer.METHOD_INTERCEPTORS,
                 IoGrpc.SERVER_SERVICE_DEFINITION,
                 grpcServiceModel.grpcClass());
     for (CodeBlock methodDescriptor : methodDescriptors()) {
@@ -98,7 +132,7 @@ final class ProxyModuleGenerator extends SourceGenerator {
           Dagger.GrpcServer.PROXY_SERVER_CALL_HANDLER,
           methodDescriptor);
     }
-    method.addCode(".build();");
+    method.addCode(".build(), methodInterceptors);");
     return method.build();
   }
 
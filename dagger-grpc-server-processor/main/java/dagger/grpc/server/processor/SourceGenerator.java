@@ -53,6 +53,10 @@ abstract class SourceGenerator {
       return AnnotationSpec.builder(ClassName.get("dagger.multibindings", "IntoSet")).build();
     }
 
+    static AnnotationSpec multibinds() {
+      return AnnotationSpec.builder(ClassName.get("dagger.multibindings", "Multibinds")).build();
+    }
+
     static AnnotationSpec provides() {
       return AnnotationSpec.builder(ClassName.get("dagger", "Provides")).build();
     }
@@ -73,6 +77,9 @@ abstract class SourceGenerator {
       static final ClassName PROXY_SERVER_CALL_HANDLER =
           ClassName.get("dagger.grpc.server", "ProxyServerCallHandler");
 
+      static final ClassName METHOD_INTERCEPTORS =
+          ClassName.get("dagger.grpc.server", "MethodInterceptors");
+
       static final ClassName GRPC_CALL_METADATA_MODULE =
           ClassName.get("dagger.grpc.server", "GrpcCallMetadataModule");
 
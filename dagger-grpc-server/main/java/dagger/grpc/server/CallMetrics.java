@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.grpc.server;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics for the calls to one method that have passed through a {@link CallMetricsInterceptor}.
+ * The values are updated concurrently, so values read together may not be consistent with each
+ * other.
+ *
+ * <p>Message sizes are only counted for protobuf messages.
+ */
+public final class CallMetrics {
+  private final String fullMethodName;
+  private final AtomicLong inFlightCalls = new AtomicLong();
+  private final LongAdder completedCalls = new LongAdder();
+  private final LongAdder totalLatencyNanos = new LongAdder();
+  private final AtomicLong maxLatencyNanos = new AtomicLong();
+  private final LongAdder requestMessages = new LongAdder();
+  private final LongAdder requestBytes = new LongAdder();
+  private final LongAdder responseMessages = new LongAdder();
+  private final LongAdder responseBytes = new LongAdder();
+
+  CallMetrics(String fullMethodName) {
+    this.fullMethodName = fullMethodName;
+  }
+
+  /** The full name of the method. */
+  public String fullMethodName() {
+    return fullMethodName;
+  }
+
+  /** The number of calls that have started but not yet completed or been cancelled. */
+  public long inFlightCalls() {
+    return inFlightCalls.get();
+  }
+
+  /** The number of calls that have completed or been cancelled. */
+  public long completedCalls() {
+    return completedCalls.sum();
+  }
+
+  /** The total time from the start to the end of every {@linkplain #completedCalls() call}. */
+  @SuppressWarnings("GoodTime") // should return a java.time.Duration
+  public long totalLatency(TimeUnit unit) {
+    return unit.convert(totalLatencyNanos.sum(), TimeUnit.NANOSECONDS);
+  }
+
+  /** The longest time from the start to the end of a {@linkplain #completedCalls() call}. */
+  @SuppressWarnings("GoodTime") // should return a java.time.Duration
+  public long maxLatency(TimeUnit unit) {
+    return unit.convert(maxLatencyNanos.get(), TimeUnit.NANOSECONDS);
+  }
+
+  /** The number of request messages received. */
+  public long requestMessages() {
+    return requestMessages.sum();
+  }
+
+  /** The total serialized size of the request messages received. */
+  public long requestBytes() {
+    return requestBytes.sum();
+  }
+
+  /** The number of response messages sent. */
+  public long responseMessages() {
+    return responseMessages.sum();
+  }
+
+  /** The total serialized size of the response messages sent. */
+  public long responseBytes() {
+    return responseBytes.sum();
+  }
+
+  void callStarted() {
+    inFlightCalls.incrementAndGet();
+  }
+
+  void callEnded(long latencyNanos) {
+    inFlightCalls.decrementAndGet();
+    completedCalls.increment();
+    totalLatencyNanos.add(latencyNanos);
+    long max;
+    do {
+      max = maxLatencyNanos.get();
+    } while (latencyNanos > max && !maxLatencyNanos.compareAndSet(max, latencyNanos));
+  }
+
+  void requestReceived(int bytes) {
+    requestMessages.increment();
+    requestBytes.add(bytes);
+  }
+
+  void responseSent(int bytes) {
+    responseMessages.increment();
+    responseBytes.add(bytes);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s: %d in flight, %d completed, %d ms total latency, %d/%d messages/bytes in, "
+            + "%d/%d messages/bytes out",
+        fullMethodName,
+        inFlightCalls(),
+        completedCalls(),
+        totalLatency(TimeUnit.MILLISECONDS),
+        requestMessages(),
+        requestBytes(),
+        responseMessages(),
+        responseBytes());
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.grpc.server;
+
+import com.google.protobuf.MessageLite;
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCall.Listener;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * A {@link ServerInterceptor} that records latency, in-flight calls and message sizes for each
+ * method it intercepts. Inject it into the interceptor lists of the services or, with {@link
+ * MethodInterceptors}, the methods to measure, and read the results from {@link #metrics(String)}.
+ */
+@Singleton
+public final class CallMetricsInterceptor implements ServerInterceptor {
+  private final ConcurrentMap<String, CallMetrics> metrics = new ConcurrentHashMap<>();
+
+  @Inject
+  CallMetricsInterceptor() {}
+
+  /**
+   * Returns the metrics for the method named {@code fullMethodName}, or {@code null} if no call to
+   * it has been intercepted.
+   */
+  public CallMetrics metrics(String fullMethodName) {
+    return metrics.get(fullMethodName);
+  }
+
+  /** Returns the metrics for every method with an intercepted call. */
+  public Collection<CallMetrics> allMetrics() {
+    return Collections.unmodifiableCollection(metrics.values());
+  }
+
+  @Override
+  public <RequestT, ResponseT> Listener<RequestT> interceptCall(
+      ServerCall<RequestT, ResponseT> call,
+      Metadata headers,
+      ServerCallHandler<RequestT, ResponseT> next) {
+    String fullMethodName = call.getMethodDescriptor().getFullMethodName();
+    CallMetrics methodMetrics = metrics.get(fullMethodName);
+    if (methodMetrics == null) {
+      methodMetrics = metrics.computeIfAbsent(fullMethodName, CallMetrics::new);
+    }
+    MeasuredCall<RequestT, ResponseT> measuredCall = new MeasuredCall<>(call, methodMetrics);
+    Listener<RequestT> listener;
+    try {
+      listener = next.startCall(measuredCall, headers);
+    } catch (RuntimeException | Error e) {
+      measuredCall.end();
+      throw e;
+    }
+    return new MeasuredListener<>(listener, measuredCall);
+  }
+
+  private static int serializedSize(Object message) {
+    return message instanceof MessageLite ? ((MessageLite) message).getSerializedSize() : 0;
+  }
+
+  private static final class MeasuredCall<RequestT, ResponseT>
+      extends SimpleForwardingServerCall<RequestT, ResponseT> {
+    private final CallMetrics metrics;
+    private final long startNanos = System.nanoTime();
+    private final AtomicBoolean ended = new AtomicBoolean();
+
+    MeasuredCall(ServerCall<RequestT, ResponseT> call, CallMetrics metrics) {
+      super(call);
+      this.metrics = metrics;
+      metrics.callStarted();
+    }
+
+    @Override
+    public void sendMessage(ResponseT message) {
+      super.sendMessage(message);
+      metrics.responseSent(serializedSize(message));
+    }
+
+    void requestReceived(RequestT message) {
+      metrics.requestReceived(serializedSize(message));
+    }
+
+    /** Records the end of the call the first time it is called. */
+    void end() {
+      if (ended.compareAndSet(false, true)) {
+        metrics.callEnded(System.nanoTime() - startNanos);
+      }
+    }
+  }
+
+  private static final class MeasuredListener<RequestT>
+      extends SimpleForwardingServerCallListener<RequestT> {
+    private final MeasuredCall<RequestT, ?> call;
+
+    MeasuredListener(Listener<RequestT> delegate, MeasuredCall<RequestT, ?> call) {
+      super(delegate);
+      this.call = call;
+    }
+
+    @Override
+    public void onMessage(RequestT message) {
+      call.requestReceived(message);
+      super.onMessage(message);
+    }
+
+    @Override
+    public void onCancel() {
+      try {
+        super.onCancel();
+      } finally {
+        call.end();
+      }
+    }
+
+    @Override
+    public void onComplete() {
+      try {
+        super.onComplete();
+      } finally {
+        call.end();
+      }
+    }
+  }
+}
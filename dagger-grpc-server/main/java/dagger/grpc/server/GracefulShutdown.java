@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.grpc.server;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import io.grpc.Server;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Shuts down the {@link ServerModule} server without dropping the calls it is serving, and then
+ * releases the resources those calls use. Requires {@link GracefulShutdownModule}, which makes the
+ * server count its calls in flight.
+ *
+ * <p>{@link #drain(long, TimeUnit)} stops the server from accepting new calls, waits for the calls
+ * in flight to finish, and only then runs the {@link Task}s bound into the {@code Map<Integer,
+ * GracefulShutdown.Task>} multibinding, in ascending key order. Bind a task for each singleton that
+ * calls depend on, such as a connection pool, so that it is closed after the last call that needs
+ * it:
+ *
+ * <pre><code>
+ * {@literal @Provides}
+ * {@literal @IntoMap}
+ * {@literal @IntKey}(10)
+ * static GracefulShutdown.Task closeConnectionPool(ConnectionPool connectionPool) {
+ *   return connectionPool::close;
+ * }
+ * </code></pre>
+ */
+@Singleton
+public final class GracefulShutdown {
+
+  /** Releases a resource once the server has drained. */
+  public interface Task {
+    void run();
+  }
+
+  /** How long to wait for cancelled calls to end before running the tasks anyway. */
+  private static final long CANCELLED_CALLS_GRACE_NANOS = SECONDS.toNanos(1);
+
+  private final Server server;
+  private final InFlightCalls inFlightCalls;
+  private final SortedMap<Integer, Task> tasks;
+  private final ReentrantLock drainLock = new ReentrantLock();
+
+  // Both guarded by drainLock.
+  private boolean tasksRun;
+  private boolean drained;
+
+  @Inject
+  GracefulShutdown(Server server, InFlightCalls inFlightCalls, Map<Integer, Task> tasks) {
+    this.server = server;
+    this.inFlightCalls = inFlightCalls;
+    this.tasks = new TreeMap<>(tasks);
+  }
+
+  /** Returns the number of calls that have started but not yet completed or been cancelled. */
+  public int inFlightCalls() {
+    return inFlightCalls.count();
+  }
+
+  /**
+   * Stops the server from accepting new calls and waits up to {@code timeout} for the calls in
+   * flight to finish. Calls that are still running at the deadline are cancelled, and given up to
+   * one more second to end. Then runs the {@linkplain Task tasks}. A handler that ignores
+   * cancellation for longer than that may still be running while the tasks run.
+   *
+   * <p>The tasks run only once. A call to this method while another is draining waits for that
+   * drain, including its tasks, to finish; later calls return its result right away.
+   *
+   * <p>If a task throws, the remaining tasks still run and the first exception is rethrown with the
+   * later ones {@linkplain Throwable#addSuppressed(Throwable) suppressed}.
+   *
+   * @return {@code true} if every call finished before the deadline
+   * @throws InterruptedException if interrupted while waiting for calls or another drain to finish.
+   *     The server is shut down, but the tasks are not run until this method is called again.
+   */
+  @SuppressWarnings("GoodTime") // should accept a java.time.Duration
+  public boolean drain(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+    drainLock.lockInterruptibly();
+    try {
+      if (tasksRun) {
+        return drained;
+      }
+      server.shutdown();
+      drained = awaitCalls(deadlineNanos);
+      if (!drained) {
+        server.shutdownNow();
+        // Cancelled calls end once their handlers see the cancellation. Give them a bounded chance
+        // to, so that the tasks don't release resources out from under them.
+        awaitCalls(System.nanoTime() + CANCELLED_CALLS_GRACE_NANOS);
+      }
+      tasksRun = true;
+      runTasks();
+      return drained;
+    } finally {
+      drainLock.unlock();
+    }
+  }
+
+  /**
+   * Waits until no calls are in flight and the server has terminated, or {@code deadlineNanos}
+   * passes. Returns {@code true} if both happened.
+   */
+  private boolean awaitCalls(long deadlineNanos) throws InterruptedException {
+    return inFlightCalls.awaitNone(deadlineNanos)
+        && server.awaitTermination(deadlineNanos - System.nanoTime(), NANOSECONDS);
+  }
+
+  /**
+   * Registers a JVM shutdown hook that {@linkplain #drain(long, TimeUnit) drains} the server, and
+   * returns it so that it can be {@linkplain Runtime#removeShutdownHook(Thread) removed}.
+   */
+  @SuppressWarnings("GoodTime") // should accept a java.time.Duration
+  public Thread addShutdownHook(final long timeout, final TimeUnit unit) {
+    Thread hook =
+        new Thread("dagger-grpc-graceful-shutdown") {
+          @Override
+          public void run() {
+            try {
+              drain(timeout, unit);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+        };
+    Runtime.getRuntime().addShutdownHook(hook);
+    return hook;
+  }
+
+  private void runTasks() {
+    RuntimeException failure = null;
+    for (Task task : tasks.values()) {
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+}
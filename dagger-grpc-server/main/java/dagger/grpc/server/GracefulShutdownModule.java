@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.grpc.server;
+
+import dagger.Module;
+import dagger.Provides;
+import dagger.multibindings.Multibinds;
+import java.util.Map;
+import javax.inject.Singleton;
+
+/**
+ * Enables {@link GracefulShutdown} for the {@link ServerModule} server. Installing this module
+ * makes the server count the calls in flight, which costs an extra interceptor on every call, and
+ * declares the {@link GracefulShutdown.Task} map so that it may be empty.
+ */
+@Module
+public abstract class GracefulShutdownModule {
+  @Provides
+  @Singleton
+  static InFlightCalls inFlightCalls() {
+    return new InFlightCalls();
+  }
+
+  @Multibinds
+  abstract Map<Integer, GracefulShutdown.Task> gracefulShutdownTasks();
+
+  private GracefulShutdownModule() {}
+}
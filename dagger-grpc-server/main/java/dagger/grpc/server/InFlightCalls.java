@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.grpc.server;
+
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCall.Listener;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the calls that have started but not yet completed or been cancelled on the {@link
+ * ServerModule} server. For a proxied service, each of these calls holds its own {@link CallScoped}
+ * subcomponent. Bound by {@link GracefulShutdownModule}.
+ */
+final class InFlightCalls implements ServerInterceptor {
+  private final AtomicInteger count = new AtomicInteger();
+  private final Object lock = new Object();
+
+  InFlightCalls() {}
+
+  int count() {
+    return count.get();
+  }
+
+  /**
+   * Waits until no calls are in flight or {@code deadlineNanos}, as measured by {@link
+   * System#nanoTime()}, passes. Returns {@code true} if no calls are in flight.
+   */
+  boolean awaitNone(long deadlineNanos) throws InterruptedException {
+    synchronized (lock) {
+      while (count.get() > 0) {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (remainingNanos <= 0) {
+          return false;
+        }
+        TimeUnit.NANOSECONDS.timedWait(lock, remainingNanos);
+      }
+      return true;
+    }
+  }
+
+  @Override
+  public <RequestT, ResponseT> Listener<RequestT> interceptCall(
+      ServerCall<RequestT, ResponseT> call,
+      Metadata headers,
+      ServerCallHandler<RequestT, ResponseT> next) {
+    count.incrementAndGet();
+    Listener<RequestT> listener;
+    try {
+      listener = next.startCall(call, headers);
+    } catch (RuntimeException | Error e) {
+      callEnded();
+      throw e;
+    }
+    return new SimpleForwardingServerCallListener<RequestT>(listener) {
+      private final AtomicBoolean ended = new AtomicBoolean();
+
+      @Override
+      public void onCancel() {
+        try {
+          super.onCancel();
+        } finally {
+          end();
+        }
+      }
+
+      @Override
+      public void onComplete() {
+        try {
+          super.onComplete();
+        } finally {
+          end();
+        }
+      }
+
+      private void end() {
+        if (ended.compareAndSet(false, true)) {
+          callEnded();
+        }
+      }
+    };
+  }
+
+  private void callEnded() {
+    if (count.decrementAndGet() == 0) {
+      synchronized (lock) {
+        lock.notifyAll();
+      }
+    }
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.grpc.server;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies interceptors to individual methods of a service, so that instrumenting one method does
+ * not add interceptors to the calls of every other method.
+ *
+ * <p>The proxy module generated for a {@link GrpcService @GrpcService} class {@code Foo} applies
+ * the {@code @ForGrpcService(FooGrpc.class) Map<String, List<? extends ServerInterceptor>>}
+ * multibinding, keyed by full method name, with this class. Contribute to it from the {@link
+ * javax.inject.Singleton @Singleton} server component:
+ *
+ * <pre><code>
+ * {@literal @Provides}
+ * {@literal @IntoMap}
+ * {@literal @StringKey}("coffee.Barista/Brew")
+ * {@literal @ForGrpcService}(BaristaGrpc.class)
+ * static List&lt;? extends ServerInterceptor&gt; brewInterceptors(
+ *     CallMetricsInterceptor callMetricsInterceptor) {
+ *   return asList(callMetricsInterceptor);
+ * }
+ * </code></pre>
+ *
+ * <p>The interceptors are applied once, when the server's service definition is created, rather
+ * than for each call. For a method that proxies to a per-call service definition, they intercept
+ * the call with its request and response messages before the interceptors that apply to the whole
+ * service, which are part of the per-call definition.
+ */
+public final class MethodInterceptors {
+
+  /**
+   * Returns a service definition whose methods are intercepted by the interceptors in {@code
+   * methodInterceptors} for their full method name, in the order of {@link
+   * ServerInterceptors#intercept(ServerServiceDefinition, List)}. Methods without an entry are
+   * returned unchanged.
+   *
+   * @throws IllegalArgumentException if {@code methodInterceptors} has an entry for a method that
+   *     is not in {@code serviceDefinition}
+   */
+  public static ServerServiceDefinition intercept(
+      ServerServiceDefinition serviceDefinition,
+      Map<String, ? extends List<? extends ServerInterceptor>> methodInterceptors) {
+    if (methodInterceptors.isEmpty()) {
+      return serviceDefinition;
+    }
+    for (String fullMethodName : methodInterceptors.keySet()) {
+      checkArgument(
+          serviceDefinition.getMethod(fullMethodName) != null,
+          "%s has no method %s",
+          serviceDefinition.getServiceDescriptor().getName(),
+          fullMethodName);
+    }
+    ServerServiceDefinition.Builder intercepted =
+        ServerServiceDefinition.builder(serviceDefinition.getServiceDescriptor());
+    for (ServerMethodDefinition<?, ?> method : serviceDefinition.getMethods()) {
+      List<? extends ServerInterceptor> interceptors =
+          methodInterceptors.get(method.getMethodDescriptor().getFullMethodName());
+      if (interceptors == null || interceptors.isEmpty()) {
+        intercepted.addMethod(method);
+      } else {
+        intercepted.addMethod(intercept(serviceDefinition, method, interceptors));
+      }
+    }
+    return intercepted.build();
+  }
+
+  private static <RequestT, ResponseT> ServerMethodDefinition<RequestT, ResponseT> intercept(
+      ServerServiceDefinition serviceDefinition,
+      ServerMethodDefinition<RequestT, ResponseT> method,
+      List<? extends ServerInterceptor> interceptors) {
+    ServerCallHandler<RequestT, ResponseT> handler = method.getServerCallHandler();
+    if (handler instanceof ProxyServerCallHandler) {
+      // Intercept the typed delegate call rather than the proxy's stream of bytes.
+      ServerCallHandler<?, ?> intercepted =
+          ((ProxyServerCallHandler<?, ?>) handler).withInterceptors(interceptors);
+      @SuppressWarnings("unchecked") // The new handler has the same type as the old one.
+      ServerCallHandler<RequestT, ResponseT> typedIntercepted =
+          (ServerCallHandler<RequestT, ResponseT>) intercepted;
+      return ServerMethodDefinition.create(method.getMethodDescriptor(), typedIntercepted);
+    }
+    // ServerInterceptors only intercepts whole services, so intercept a service that contains only
+    // this method.
+    ServerServiceDefinition methodOnly =
+        ServerServiceDefinition.builder(serviceDefinition.getServiceDescriptor().getName())
+            .addMethod(method)
+            .build();
+    @SuppressWarnings("unchecked") // The intercepted method has the same type as the original.
+    ServerMethodDefinition<RequestT, ResponseT> interceptedMethod =
+        (ServerMethodDefinition<RequestT, ResponseT>)
+            ServerInterceptors.intercept(methodOnly, interceptors)
+                .getMethod(method.getMethodDescriptor().getFullMethodName());
+    return interceptedMethod;
+  }
+
+  private MethodInterceptors() {}
+}
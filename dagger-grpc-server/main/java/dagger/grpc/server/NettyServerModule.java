@@ -23,6 +23,7 @@ import io.grpc.ServerBuilder;
 import io.grpc.netty.NettyServerBuilder;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.Optional;
 import javax.inject.Singleton;
 
 /**
@@ -53,7 +54,11 @@ public final class NettyServerModule {
   }
 
   @Provides
-  ServerBuilder<?> serverBuilder() {
-    return NettyServerBuilder.forAddress(socketAddress);
+  ServerBuilder<?> serverBuilder(Optional<ServerConfiguration> serverConfiguration) {
+    NettyServerBuilder serverBuilder = NettyServerBuilder.forAddress(socketAddress);
+    if (serverConfiguration.isPresent()) {
+      serverConfiguration.get().applyNetty(serverBuilder);
+    }
+    return serverBuilder;
   }
 }
@@ -16,16 +16,19 @@
 
 package dagger.grpc.server;
 
+import com.google.common.collect.ImmutableList;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.MethodDescriptor.Marshaller;
 import io.grpc.ServerCall;
 import io.grpc.ServerCall.Listener;
 import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
 import io.grpc.ServerMethodDefinition;
 import io.grpc.ServerServiceDefinition;
 import io.grpc.Status;
 import java.io.InputStream;
+import java.util.List;
 
 /**
  * A {@link ServerCallHandler} that handles calls for a particular method by delegating to a handler
@@ -51,6 +54,7 @@ public final class ProxyServerCallHandler<RequestT, ResponseT>
 
   private final MethodDescriptor<RequestT, ResponseT> delegateMethodDescriptor;
   private final ServiceDefinitionFactory delegateServiceDefinitionFactory;
+  private final ImmutableList<ServerInterceptor> interceptors;
 
   /**
    * Returns a proxy method definition for {@code methodDescriptor}.
@@ -72,8 +76,33 @@ public final class ProxyServerCallHandler<RequestT, ResponseT>
   ProxyServerCallHandler(
       MethodDescriptor<RequestT, ResponseT> delegateMethodDescriptor,
       ServiceDefinitionFactory delegateServiceDefinitionFactory) {
+    this(delegateMethodDescriptor, delegateServiceDefinitionFactory, ImmutableList.of());
+  }
+
+  private ProxyServerCallHandler(
+      MethodDescriptor<RequestT, ResponseT> delegateMethodDescriptor,
+      ServiceDefinitionFactory delegateServiceDefinitionFactory,
+      ImmutableList<ServerInterceptor> interceptors) {
     this.delegateMethodDescriptor = delegateMethodDescriptor;
     this.delegateServiceDefinitionFactory = delegateServiceDefinitionFactory;
+    this.interceptors = interceptors;
+  }
+
+  /**
+   * Returns a handler for the same method that also applies {@code interceptors} to each delegate
+   * call, in the order of {@link io.grpc.ServerInterceptors#intercept(ServerServiceDefinition,
+   * List)}. They intercept the typed call, before any interceptors of the delegate service
+   * definition.
+   */
+  ProxyServerCallHandler<RequestT, ResponseT> withInterceptors(
+      List<? extends ServerInterceptor> interceptors) {
+    return new ProxyServerCallHandler<>(
+        delegateMethodDescriptor,
+        delegateServiceDefinitionFactory,
+        ImmutableList.<ServerInterceptor>builder()
+            .addAll(this.interceptors)
+            .addAll(interceptors)
+            .build());
   }
 
   @Override
@@ -81,25 +110,35 @@ public final class ProxyServerCallHandler<RequestT, ResponseT>
       ServerCall<InputStream, InputStream> call,
       Metadata headers) {
     ServerMethodDefinition<RequestT, ResponseT> delegateMethod = getMethodDefinition(headers);
+    ServerCallHandler<RequestT, ResponseT> handler = delegateMethod.getServerCallHandler();
+    for (ServerInterceptor interceptor : interceptors) {
+      handler = new InterceptingServerCallHandler<>(interceptor, handler);
+    }
     Listener<RequestT> delegateListener =
-        delegateMethod
-            .getServerCallHandler()
-            .startCall(new ServerCallAdapter(call, delegateMethod.getMethodDescriptor()), headers);
+        handler.startCall(
+            new ServerCallAdapter(call, delegateMethod.getMethodDescriptor()), headers);
     return new ServerCallListenerAdapter(delegateListener);
   }
 
   @SuppressWarnings("unchecked") // Method definition is the correct type.
   private ServerMethodDefinition<RequestT, ResponseT> getMethodDefinition(Metadata headers) {
     String fullMethodName = delegateMethodDescriptor.getFullMethodName();
-    for (ServerMethodDefinition<?, ?> methodDefinition :
-        delegateServiceDefinitionFactory.getServiceDefinition(headers).getMethods()) {
-      if (methodDefinition.getMethodDescriptor().getFullMethodName().equals(fullMethodName)) {
-        return (ServerMethodDefinition<RequestT, ResponseT>) methodDefinition;
-      }
+    // Look the method up in the service definition's index by name rather than scanning all of its
+    // methods, since this happens on every call.
+    ServerMethodDefinition<?, ?> methodDefinition =
+        delegateServiceDefinitionFactory.getServiceDefinition(headers).getMethod(fullMethodName);
+    if (methodDefinition == null) {
+      throw new IllegalStateException("Could not find " + fullMethodName);
     }
-    throw new IllegalStateException("Could not find " + fullMethodName);
+    return (ServerMethodDefinition<RequestT, ResponseT>) methodDefinition;
   }
 
+  /**
+   * Passes streams through untouched. The proxy must never copy or wrap a stream: the delegate
+   * method's marshaller checks the concrete stream type to take its fast paths, such as reading the
+   * message straight out of a protobuf stream from the in-process transport, or draining a
+   * {@code KnownLength} response into the transport's buffers without an intermediate copy.
+   */
   private static final Marshaller<InputStream> IDENTITY_MARSHALLER =
       new Marshaller<InputStream>() {
         @Override
@@ -113,6 +152,24 @@ public final class ProxyServerCallHandler<RequestT, ResponseT>
         }
       };
 
+  /** A {@link ServerCallHandler} that calls an interceptor before the next handler. */
+  private static final class InterceptingServerCallHandler<RequestT, ResponseT>
+      implements ServerCallHandler<RequestT, ResponseT> {
+    private final ServerInterceptor interceptor;
+    private final ServerCallHandler<RequestT, ResponseT> next;
+
+    InterceptingServerCallHandler(
+        ServerInterceptor interceptor, ServerCallHandler<RequestT, ResponseT> next) {
+      this.interceptor = interceptor;
+      this.next = next;
+    }
+
+    @Override
+    public Listener<RequestT> startCall(ServerCall<RequestT, ResponseT> call, Metadata headers) {
+      return interceptor.interceptCall(call, headers, next);
+    }
+  }
+
   /** A {@link Listener} that adapts {@code Listener<RequestT>} to {@code Listener<InputStream>}. */
   private final class ServerCallListenerAdapter extends Listener<InputStream> {
 
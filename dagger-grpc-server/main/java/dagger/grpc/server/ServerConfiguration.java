@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.grpc.server;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.auto.value.AutoValue;
+import io.grpc.ServerBuilder;
+import io.grpc.netty.NettyServerBuilder;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Settings applied to the {@link ServerBuilder} before {@link ServerModule} builds the {@link
+ * io.grpc.Server}. Bind an instance in a module installed alongside {@link NettyServerModule} or
+ * {@link InProcessServerModule} to tune the server; without a binding, gRPC's defaults are used.
+ * The optional binding is declared by {@link ServerConfigurationModule}, which {@link
+ * ServerModule} includes.
+ *
+ * <pre><code>
+ * {@literal @Provides}
+ * static ServerConfiguration serverConfiguration() {
+ *   return ServerConfiguration.builder()
+ *       .virtualThreadPerCallExecutor()
+ *       .maxConcurrentCallsPerConnection(100)
+ *       .build();
+ * }
+ * </code></pre>
+ *
+ * <p>The executor settings apply to every server. The remaining settings are specific to {@link
+ * NettyServerBuilder} and are ignored by {@link InProcessServerModule}.
+ *
+ * <p>Executors and event loop groups are not owned by the server: the caller remains responsible
+ * for shutting them down after the server terminates.
+ */
+@AutoValue
+public abstract class ServerConfiguration {
+  ServerConfiguration() {}
+
+  /** The executor that runs application call handlers. */
+  public abstract Optional<Executor> executor();
+
+  /**
+   * Whether call handlers run directly on the transport thread. See {@link
+   * ServerBuilder#directExecutor()}.
+   */
+  public abstract boolean directExecutor();
+
+  /** The event loop group that accepts new connections. */
+  public abstract Optional<EventLoopGroup> bossEventLoopGroup();
+
+  /** The event loop group that services accepted connections. */
+  public abstract Optional<EventLoopGroup> workerEventLoopGroup();
+
+  /** The channel type to use with the {@linkplain #bossEventLoopGroup() event loop groups}. */
+  public abstract Optional<Class<? extends ServerChannel>> channelType();
+
+  /** The maximum number of concurrent calls permitted on each incoming connection. */
+  public abstract Optional<Integer> maxConcurrentCallsPerConnection();
+
+  /** The HTTP/2 flow control window, in bytes. */
+  public abstract Optional<Integer> flowControlWindow();
+
+  /** The maximum size, in bytes, of a message the server will accept. */
+  public abstract Optional<Integer> maxMessageSize();
+
+  /** Returns a new builder of server configurations. */
+  public static Builder builder() {
+    return new AutoValue_ServerConfiguration.Builder().directExecutor(false);
+  }
+
+  /** Applies the settings that are common to all {@link ServerBuilder}s. */
+  void applyCommon(ServerBuilder<?> serverBuilder) {
+    if (directExecutor()) {
+      serverBuilder.directExecutor();
+    } else if (executor().isPresent()) {
+      serverBuilder.executor(executor().get());
+    }
+  }
+
+  /** Applies the settings that are specific to {@link NettyServerBuilder}. */
+  void applyNetty(NettyServerBuilder serverBuilder) {
+    if (bossEventLoopGroup().isPresent()) {
+      serverBuilder.bossEventLoopGroup(bossEventLoopGroup().get());
+    }
+    if (workerEventLoopGroup().isPresent()) {
+      serverBuilder.workerEventLoopGroup(workerEventLoopGroup().get());
+    }
+    if (channelType().isPresent()) {
+      serverBuilder.channelType(channelType().get());
+    }
+    if (maxConcurrentCallsPerConnection().isPresent()) {
+      serverBuilder.maxConcurrentCallsPerConnection(maxConcurrentCallsPerConnection().get());
+    }
+    if (flowControlWindow().isPresent()) {
+      serverBuilder.flowControlWindow(flowControlWindow().get());
+    }
+    if (maxMessageSize().isPresent()) {
+      serverBuilder.maxMessageSize(maxMessageSize().get());
+    }
+  }
+
+  /** A builder of {@link ServerConfiguration}s. */
+  @AutoValue.Builder
+  public abstract static class Builder {
+    Builder() {}
+
+    /**
+     * Runs call handlers on {@code executor}. gRPC's default is a shared cached thread pool, which
+     * suits handlers that block.
+     */
+    public abstract Builder executor(Executor executor);
+
+    /**
+     * Runs each call handler on its own virtual thread, so handlers that block on I/O do not hold
+     * on to a platform thread.
+     *
+     * @throws UnsupportedOperationException if the JDK does not support virtual threads
+     */
+    public Builder virtualThreadPerCallExecutor() {
+      return executor(newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * If {@code true}, runs call handlers directly on the transport thread instead of handing them
+     * off to an executor. Only services whose handlers never block should opt in.
+     */
+    public abstract Builder directExecutor(boolean directExecutor);
+
+    public abstract Builder bossEventLoopGroup(EventLoopGroup bossEventLoopGroup);
+
+    public abstract Builder workerEventLoopGroup(EventLoopGroup workerEventLoopGroup);
+
+    public abstract Builder channelType(Class<? extends ServerChannel> channelType);
+
+    public abstract Builder maxConcurrentCallsPerConnection(int maxConcurrentCallsPerConnection);
+
+    public abstract Builder flowControlWindow(int flowControlWindow);
+
+    public abstract Builder maxMessageSize(int maxMessageSize);
+
+    abstract ServerConfiguration autoBuild();
+
+    /**
+     * Returns the configuration.
+     *
+     * @throws IllegalStateException if both an {@linkplain #executor(Executor) executor} and the
+     *     {@linkplain #directExecutor(boolean) direct executor} were requested
+     */
+    public ServerConfiguration build() {
+      ServerConfiguration configuration = autoBuild();
+      checkState(
+          !(configuration.directExecutor() && configuration.executor().isPresent()),
+          "executor and directExecutor are mutually exclusive");
+      checkPositive(
+          configuration.maxConcurrentCallsPerConnection(), "maxConcurrentCallsPerConnection");
+      checkPositive(configuration.flowControlWindow(), "flowControlWindow");
+      checkPositive(configuration.maxMessageSize(), "maxMessageSize");
+      return configuration;
+    }
+
+    private static void checkPositive(Optional<Integer> value, String name) {
+      checkArgument(!value.isPresent() || value.get() > 0, "%s must be positive", name);
+    }
+  }
+
+  /**
+   * Returns {@code Executors.newVirtualThreadPerTaskExecutor()}, which is looked up reflectively
+   * since this library is compiled for Java 8.
+   */
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (NoSuchMethodException e) {
+      throw new UnsupportedOperationException("Virtual threads require JDK 21 or later", e);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new UnsupportedOperationException("Virtual threads are not available", e);
+    }
+  }
+}
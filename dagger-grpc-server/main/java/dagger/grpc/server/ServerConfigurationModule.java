@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.grpc.server;
+
+import dagger.BindsOptionalOf;
+import dagger.Module;
+
+/**
+ * Declares the optional {@link ServerConfiguration} binding that {@link ServerModule} applies to
+ * the server it builds. {@link ServerModule} includes this module.
+ */
+@Module
+public abstract class ServerConfigurationModule {
+  @BindsOptionalOf
+  abstract ServerConfiguration serverConfiguration();
+
+  private ServerConfigurationModule() {}
+}
@@ -20,22 +20,35 @@ import dagger.Module;
 import dagger.Provides;
 import io.grpc.Server;
 import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptors;
 import io.grpc.ServerServiceDefinition;
+import java.util.Optional;
 import java.util.Set;
 import javax.inject.Singleton;
 
 /**
- * Provides a {@link Singleton @Singleton} {@link Server}.
+ * Provides a {@link Singleton @Singleton} {@link Server}, configured by the {@link
+ * ServerConfiguration} if one is bound. To stop it without dropping calls in flight, also install
+ * {@link GracefulShutdownModule} and use {@link GracefulShutdown}.
  */
-@Module
+@Module(includes = {ServerConfigurationModule.class, InFlightCallsModule.class})
 public final class ServerModule {
 
   @Provides
   @Singleton
   static Server provideServer(
-      ServerBuilder<?> serverBuilder, Set<ServerServiceDefinition> serviceDefinitions) {
+      ServerBuilder<?> serverBuilder,
+      Optional<ServerConfiguration> serverConfiguration,
+      Set<ServerServiceDefinition> serviceDefinitions,
+      Optional<InFlightCalls> inFlightCalls) {
+    if (serverConfiguration.isPresent()) {
+      serverConfiguration.get().applyCommon(serverBuilder);
+    }
     for (ServerServiceDefinition serverServiceDefinition : serviceDefinitions) {
-      serverBuilder.addService(serverServiceDefinition);
+      serverBuilder.addService(
+          inFlightCalls.isPresent()
+              ? ServerInterceptors.intercept(serverServiceDefinition, inFlightCalls.get())
+              : serverServiceDefinition);
     }
     return serverBuilder.build();
   }
@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import dagger.internal.Beta;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+/**
+ * Loads values by key with one bulk call per batch of keys, so that {@link Produces} methods that
+ * each need a single value from the same backend can share one request to it.
+ *
+ * <p>Subclasses implement {@link #loadAll}, and are typically bound in {@link ProductionScope} so
+ * that every {@code @Produces} method in a production component shares one loader:
+ *
+ * <pre><code>
+ * {@literal @}ProductionScope
+ * final class UserLoader extends BatchLoader&lt;UserId, User&gt; {
+ *   private final UserBackend backend;
+ *
+ *   {@literal @}Inject
+ *   UserLoader(@Production Executor executor, UserBackend backend) {
+ *     super(executor);
+ *     this.backend = backend;
+ *   }
+ *
+ *   {@literal @}Override
+ *   protected ListenableFuture&lt;Map&lt;UserId, User&gt;&gt; loadAll(Set&lt;UserId&gt; ids) {
+ *     return backend.getUsers(ids);
+ *   }
+ * }
+ *
+ * {@literal @}Produces
+ * static ListenableFuture&lt;User&gt; author(Post post, UserLoader users) {
+ *   return users.load(post.authorId());
+ * }
+ * </code></pre>
+ *
+ * <p>The first call to {@link #load} after the previous batch was dispatched starts a new batch
+ * and submits a task that dispatches it to the executor. Every key requested before that task runs
+ * joins the batch. With the production executor, that includes the keys requested by all
+ * {@code @Produces} methods that were already waiting to run, which are typically those whose
+ * inputs became available at the same time. A batch is closed early once it holds {@code
+ * maxBatchSize} keys.
+ *
+ * <p>Each key is loaded at most once per loader; later calls to {@link #load} for the same key
+ * share the result of the first. Cancelling a future returned by {@link #load} does not cancel the
+ * load.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+@Beta
+public abstract class BatchLoader<K, V> {
+  private final Executor executor;
+  private final int maxBatchSize;
+
+  // The following are guarded by this.
+  private final Map<K, SettableFuture<V>> futures = new HashMap<>();
+  @NullableDecl private Batch pendingBatch;
+
+  /** Creates a loader whose batches are dispatched by {@code executor} and are unbounded. */
+  protected BatchLoader(Executor executor) {
+    this(executor, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a loader whose batches are dispatched by {@code executor} and hold at most {@code
+   * maxBatchSize} keys.
+   */
+  protected BatchLoader(Executor executor, int maxBatchSize) {
+    checkArgument(maxBatchSize > 0, "maxBatchSize must be positive: %s", maxBatchSize);
+    this.executor = checkNotNull(executor);
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Loads the values for a batch of keys. The returned map should contain a value for every key;
+   * the futures for keys that are missing from it fail with a {@link NoSuchElementException}. If
+   * this method throws or the returned future fails, the futures for every key in the batch fail.
+   *
+   * @param keys the keys in the batch, in the order they were first requested
+   */
+  protected abstract ListenableFuture<Map<K, V>> loadAll(Set<K> keys) throws Exception;
+
+  /** Returns a future for the value for {@code key}, adding it to the pending batch if needed. */
+  public final ListenableFuture<V> load(K key) {
+    checkNotNull(key);
+    SettableFuture<V> future;
+    Batch batchToDispatch = null;
+    synchronized (this) {
+      future = futures.get(key);
+      if (future == null) {
+        future = SettableFuture.create();
+        futures.put(key, future);
+        if (pendingBatch == null) {
+          pendingBatch = batchToDispatch = new Batch();
+        }
+        pendingBatch.futures.put(key, future);
+        if (pendingBatch.futures.size() >= maxBatchSize) {
+          pendingBatch = null;
+        }
+      }
+    }
+    if (batchToDispatch != null) {
+      try {
+        executor.execute(batchToDispatch);
+      } catch (RuntimeException e) {
+        batchToDispatch.close();
+        batchToDispatch.fail(e);
+      }
+    }
+    return Futures.nonCancellationPropagating(future);
+  }
+
+  /** The keys waiting to be loaded together, and the futures for their values. */
+  private final class Batch implements Runnable {
+    final Map<K, SettableFuture<V>> futures = new LinkedHashMap<>();
+
+    /** Stops keys from being added to this batch, if it is still pending. */
+    void close() {
+      synchronized (BatchLoader.this) {
+        if (pendingBatch == this) {
+          pendingBatch = null;
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      close();
+      final ListenableFuture<Map<K, V>> values;
+      try {
+        values =
+            checkNotNull(
+                loadAll(Collections.unmodifiableSet(futures.keySet())),
+                "loadAll() returned null instead of a future");
+      } catch (Throwable t) {
+        fail(t);
+        return;
+      }
+      values.addListener(
+          new Runnable() {
+            @Override
+            public void run() {
+              complete(values);
+            }
+          },
+          directExecutor());
+    }
+
+    void complete(ListenableFuture<Map<K, V>> values) {
+      Map<K, V> loaded;
+      try {
+        loaded = Futures.getDone(values);
+      } catch (ExecutionException e) {
+        fail(e.getCause());
+        return;
+      } catch (CancellationException e) {
+        fail(e);
+        return;
+      }
+      for (Map.Entry<K, SettableFuture<V>> entry : futures.entrySet()) {
+        if (loaded.containsKey(entry.getKey())) {
+          entry.getValue().set(loaded.get(entry.getKey()));
+        } else {
+          entry
+              .getValue()
+              .setException(
+                  new NoSuchElementException(
+                      "loadAll() did not return a value for key: " + entry.getKey()));
+        }
+      }
+    }
+
+    void fail(Throwable t) {
+      for (SettableFuture<V> future : futures.values()) {
+        future.setException(t);
+      }
+    }
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import dagger.internal.Beta;
+import dagger.producers.internal.PrioritizedRunnable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An executor that runs the producer methods of a production component in order of their
+ * scheduling priority rather than in the order they became ready.
+ *
+ * <p>When compiled with {@code -Adagger.producerPriorities=enabled}, Dagger gives each producer a
+ * static priority: the length of the longest chain of bindings between it and an entry point of
+ * the component. Producers at the start of a long chain have the most work waiting on them, so
+ * when the underlying executor is saturated, running them first shortens the latency of the whole
+ * production. Bind the {@code @Production Executor} to an executor created by this class:
+ * <pre><code>
+ *   {@literal @}Provides {@literal @}Production
+ *   static Executor executor(ExecutorService pool) {
+ *     return PriorityExecutor.create(pool);
+ *   }
+ * </code></pre>
+ *
+ * <p>To use it with a {@link ProductionDeadline}, enforce the deadline on this executor, as in
+ * {@code deadline.enforcedOn(PriorityExecutor.create(pool))}.
+ *
+ * <p>Every task is queued here, and the underlying executor is handed one task per call to {@link
+ * #execute} that runs the highest-priority task queued at the time it starts. Tasks with the same
+ * priority, including all tasks from producers compiled without the option, run in the order they
+ * were submitted.
+ */
+@Beta
+public final class PriorityExecutor implements Executor {
+  private final Executor delegate;
+  private final PriorityBlockingQueue<QueuedTask> queue = new PriorityBlockingQueue<>();
+  private final AtomicLong sequence = new AtomicLong();
+  private final Runnable runNext =
+      new Runnable() {
+        @Override
+        public void run() {
+          QueuedTask next = queue.poll();
+          if (next != null) {
+            next.task.run();
+          }
+        }
+      };
+
+  private PriorityExecutor(Executor delegate) {
+    this.delegate = delegate;
+  }
+
+  /** Returns an executor that runs tasks on {@code delegate}, highest priority first. */
+  public static PriorityExecutor create(Executor delegate) {
+    return new PriorityExecutor(checkNotNull(delegate));
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    QueuedTask queued =
+        new QueuedTask(
+            checkNotNull(task), PrioritizedRunnable.priorityOf(task), sequence.getAndIncrement());
+    queue.add(queued);
+    try {
+      delegate.execute(runNext);
+    } catch (RejectedExecutionException e) {
+      queue.remove(queued);
+      throw e;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "PriorityExecutor{" + delegate + "}";
+  }
+
+  private static final class QueuedTask implements Comparable<QueuedTask> {
+    final Runnable task;
+    final int priority;
+    final long sequence;
+
+    QueuedTask(Runnable task, int priority, long sequence) {
+      this.task = task;
+      this.priority = priority;
+      this.sequence = sequence;
+    }
+
+    @Override
+    public int compareTo(QueuedTask other) {
+      // Higher priorities first, then first in, first out.
+      int byPriority = Integer.compare(other.priority, priority);
+      return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+    }
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import dagger.internal.Beta;
+import dagger.producers.internal.Producers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Utility methods for consuming the contributions to a map multibinding as they complete, rather
+ * than once all of them have.
+ *
+ * <p>A {@code Map<K, V>} or {@code Map<K, Produced<V>>} multibinding is produced only when every
+ * contribution is done, so a single slow contribution holds back every producer that depends on
+ * it. A {@link Produces} method that requests the multibinding as a {@code Map<K, Producer<V>>}
+ * can instead pass it to these methods, to handle each contribution as soon as it is done, or to
+ * continue with the contributions that are done by a deadline:
+ *
+ * <pre><code>
+ *   {@literal @}Produces
+ *   static ListenableFuture&lt;Page&gt; page(
+ *       Map&lt;String, Producer&lt;Widget&gt;&gt; widgets, ScheduledExecutorService scheduler) {
+ *     return Futures.transform(
+ *         ProducerMaps.completedWithin(widgets, 200, MILLISECONDS, scheduler),
+ *         Page::fromAvailableWidgets,
+ *         directExecutor());
+ *   }
+ * </code></pre>
+ *
+ * <p>These methods never cancel the contributions; those that are still running keep running,
+ * and their results are available to other producers that request them.
+ */
+@Beta
+public final class ProducerMaps {
+  /**
+   * Returns futures of the entries of {@code producers}, in the order that the contributions
+   * complete. The first future completes with whichever contribution completes first, and so on.
+   * Contributions that fail complete as a failed {@link Produced}.
+   *
+   * <p>Each producer is requested when this method is called.
+   */
+  public static <K, V> ImmutableList<ListenableFuture<Map.Entry<K, Produced<V>>>> inCompletionOrder(
+      Map<K, Producer<V>> producers) {
+    List<ListenableFuture<Map.Entry<K, Produced<V>>>> entries = new ArrayList<>(producers.size());
+    for (Map.Entry<K, Producer<V>> entry : producers.entrySet()) {
+      entries.add(producedEntry(entry.getKey(), entry.getValue()));
+    }
+    return Futures.inCompletionOrder(entries);
+  }
+
+  private static <K, V> ListenableFuture<Map.Entry<K, Produced<V>>> producedEntry(
+      final K key, Producer<V> producer) {
+    return Futures.transform(
+        Producers.createFutureProduced(checkNotNull(producer.get())),
+        new Function<Produced<V>, Map.Entry<K, Produced<V>>>() {
+          @Override
+          public Map.Entry<K, Produced<V>> apply(Produced<V> produced) {
+            return Maps.immutableEntry(key, produced);
+          }
+        },
+        directExecutor());
+  }
+
+  /**
+   * Returns a future of the results of {@code producers} that completes when every contribution
+   * has completed, or when the timeout has elapsed, whichever is first. The returned map has the
+   * same iteration order as {@code producers}. Contributions that had not completed by the timeout
+   * are mapped to a failed {@link Produced} whose cause is a {@link TimeoutException}.
+   *
+   * <p>Each producer is requested when this method is called, and the timeout starts then.
+   */
+  @SuppressWarnings("GoodTime") // should use java.time.Duration
+  public static <K, V> ListenableFuture<Map<K, Produced<V>>> completedWithin(
+      Map<K, Producer<V>> producers,
+      final long timeout,
+      final TimeUnit unit,
+      ScheduledExecutorService scheduler) {
+    checkNotNull(unit);
+    checkNotNull(scheduler);
+    final Map<K, ListenableFuture<Produced<V>>> futures =
+        Maps.newLinkedHashMapWithExpectedSize(producers.size());
+    for (Map.Entry<K, Producer<V>> entry : producers.entrySet()) {
+      futures.put(
+          entry.getKey(), Producers.createFutureProduced(checkNotNull(entry.getValue().get())));
+    }
+
+    final SettableFuture<Map<K, Produced<V>>> result = SettableFuture.create();
+    Runnable complete =
+        new Runnable() {
+          @Override
+          public void run() {
+            if (!result.isDone()) {
+              result.set(resultsSoFar(futures, timeout, unit));
+            }
+          }
+        };
+    Futures.whenAllComplete(futures.values()).run(complete, directExecutor());
+    if (!result.isDone()) {
+      final ScheduledFuture<?> timer = scheduler.schedule(complete, timeout, unit);
+      result.addListener(
+          new Runnable() {
+            @Override
+            public void run() {
+              timer.cancel(false);
+            }
+          },
+          directExecutor());
+    }
+    return result;
+  }
+
+  private static <K, V> Map<K, Produced<V>> resultsSoFar(
+      Map<K, ListenableFuture<Produced<V>>> futures, long timeout, TimeUnit unit) {
+    ImmutableMap.Builder<K, Produced<V>> results = ImmutableMap.builder();
+    for (Map.Entry<K, ListenableFuture<Produced<V>>> entry : futures.entrySet()) {
+      ListenableFuture<Produced<V>> future = entry.getValue();
+      Produced<V> produced;
+      if (future.isDone()) {
+        try {
+          produced = Futures.getDone(future);
+        } catch (ExecutionException e) {
+          produced = Produced.failed(e.getCause());
+        } catch (CancellationException e) {
+          produced = Produced.failed(e);
+        }
+      } else {
+        produced =
+            Produced.failed(
+                new TimeoutException(
+                    "Contribution for "
+                        + entry.getKey()
+                        + " did not complete within "
+                        + timeout
+                        + " "
+                        + unit));
+      }
+      results.put(entry.getKey(), produced);
+    }
+    return results.build();
+  }
+
+  private ProducerMaps() {}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.google.common.base.Ticker;
+import dagger.internal.Beta;
+import dagger.producers.internal.DeadlineExecutor;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A point in time after which a production component should stop starting new work.
+ *
+ * <p>To give a component a deadline, bind its {@code @Production Executor} to an executor returned
+ * by {@link #enforcedOn}. Its subcomponents use the same executor, so they share the deadline. For
+ * example, with a deadline taken from the incoming request: <pre><code>
+ *   {@literal @}Provides {@literal @}Production
+ *   static Executor executor(Request request, ExecutorService pool) {
+ *     return ProductionDeadline.after(request.timeoutMillis(), MILLISECONDS).enforcedOn(pool);
+ *   }
+ * </code></pre>
+ *
+ * <p>Once the deadline has passed:
+ *
+ * <ul>
+ *   <li>producers that are requested fail with a {@link ProductionDeadlineExceededException},
+ *       without requesting their own inputs;
+ *   <li>producers whose inputs become available fail the same way instead of calling their {@link
+ *       Produces} methods, unless they take a {@link Produced} input, or a multibound {@code Set}
+ *       or {@code Map} of them. Those still run, so that a producer can degrade by handling the
+ *       failed {@code Produced} of an optional input that was skipped, rather than failing the
+ *       whole production;
+ *   <li>if the deadline was enforced with a {@link ScheduledExecutorService}, threads running a
+ *       producer method when the deadline passes are interrupted.
+ * </ul>
+ *
+ * <p>Futures that producer methods have already returned are not affected; pass the deadline on to
+ * the RPCs and other asynchronous work that they start.
+ */
+@Beta
+@SuppressWarnings("GoodTime") // should use java.time.Duration
+public final class ProductionDeadline {
+  private final Ticker ticker;
+  private final long deadlineNanos;
+
+  private ProductionDeadline(Ticker ticker, long deadlineNanos) {
+    this.ticker = ticker;
+    this.deadlineNanos = deadlineNanos;
+  }
+
+  /** Returns a deadline that passes after the given timeout from now. */
+  public static ProductionDeadline after(long timeout, TimeUnit unit) {
+    return after(timeout, unit, Ticker.systemTicker());
+  }
+
+  static ProductionDeadline after(long timeout, TimeUnit unit, Ticker ticker) {
+    return new ProductionDeadline(ticker, ticker.read() + unit.toNanos(timeout));
+  }
+
+  /**
+   * Returns the time remaining until the deadline in the given unit, or zero or less if it has
+   * passed.
+   */
+  public long timeRemaining(TimeUnit unit) {
+    return unit.convert(deadlineNanos - ticker.read(), NANOSECONDS);
+  }
+
+  /** Returns true if the deadline has passed. */
+  public boolean isExpired() {
+    return deadlineNanos - ticker.read() <= 0;
+  }
+
+  /**
+   * Returns an executor that runs tasks on {@code executor} and makes the producers of the
+   * component it is bound in, as the {@link Production} executor, honor this deadline.
+   */
+  public Executor enforcedOn(Executor executor) {
+    return new DeadlineExecutor(checkNotNull(executor), this, null);
+  }
+
+  /**
+   * Returns an executor like {@link #enforcedOn(Executor)} that also uses {@code scheduler} to
+   * interrupt the threads still running producer methods when the deadline passes.
+   *
+   * <p>The interrupt is only scheduled while a producer method is running, and is cancelled as soon
+   * as none are. Use a {@link java.util.concurrent.ScheduledThreadPoolExecutor} with {@link
+   * java.util.concurrent.ScheduledThreadPoolExecutor#setRemoveOnCancelPolicy
+   * setRemoveOnCancelPolicy(true)} so that cancelled interrupts are removed from its queue right
+   * away rather than when their deadlines pass.
+   */
+  public Executor enforcedOn(Executor executor, ScheduledExecutorService scheduler) {
+    return new DeadlineExecutor(checkNotNull(executor), this, checkNotNull(scheduler));
+  }
+
+  @Override
+  public String toString() {
+    return "ProductionDeadline{remaining=" + timeRemaining(NANOSECONDS) + "ns}";
+  }
+}
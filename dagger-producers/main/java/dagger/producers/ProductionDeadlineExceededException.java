@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import dagger.internal.Beta;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The exception that a producer fails with when its component's {@link ProductionDeadline} passed
+ * before the producer method started. Producers that depend on it fail with the same exception, and
+ * producers that depend on it as {@link Produced} see it as a failed {@code Produced}.
+ *
+ * @see ProductionDeadline
+ */
+@Beta
+public final class ProductionDeadlineExceededException extends TimeoutException {
+  public ProductionDeadlineExceededException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import dagger.internal.Beta;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+/**
+ * An executor for a production component that runs every task, and so every {@link Produces}
+ * method, on a new virtual thread, and that owns those threads in the manner of a structured task
+ * scope.
+ *
+ * <p>Open a scope for each production and bind it as the component's {@code @Production
+ * Executor}:
+ *
+ * <pre><code>
+ *   try (VirtualThreadProductionScope scope = VirtualThreadProductionScope.open()) {
+ *     Response response =
+ *         DaggerResponseComponent.builder().request(request).executor(scope).build()
+ *             .response()
+ *             .get();
+ *   }
+ * </code></pre>
+ *
+ * <p>Since a virtual thread that blocks doesn't hold on to a platform thread, {@code @Produces}
+ * methods running in a scope may block: they can call blocking APIs directly, or take a {@link
+ * Producer} of an input and wait for it with {@code producer.get().get()}. Stack traces of
+ * producer methods start at the virtual thread rather than at a shared pool's worker loop.
+ *
+ * <p>Producers and their monitors behave exactly as they do with any other executor. {@link
+ * #shutdown} stops the scope from starting new threads, so producers that become ready afterwards
+ * fail with a {@link RejectedExecutionException}, and interrupts the threads still running.
+ * {@link #close} shuts the scope down and waits for its threads to finish.
+ *
+ * <p>Virtual threads require JDK 21 or later.
+ */
+@Beta
+public final class VirtualThreadProductionScope implements Executor, AutoCloseable {
+  @NullableDecl private static final ThreadFactory VIRTUAL_THREAD_FACTORY = virtualThreadFactory();
+
+  private final ThreadFactory threadFactory;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition allThreadsFinished = lock.newCondition();
+
+  // All guarded by lock.
+  private final Set<Thread> threads = new HashSet<>();
+  private boolean shutdown;
+
+  private VirtualThreadProductionScope(ThreadFactory threadFactory) {
+    this.threadFactory = threadFactory;
+  }
+
+  /**
+   * Returns a new scope that runs tasks on virtual threads.
+   *
+   * @throws UnsupportedOperationException if the JDK does not support virtual threads
+   */
+  public static VirtualThreadProductionScope open() {
+    if (VIRTUAL_THREAD_FACTORY == null) {
+      throw new UnsupportedOperationException("Virtual threads require JDK 21 or later");
+    }
+    return new VirtualThreadProductionScope(VIRTUAL_THREAD_FACTORY);
+  }
+
+  /** Returns a new scope that runs tasks on threads created by {@code threadFactory}. */
+  static VirtualThreadProductionScope open(ThreadFactory threadFactory) {
+    return new VirtualThreadProductionScope(checkNotNull(threadFactory));
+  }
+
+  /** Returns true if virtual threads are available, so that {@link #open()} will succeed. */
+  public static boolean isSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  /**
+   * Runs {@code task} on a new thread owned by this scope.
+   *
+   * @throws RejectedExecutionException if this scope has been shut down
+   */
+  @Override
+  public void execute(final Runnable task) {
+    checkNotNull(task);
+    lock.lock();
+    try {
+      if (shutdown) {
+        throw new RejectedExecutionException("Production scope has been shut down: " + this);
+      }
+      Thread thread =
+          threadFactory.newThread(
+              new Runnable() {
+                @Override
+                public void run() {
+                  try {
+                    task.run();
+                  } finally {
+                    threadFinished(Thread.currentThread());
+                  }
+                }
+              });
+      if (thread == null) {
+        throw new RejectedExecutionException("Thread factory rejected " + task);
+      }
+      // Start the thread while holding the lock so that shutdown() can't miss it.
+      threads.add(thread);
+      try {
+        thread.start();
+      } catch (RuntimeException | Error e) {
+        threads.remove(thread);
+        throw e;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void threadFinished(Thread thread) {
+    lock.lock();
+    try {
+      threads.remove(thread);
+      if (threads.isEmpty()) {
+        allThreadsFinished.signalAll();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stops this scope from starting new threads, and interrupts the threads that are still running.
+   * Does nothing if the scope has already been shut down.
+   */
+  public void shutdown() {
+    lock.lock();
+    try {
+      if (shutdown) {
+        return;
+      }
+      shutdown = true;
+      for (Thread thread : threads) {
+        thread.interrupt();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Returns true if this scope has been shut down. */
+  public boolean isShutdown() {
+    lock.lock();
+    try {
+      return shutdown;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Waits until every thread started by this scope has finished, including those started while
+   * waiting.
+   */
+  public void join() throws InterruptedException {
+    lock.lock();
+    try {
+      while (!threads.isEmpty()) {
+        allThreadsFinished.await();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Shuts this scope down and waits for its threads to finish. If the current thread is
+   * interrupted while waiting, it keeps waiting and its interrupt status is restored afterwards.
+   */
+  @Override
+  public void close() {
+    shutdown();
+    boolean interrupted = false;
+    lock.lock();
+    try {
+      while (!threads.isEmpty()) {
+        try {
+          allThreadsFinished.await();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    } finally {
+      lock.unlock();
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    lock.lock();
+    try {
+      return "VirtualThreadProductionScope{threads=" + threads.size() + ", shutdown=" + shutdown
+          + "}";
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns a factory for virtual threads, or {@code null} if the JDK doesn't support them. Looked
+   * up reflectively since this library is compiled for Java 8.
+   */
+  @NullableDecl
+  private static ThreadFactory virtualThreadFactory() {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Method name = builderClass.getMethod("name", String.class, long.class);
+      builder = name.invoke(builder, "dagger-production-", 0L);
+      return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    } catch (NoSuchMethodException
+        | ClassNotFoundException
+        | IllegalAccessException
+        | InvocationTargetException e) {
+      // Before JDK 19 ofVirtual() doesn't exist, and in JDK 19 and 20 it throws unless preview
+      // features are enabled.
+      return null;
+    }
+  }
+}
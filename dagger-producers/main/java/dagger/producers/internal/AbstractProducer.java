@@ -22,6 +22,7 @@ import com.google.common.util.concurrent.AbstractFuture;
 import com.google.common.util.concurrent.ListenableFuture;
 import dagger.producers.Producer;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
 
 /** An abstract {@link Producer} implementation that memoizes the result of its compute method. */
 public abstract class AbstractProducer<T> implements CancellableProducer<T> {
@@ -67,17 +68,29 @@ public abstract class AbstractProducer<T> implements CancellableProducer<T> {
     /**
      * An independently cancellable view of this node. Needs to be cancellable by normal future
      * cancellation so that the view at an entry point can listen for its cancellation.
+     *
+     * <p>Dependency views create this lazily so that, if the producer's future is already done when
+     * the view is first requested, the future is returned directly and no listener is registered.
+     * Racing threads may each create a view future, which is harmless since a dependency view's
+     * future is only ever cancelled by the single dependent that requested it.
      */
-    private final ListenableFuture<T> viewFuture = nonCancellationPropagating(future);
+    @NullableDecl private volatile ListenableFuture<T> viewFuture;
 
     @SuppressWarnings("FutureReturnValueIgnored")
     @Override
     public ListenableFuture<T> get() {
       AbstractProducer.this.get(); // force compute()
-      return viewFuture;
+      ListenableFuture<T> result = viewFuture;
+      if (result == null) {
+        result = nonCancellationPropagating(future);
+        viewFuture = result;
+      }
+      return result;
     }
 
     void addCancellationListener(final CancellationListener cancellationListener) {
+      final ListenableFuture<T> viewFuture = nonCancellationPropagating(future);
+      this.viewFuture = viewFuture;
       viewFuture.addListener(
           new Runnable() {
             @Override
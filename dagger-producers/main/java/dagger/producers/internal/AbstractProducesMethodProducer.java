@@ -16,6 +16,7 @@
 
 package dagger.producers.internal;
 
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static dagger.internal.Preconditions.checkNotNull;
 import static dagger.internal.Providers.asDaggerProvider;
 
@@ -23,9 +24,12 @@ import com.google.common.util.concurrent.AsyncFunction;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import dagger.internal.Provider;
+import dagger.producers.Produced;
 import dagger.producers.monitoring.ProducerMonitor;
 import dagger.producers.monitoring.ProducerToken;
 import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import org.checkerframework.checker.nullness.compatqual.NullableDecl;
 
@@ -41,10 +45,14 @@ import org.checkerframework.checker.nullness.compatqual.NullableDecl;
  */
 public abstract class AbstractProducesMethodProducer<D, T> extends AbstractProducer<T>
     implements AsyncFunction<D, T>, Executor {
+  private static final int NO_PRIORITY = -1;
+
   private final Provider<ProductionComponentMonitor> monitorProvider;
   @NullableDecl private final ProducerToken token;
   private final Provider<Executor> executorProvider;
   private volatile ProducerMonitor monitor = null;
+  @NullableDecl private volatile DeadlineExecutor deadline = null;
+  private int schedulingPriority = NO_PRIORITY;
 
   protected AbstractProducesMethodProducer(
       Provider<ProductionComponentMonitor> monitorProvider,
@@ -71,11 +79,69 @@ public abstract class AbstractProducesMethodProducer<D, T> extends AbstractProdu
   protected final ListenableFuture<T> compute() {
     monitor = monitorProvider.get().producerMonitorFor(token);
     monitor.requested();
-    ListenableFuture<T> result = Futures.transformAsync(collectDependencies(), this, this);
+    Executor executor = executorProvider.get();
+    if (executor instanceof DeadlineExecutor) {
+      DeadlineExecutor deadline = (DeadlineExecutor) executor;
+      this.deadline = deadline;
+      if (deadline.isExpired()) {
+        // Skip this producer without requesting its dependencies.
+        ListenableFuture<T> result = Futures.immediateFailedFuture(deadline.exceeded(token));
+        monitor.addCallbackTo(result);
+        return result;
+      }
+    }
+    ListenableFuture<D> dependencies = collectDependencies();
+    ListenableFuture<T> result =
+        dependencies.isDone() && mayCallProducesMethodInline()
+            ? callProducesMethodInline(dependencies)
+            : Futures.transformAsync(dependencies, this, this);
     monitor.addCallbackTo(result);
     return result;
   }
 
+  /**
+   * Calls the {@code @Produces} method on the current thread with the values of {@code
+   * dependencies}, which must be done, without registering any listeners. The returned future
+   * completes the same way as the one {@link Futures#transformAsync} would have returned.
+   */
+  private ListenableFuture<T> callProducesMethodInline(ListenableFuture<D> dependencies) {
+    D asyncDependencies;
+    try {
+      asyncDependencies = Futures.getDone(dependencies);
+    } catch (ExecutionException | CancellationException e) {
+      // Let transformAsync propagate the failure exactly as it does for a pending dependency.
+      return Futures.transformAsync(dependencies, this, this);
+    }
+    monitor.ready();
+    ListenableFuture<T> result;
+    try {
+      result = apply(asyncDependencies);
+    } catch (Throwable t) {
+      return Futures.immediateFailedFuture(t);
+    }
+    if (result == null) {
+      return Futures.immediateFailedFuture(
+          new NullPointerException(
+              "callProducesMethod returned null instead of a Future. Did you mean to return"
+                  + " immediateFuture(null)? " + this));
+    }
+    return result;
+  }
+
+  /**
+   * Returns true if {@link #callProducesMethod} may be called on the thread that requests this
+   * producer, rather than on the {@link Executor}, when all of its asynchronous dependencies are
+   * already done.
+   *
+   * <p>By default, this is only the case if the executor is {@link
+   * com.google.common.util.concurrent.MoreExecutors#directExecutor()}, since the method would run on
+   * the same thread anyway. Generated factories override this to return {@code true} when compiled
+   * with {@code -Adagger.inlineReadyProducers=enabled}.
+   */
+  protected boolean mayCallProducesMethodInline() {
+    return executorProvider.get() == directExecutor();
+  }
+
   /**
    * Collects the asynchronous dependencies to be passed to {@link
    * Futures#transformAsync(ListenableFuture, AsyncFunction, Executor)}.
@@ -89,6 +155,10 @@ public abstract class AbstractProducesMethodProducer<D, T> extends AbstractProdu
     // NOTE(beder): We don't worry about catching exceptions from the monitor methods themselves
     // because we'll wrap all monitoring in non-throwing monitors before we pass them to the
     // factories.
+    DeadlineExecutor deadline = this.deadline;
+    if (deadline != null && deadline.isExpired() && !handlesFailedInputs()) {
+      throw deadline.exceeded(token);
+    }
     monitor.methodStarting();
     try {
       return callProducesMethod(asyncDependencies);
@@ -98,16 +168,43 @@ public abstract class AbstractProducesMethodProducer<D, T> extends AbstractProdu
   }
 
   /**
-   * Calls the {@link dagger.producers.Produces} method. This will always be called on the {@link
-   * Executor} provided to this producer.
+   * Returns true if the {@code @Produces} method takes a {@link Produced} input, directly or as the
+   * elements of a multibound set or map, and so handles failed inputs itself. Such methods are
+   * still called once a {@link dagger.producers.ProductionDeadline} has passed. Generated factories
+   * override this to return {@code true} for those methods.
+   */
+  protected boolean handlesFailedInputs() {
+    return false;
+  }
+
+  /**
+   * Calls the {@link dagger.producers.Produces} method. This will be called on the {@link Executor}
+   * provided to this producer, unless {@link #mayCallProducesMethodInline()} returns {@code true} and
+   * the asynchronous dependencies were already done when this producer was requested.
    */
   protected abstract ListenableFuture<T> callProducesMethod(D asyncDependencies) throws Exception;
 
+  /**
+   * Sets the priority with which this producer's {@code @Produces} method is submitted to the
+   * executor. Must be called before the producer is first requested.
+   */
+  final void setSchedulingPriority(int priority) {
+    if (priority < 0) {
+      throw new IllegalArgumentException("priority must not be negative: " + priority);
+    }
+    this.schedulingPriority = priority;
+  }
+
   /** @deprecated this may only be called from the internal {@link #compute()} */
   @Deprecated
   @Override
   public final void execute(Runnable runnable) {
     monitor.ready();
-    executorProvider.get().execute(runnable);
+    executorProvider
+        .get()
+        .execute(
+            schedulingPriority == NO_PRIORITY
+                ? runnable
+                : new PrioritizedRunnable(runnable, schedulingPriority));
   }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dagger.producers.ProductionDeadline;
+import dagger.producers.ProductionDeadlineExceededException;
+import dagger.producers.monitoring.ProducerToken;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+/**
+ * The executor returned by {@link ProductionDeadline#enforcedOn}. {@link
+ * AbstractProducesMethodProducer} recognizes it as its component's executor and fails instead of
+ * starting work once the deadline has passed.
+ */
+public final class DeadlineExecutor implements Executor {
+  private final Executor delegate;
+  private final ProductionDeadline deadline;
+  @NullableDecl private final ScheduledExecutorService scheduler;
+
+  // All guarded by this.
+  private final Set<Thread> runningThreads = new HashSet<>();
+  @NullableDecl private ScheduledFuture<?> interrupt;
+  private boolean interrupted;
+
+  public DeadlineExecutor(
+      Executor delegate,
+      ProductionDeadline deadline,
+      @NullableDecl ScheduledExecutorService scheduler) {
+    this.delegate = delegate;
+    this.deadline = deadline;
+    this.scheduler = scheduler;
+  }
+
+  /** Returns true if the deadline has passed. */
+  boolean isExpired() {
+    return deadline.isExpired();
+  }
+
+  /** Returns the exception to fail the given producer with once the deadline has passed. */
+  ProductionDeadlineExceededException exceeded(@NullableDecl ProducerToken token) {
+    return new ProductionDeadlineExceededException(
+        "Deadline exceeded before starting " + (token == null ? "producer" : token));
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    if (scheduler == null || isExpired()) {
+      delegate.execute(task);
+    } else {
+      delegate.execute(PrioritizedRunnable.withSamePriority(task, new InterruptibleTask(task)));
+    }
+  }
+
+  /**
+   * Registers the current thread as running a task, scheduling the interrupt if it is the first.
+   * Returns false if the deadline's interrupt has already fired.
+   */
+  private synchronized boolean taskStarted(Thread thread) {
+    if (interrupted || !runningThreads.add(thread)) {
+      return false;
+    }
+    if (interrupt == null) {
+      interrupt =
+          scheduler.schedule(
+              new Runnable() {
+                @Override
+                public void run() {
+                  interruptRunningThreads();
+                }
+              },
+              deadline.timeRemaining(NANOSECONDS),
+              NANOSECONDS);
+    }
+    return true;
+  }
+
+  /**
+   * Unregisters the current thread. Once no tasks are running, the scheduled interrupt is cancelled
+   * so that it doesn't keep this executor (and the component it belongs to) reachable from the
+   * scheduler's queue until the deadline. It is scheduled again if another task starts.
+   */
+  private synchronized void taskFinished(Thread thread) {
+    runningThreads.remove(thread);
+    if (interrupted) {
+      // Don't leak the interrupt to the next task that runs on this thread.
+      Thread.interrupted();
+    } else if (runningThreads.isEmpty() && interrupt != null) {
+      interrupt.cancel(false);
+      interrupt = null;
+    }
+  }
+
+  private synchronized void interruptRunningThreads() {
+    interrupted = true;
+    interrupt = null;
+    for (Thread thread : runningThreads) {
+      thread.interrupt();
+    }
+  }
+
+  /** A task that may be interrupted when the deadline passes, but only while it is running. */
+  private final class InterruptibleTask implements Runnable {
+    private final Runnable task;
+
+    InterruptibleTask(Runnable task) {
+      this.task = task;
+    }
+
+    @Override
+    public void run() {
+      Thread thread = Thread.currentThread();
+      boolean interruptible = taskStarted(thread);
+      try {
+        task.run();
+      } finally {
+        if (interruptible) {
+          taskFinished(thread);
+        }
+      }
+    }
+  }
+}
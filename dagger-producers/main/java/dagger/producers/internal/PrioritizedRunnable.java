@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+/**
+ * A task submitted to the production executor by a producer that was given a scheduling priority
+ * with {@link Producers#withSchedulingPriority}, as generated components do when compiled with
+ * {@code -Adagger.producerPriorities=enabled}.
+ *
+ * <p>{@link dagger.producers.PriorityExecutor} runs tasks with higher priorities first. Executors
+ * that wrap tasks should use {@link #withSamePriority} to keep the priority of the wrapped task.
+ */
+public final class PrioritizedRunnable implements Runnable {
+  private final Runnable task;
+  private final int priority;
+
+  public PrioritizedRunnable(Runnable task, int priority) {
+    this.task = checkNotNull(task);
+    this.priority = priority;
+  }
+
+  /**
+   * Returns the scheduling priority of {@code task}, or zero if it was not submitted by a producer
+   * with a priority.
+   */
+  public static int priorityOf(Runnable task) {
+    return task instanceof PrioritizedRunnable ? ((PrioritizedRunnable) task).priority : 0;
+  }
+
+  /** Returns {@code wrapper}, which runs {@code task}, with the priority of {@code task}. */
+  static Runnable withSamePriority(Runnable task, Runnable wrapper) {
+    return task instanceof PrioritizedRunnable
+        ? new PrioritizedRunnable(wrapper, ((PrioritizedRunnable) task).priority)
+        : wrapper;
+  }
+
+  @Override
+  public void run() {
+    task.run();
+  }
+
+  @Override
+  public String toString() {
+    return "PrioritizedRunnable{priority=" + priority + ", task=" + task + "}";
+  }
+}
@@ -23,6 +23,7 @@ import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static dagger.internal.Providers.asDaggerProvider;
 
 import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.AsyncFunction;
@@ -31,9 +32,13 @@ import com.google.common.util.concurrent.ListenableFuture;
 import dagger.internal.Provider;
 import dagger.producers.Produced;
 import dagger.producers.Producer;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Utility methods for use in generated producer code.
@@ -121,6 +126,47 @@ public final class Producers {
         directExecutor());
   }
 
+  /**
+   * Returns a future whose value is a list of the values of the input futures, like {@link
+   * Futures#allAsList(ListenableFuture[])}. If every input has already succeeded, the returned
+   * future is already done and no listeners are registered on the inputs.
+   */
+  @SafeVarargs
+  public static <T> ListenableFuture<List<T>> allAsList(ListenableFuture<? extends T>... futures) {
+    Object[] values = new Object[futures.length];
+    int succeeded = 0;
+    for (; succeeded < futures.length && futures[succeeded].isDone(); succeeded++) {
+      try {
+        values[succeeded] = Futures.getDone(futures[succeeded]);
+      } catch (ExecutionException | CancellationException e) {
+        break;
+      }
+    }
+    if (succeeded < futures.length) {
+      // Copy the elements rather than handing the varargs array itself to another method, which
+      // would not be safe for @SafeVarargs.
+      ImmutableList.Builder<ListenableFuture<? extends T>> inputs = ImmutableList.builder();
+      for (ListenableFuture<? extends T> future : futures) {
+        inputs.add(future);
+      }
+      return Futures.allAsList(inputs.build());
+    }
+    @SuppressWarnings("unchecked") // every element came from a ListenableFuture<? extends T>
+    List<T> list = (List<T>) Collections.unmodifiableList(Arrays.asList(values));
+    return Futures.immediateFuture(list);
+  }
+
+  /**
+   * Gives {@code producer} a scheduling priority, which a {@link dagger.producers.PriorityExecutor}
+   * uses to order its tasks, and returns it. Generated components call this when compiled with
+   * {@code -Adagger.producerPriorities=enabled}.
+   */
+  public static <P extends AbstractProducesMethodProducer<?, ?>> P withSchedulingPriority(
+      P producer, int priority) {
+    producer.setSchedulingPriority(priority);
+    return producer;
+  }
+
   /**
    * Returns a producer that immediately executes the binding logic for the given provider every
    * time it is called.
@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableList;
+import dagger.internal.Beta;
+import dagger.producers.monitoring.ProductionTrace.ProducerTrace;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+/**
+ * A monitor that records when each producer in a production component was requested, became ready,
+ * started and finished its method, and completed, and reports a {@link ProductionTrace} with the
+ * critical path through the component to a {@link Listener} once all requested producers have
+ * completed.
+ *
+ * <p>Recording takes a lock on the component's monitor for each event, so this is intended for
+ * sampled or diagnostic use rather than for every production in a latency-sensitive server.
+ */
+@Beta
+public final class CriticalPathProductionComponentMonitor extends ProductionComponentMonitor {
+  private static final Logger logger =
+      Logger.getLogger(CriticalPathProductionComponentMonitor.class.getName());
+
+  private final Object component;
+  private final Listener listener;
+  private final Stopwatch stopwatch;
+  private final List<RecordingProducerMonitor> producers = new ArrayList<>();
+  private int outstandingProducers;
+  private int completedProducers;
+
+  CriticalPathProductionComponentMonitor(Object component, Listener listener, Ticker ticker) {
+    this.component = component;
+    this.listener = listener;
+    this.stopwatch = Stopwatch.createStarted(ticker);
+  }
+
+  @Override
+  public ProducerMonitor producerMonitorFor(ProducerToken token) {
+    return new RecordingProducerMonitor(token);
+  }
+
+  private long now() {
+    return stopwatch.elapsed(TimeUnit.NANOSECONDS);
+  }
+
+  private void finished(RecordingProducerMonitor producer, boolean succeeded) {
+    ProductionTrace trace;
+    synchronized (this) {
+      if (producer.completedNanos >= 0) {
+        return;
+      }
+      producer.completedNanos = now();
+      producer.completedThreadId = Thread.currentThread().getId();
+      producer.completionIndex = completedProducers++;
+      producer.succeeded = succeeded;
+      if (--outstandingProducers > 0) {
+        return;
+      }
+      trace = buildTrace(producer);
+    }
+    try {
+      listener.onProductionFinished(component, trace);
+    } catch (RuntimeException e) {
+      logger.log(Level.SEVERE, "RuntimeException while reporting a production trace", e);
+    }
+  }
+
+  /** Builds the trace once {@code last}, the producer that completed last, has completed. */
+  private ProductionTrace buildTrace(RecordingProducerMonitor last) {
+    ImmutableList.Builder<ProducerTrace> producerTraces = ImmutableList.builder();
+    for (RecordingProducerMonitor producer : producers) {
+      producer.trace = producer.toTrace();
+      producerTraces.add(producer.trace);
+    }
+    List<ProducerTrace> criticalPath = new ArrayList<>();
+    for (RecordingProducerMonitor producer = last;
+        producer != null;
+        producer = criticalInputOf(producer)) {
+      criticalPath.add(0, producer.trace);
+    }
+    return new ProductionTrace(producerTraces.build(), ImmutableList.copyOf(criticalPath));
+  }
+
+  /**
+   * Returns the producer that most recently completed, on the thread that made the given producer
+   * ready, between the given producer being requested and becoming ready. Producers become ready
+   * synchronously when their last input completes, so that is normally the input that held the
+   * given producer up.
+   *
+   * <p>Only producers that completed before the given one are candidates, in the order they
+   * completed rather than by their timestamps, which may tie. So each step of the critical path
+   * goes back to an earlier completion, and the path cannot loop.
+   */
+  @NullableDecl
+  private RecordingProducerMonitor criticalInputOf(RecordingProducerMonitor producer) {
+    if (producer.readyNanos < 0) {
+      return null;
+    }
+    @NullableDecl RecordingProducerMonitor criticalInput = null;
+    for (RecordingProducerMonitor candidate : producers) {
+      if (candidate.completionIndex >= 0
+          && candidate.completionIndex < producer.completionIndex
+          && candidate.completedThreadId == producer.readyThreadId
+          && candidate.completedNanos >= producer.requestedNanos
+          && candidate.completedNanos <= producer.readyNanos
+          && (criticalInput == null || candidate.completionIndex > criticalInput.completionIndex)) {
+        criticalInput = candidate;
+      }
+    }
+    return criticalInput;
+  }
+
+  private final class RecordingProducerMonitor extends ProducerMonitor {
+    private final ProducerToken token;
+    // All guarded by the component monitor.
+    private long requestedNanos = -1;
+    private long readyNanos = -1;
+    private long readyThreadId = -1;
+    private long methodStartingNanos = -1;
+    private long methodFinishedNanos = -1;
+    private long completedNanos = -1;
+    private long completedThreadId = -1;
+    private int completionIndex = -1;
+    private boolean succeeded;
+    @NullableDecl private ProducerTrace trace;
+
+    RecordingProducerMonitor(ProducerToken token) {
+      this.token = token;
+    }
+
+    @Override
+    public void requested() {
+      synchronized (CriticalPathProductionComponentMonitor.this) {
+        requestedNanos = now();
+        producers.add(this);
+        outstandingProducers++;
+      }
+    }
+
+    @Override
+    public void ready() {
+      synchronized (CriticalPathProductionComponentMonitor.this) {
+        readyNanos = now();
+        readyThreadId = Thread.currentThread().getId();
+      }
+    }
+
+    @Override
+    public void methodStarting() {
+      synchronized (CriticalPathProductionComponentMonitor.this) {
+        methodStartingNanos = now();
+      }
+    }
+
+    @Override
+    public void methodFinished() {
+      synchronized (CriticalPathProductionComponentMonitor.this) {
+        methodFinishedNanos = now();
+      }
+    }
+
+    @Override
+    public void succeeded(Object value) {
+      finished(this, true);
+    }
+
+    @Override
+    public void failed(Throwable t) {
+      finished(this, false);
+    }
+
+    ProducerTrace toTrace() {
+      return new ProducerTrace(
+          token,
+          requestedNanos,
+          readyNanos,
+          methodStartingNanos,
+          methodFinishedNanos,
+          completedNanos,
+          succeeded);
+    }
+  }
+
+  /** Receives the trace of a production component once all of its requested producers complete. */
+  public interface Listener {
+    /**
+     * Called with the trace of the given component each time all of the producers requested so far
+     * have completed. This is called on the thread that completed the last producer, and should not
+     * block.
+     */
+    void onProductionFinished(Object component, ProductionTrace trace);
+  }
+
+  /**
+   * Creates a {@link CriticalPathProductionComponentMonitor} for each production component. Bind
+   * it into the set of {@link ProductionComponentMonitor.Factory} to trace a component.
+   */
+  public static final class Factory extends ProductionComponentMonitor.Factory {
+    private final Listener listener;
+    private final Ticker ticker;
+
+    /**
+     * Creates a factory whose monitors measure time with the system ticker and report each trace to
+     * {@code listener}.
+     */
+    public Factory(Listener listener) {
+      this(listener, Ticker.systemTicker());
+    }
+
+    Factory(Listener listener, Ticker ticker) {
+      this.listener = listener;
+      this.ticker = ticker;
+    }
+
+    @Override
+    public ProductionComponentMonitor create(Object component) {
+      return new CriticalPathProductionComponentMonitor(component, listener, ticker);
+    }
+  }
+}
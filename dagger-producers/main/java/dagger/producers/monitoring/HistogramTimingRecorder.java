@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import com.google.common.collect.ImmutableMap;
+import dagger.internal.Beta;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A timing recorder factory that aggregates the latencies of each producer, across every component
+ * it is installed in, into lock-free histograms keyed by {@link ProducerToken}.
+ *
+ * <p>Install it through a {@link TimingProductionComponentMonitor}, and keep a reference to read
+ * the histograms from:
+ *
+ * <pre><code>
+ *   static final HistogramTimingRecorder RECORDER = new HistogramTimingRecorder();
+ *
+ *   {@literal @Provides @IntoSet}
+ *   static ProductionComponentMonitor.Factory timingMonitor() {
+ *     return new TimingProductionComponentMonitor.Factory(RECORDER);
+ *   }
+ * </code></pre>
+ *
+ * <p>Recording doesn't allocate or take locks once a producer's histograms exist. To export
+ * percentiles periodically, call {@link #snapshotAndReset()} from a scheduled task; each recorded
+ * latency appears in exactly one such snapshot. {@link #snapshot()} instead returns everything
+ * recorded since the last reset.
+ */
+@Beta
+public final class HistogramTimingRecorder implements ProductionComponentTimingRecorder.Factory {
+  private final ConcurrentMap<ProducerToken, TokenRecorder> recorders = new ConcurrentHashMap<>();
+
+  private final ProductionComponentTimingRecorder componentRecorder =
+      new ProductionComponentTimingRecorder() {
+        @Override
+        public ProducerTimingRecorder producerTimingRecorderFor(ProducerToken token) {
+          TokenRecorder recorder = recorders.get(token);
+          if (recorder == null) {
+            TokenRecorder newRecorder = new TokenRecorder();
+            recorder = recorders.putIfAbsent(token, newRecorder);
+            if (recorder == null) {
+              recorder = newRecorder;
+            }
+          }
+          return recorder;
+        }
+      };
+
+  public HistogramTimingRecorder() {}
+
+  /** Returns the same recorder for every component. */
+  @Override
+  public ProductionComponentTimingRecorder create(Object component) {
+    return componentRecorder;
+  }
+
+  /** Returns the latencies of each producer recorded since the last reset. */
+  public ImmutableMap<ProducerToken, ProducerLatencies> snapshot() {
+    return snapshot(false);
+  }
+
+  /**
+   * Returns the latencies of each producer recorded since the last reset, and resets them. Each
+   * latency is returned by exactly one call, even while other threads are recording.
+   */
+  public ImmutableMap<ProducerToken, ProducerLatencies> snapshotAndReset() {
+    return snapshot(true);
+  }
+
+  private ImmutableMap<ProducerToken, ProducerLatencies> snapshot(boolean reset) {
+    ImmutableMap.Builder<ProducerToken, ProducerLatencies> snapshot = ImmutableMap.builder();
+    for (Map.Entry<ProducerToken, TokenRecorder> entry : recorders.entrySet()) {
+      snapshot.put(entry.getKey(), entry.getValue().snapshot(reset));
+    }
+    return snapshot.build();
+  }
+
+  @SuppressWarnings("GoodTime") // should accept a java.time.Duration
+  private static final class TokenRecorder extends ProducerTimingRecorder {
+    private final LatencyHistogram method = new LatencyHistogram();
+    private final LatencyHistogram success = new LatencyHistogram();
+    private final LatencyHistogram failure = new LatencyHistogram();
+    private final LongAdder skips = new LongAdder();
+
+    @Override
+    public void recordMethod(long startedNanos, long durationNanos) {
+      method.record(durationNanos);
+    }
+
+    @Override
+    public void recordSuccess(long latencyNanos) {
+      success.record(latencyNanos);
+    }
+
+    @Override
+    public void recordFailure(Throwable exception, long latencyNanos) {
+      failure.record(latencyNanos);
+    }
+
+    @Override
+    public void recordSkip(Throwable exception) {
+      skips.increment();
+    }
+
+    ProducerLatencies snapshot(boolean reset) {
+      return new ProducerLatencies(
+          method.snapshot(reset),
+          success.snapshot(reset),
+          failure.snapshot(reset),
+          reset ? skips.sumThenReset() : skips.sum());
+    }
+  }
+
+  /** A snapshot of the latencies recorded for one producer. */
+  @Beta
+  public static final class ProducerLatencies {
+    private final LatencyDistribution method;
+    private final LatencyDistribution success;
+    private final LatencyDistribution failure;
+    private final long skips;
+
+    ProducerLatencies(
+        LatencyDistribution method,
+        LatencyDistribution success,
+        LatencyDistribution failure,
+        long skips) {
+      this.method = method;
+      this.success = success;
+      this.failure = failure;
+      this.skips = skips;
+    }
+
+    /**
+     * Returns the time the producer method took to execute. See {@link
+     * ProducerTimingRecorder#recordMethod}.
+     */
+    public LatencyDistribution method() {
+      return method;
+    }
+
+    /**
+     * Returns the latency of producers whose futures succeeded. See {@link
+     * ProducerTimingRecorder#recordSuccess}.
+     */
+    public LatencyDistribution success() {
+      return success;
+    }
+
+    /**
+     * Returns the latency of producers whose futures failed. See {@link
+     * ProducerTimingRecorder#recordFailure}.
+     */
+    public LatencyDistribution failure() {
+      return failure;
+    }
+
+    /** Returns the number of times the producer was skipped because an input failed. */
+    public long skips() {
+      return skips;
+    }
+
+    @Override
+    public String toString() {
+      return "ProducerLatencies{method="
+          + method
+          + ", success="
+          + success
+          + ", failure="
+          + failure
+          + ", skips="
+          + skips
+          + "}";
+    }
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import dagger.internal.Beta;
+
+/**
+ * An immutable snapshot of the latencies recorded by a {@link HistogramTimingRecorder} for one kind
+ * of event of one producer.
+ *
+ * <p>Latencies are bucketed with a relative error of at most 1/32 (about 3%), up to {@link
+ * #MAX_TRACKABLE_NANOS}; longer latencies are counted as that value. Percentiles report the
+ * highest latency that falls in the same bucket as the requested rank, so they never understate a
+ * latency.
+ */
+@Beta
+@SuppressWarnings("GoodTime") // should use java.time.Duration
+public final class LatencyDistribution {
+  /** The number of buckets per power of two, as a power of two. */
+  static final int SUB_BUCKET_BITS = 5;
+
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+  /** The highest power of two with its own buckets. */
+  private static final int MAX_EXPONENT = 40;
+
+  static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (MAX_EXPONENT - SUB_BUCKET_BITS + 2);
+
+  /** The highest latency that is recorded precisely, about 36 minutes. */
+  public static final long MAX_TRACKABLE_NANOS = (1L << (MAX_EXPONENT + 1)) - 1;
+
+  static final LatencyDistribution EMPTY = new LatencyDistribution(new long[BUCKET_COUNT], 0);
+
+  private final long[] counts;
+  private final long totalCount;
+  private final long sumNanos;
+
+  LatencyDistribution(long[] counts, long sumNanos) {
+    this.counts = counts;
+    long totalCount = 0;
+    for (long count : counts) {
+      totalCount += count;
+    }
+    this.totalCount = totalCount;
+    this.sumNanos = sumNanos;
+  }
+
+  /** Returns the index of the bucket that the given latency is counted in. */
+  static int bucketIndex(long nanos) {
+    if (nanos < SUB_BUCKET_COUNT) {
+      return nanos < 0 ? 0 : (int) nanos;
+    }
+    if (nanos > MAX_TRACKABLE_NANOS) {
+      return BUCKET_COUNT - 1;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+    int shift = exponent - SUB_BUCKET_BITS;
+    return SUB_BUCKET_COUNT * (shift + 1) + (int) (nanos >>> shift) - SUB_BUCKET_COUNT;
+  }
+
+  /** Returns the highest latency that is counted in the given bucket. */
+  static long highestEquivalentNanos(int bucketIndex) {
+    if (bucketIndex < SUB_BUCKET_COUNT) {
+      return bucketIndex;
+    }
+    int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+    long subBucket = bucketIndex % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+  /** Returns the number of latencies recorded. */
+  public long count() {
+    return totalCount;
+  }
+
+  /** Returns the mean of the recorded latencies, or {@code 0} if none were recorded. */
+  public double meanNanos() {
+    return totalCount == 0 ? 0 : (double) sumNanos / totalCount;
+  }
+
+  /** Returns the highest recorded latency, or {@code 0} if none were recorded. */
+  public long maxNanos() {
+    for (int i = counts.length - 1; i >= 0; i--) {
+      if (counts[i] != 0) {
+        return highestEquivalentNanos(i);
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Returns the latency at the given percentile, such as {@code 99.9}, or {@code 0} if no latencies
+   * were recorded.
+   */
+  public long percentileNanos(double percentile) {
+    checkArgument(
+        percentile >= 0 && percentile <= 100, "percentile must be in [0, 100]: %s", percentile);
+    if (totalCount == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return highestEquivalentNanos(i);
+      }
+    }
+    return maxNanos();
+  }
+
+  @Override
+  public String toString() {
+    return "LatencyDistribution{count="
+        + totalCount
+        + ", p50="
+        + percentileNanos(50)
+        + "ns, p99="
+        + percentileNanos(99)
+        + "ns, p999="
+        + percentileNanos(99.9)
+        + "ns, max="
+        + maxNanos()
+        + "ns}";
+  }
+}
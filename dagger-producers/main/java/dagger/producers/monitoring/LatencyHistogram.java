@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import com.google.common.math.IntMath;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+/**
+ * A lock-free histogram of latencies, bucketed as described by {@link LatencyDistribution}.
+ *
+ * <p>Like {@link LongAdder}, the histogram starts with a single stripe of buckets and adds stripes
+ * when threads keep contending on a bucket; each thread then records into the stripe picked by its
+ * id. A stripe is about 9.5 KB, so the number of stripes is capped at {@link #MAX_STRIPES}, and
+ * stripes are only added after {@link #CONTENTION_THRESHOLD} contended updates rather than on the
+ * first one. Recording never blocks, and a histogram that is never contended only pays for one
+ * stripe. Stripes are only allocated once the first latency is recorded.
+ */
+@SuppressWarnings("GoodTime") // should use java.time.Duration
+final class LatencyHistogram {
+  /** The most stripes a histogram will use. */
+  static final int MAX_STRIPES =
+      Math.min(4, IntMath.ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors()));
+
+  /** The number of contended updates after which the number of stripes is doubled. */
+  static final int CONTENTION_THRESHOLD = 64;
+
+  private static final AtomicReferenceFieldUpdater<LatencyHistogram, AtomicLongArray[]> STRIPES =
+      AtomicReferenceFieldUpdater.newUpdater(
+          LatencyHistogram.class, AtomicLongArray[].class, "stripes");
+
+  private static final AtomicIntegerFieldUpdater<LatencyHistogram> CONTENDED_UPDATES =
+      AtomicIntegerFieldUpdater.newUpdater(LatencyHistogram.class, "contendedUpdates");
+
+  @NullableDecl private volatile AtomicLongArray[] stripes;
+  private volatile int contendedUpdates;
+  private final LongAdder sumNanos = new LongAdder();
+
+  void record(long nanos) {
+    AtomicLongArray[] stripes = this.stripes;
+    if (stripes == null) {
+      STRIPES.compareAndSet(this, null, new AtomicLongArray[] {newStripe()});
+      stripes = this.stripes;
+    }
+    int bucket = LatencyDistribution.bucketIndex(nanos);
+    AtomicLongArray stripe = stripes[stripeIndex(stripes.length)];
+    long count = stripe.get(bucket);
+    if (!stripe.compareAndSet(bucket, count, count + 1)) {
+      stripe.getAndIncrement(bucket);
+      if (stripes.length < MAX_STRIPES
+          && CONTENDED_UPDATES.incrementAndGet(this) >= CONTENTION_THRESHOLD) {
+        contendedUpdates = 0;
+        AtomicLongArray[] grown = Arrays.copyOf(stripes, stripes.length * 2);
+        for (int i = stripes.length; i < grown.length; i++) {
+          grown[i] = newStripe();
+        }
+        STRIPES.compareAndSet(this, stripes, grown);
+      }
+    }
+    sumNanos.add(Math.max(0, Math.min(nanos, LatencyDistribution.MAX_TRACKABLE_NANOS)));
+  }
+
+  /** Returns the number of stripes that this histogram is using. */
+  int stripeCount() {
+    AtomicLongArray[] stripes = this.stripes;
+    return stripes == null ? 0 : stripes.length;
+  }
+
+  private static AtomicLongArray newStripe() {
+    return new AtomicLongArray(LatencyDistribution.BUCKET_COUNT);
+  }
+
+  private static int stripeIndex(int stripeCount) {
+    if (stripeCount == 1) {
+      return 0;
+    }
+    long id = Thread.currentThread().getId();
+    return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & (stripeCount - 1);
+  }
+
+  /**
+   * Returns the latencies recorded so far. If {@code reset} is true, those latencies are removed
+   * from this histogram, so that each latency is returned by exactly one resetting snapshot even
+   * when other threads are recording concurrently.
+   */
+  LatencyDistribution snapshot(boolean reset) {
+    AtomicLongArray[] stripes = this.stripes;
+    if (stripes == null) {
+      return LatencyDistribution.EMPTY;
+    }
+    long[] counts = new long[LatencyDistribution.BUCKET_COUNT];
+    for (AtomicLongArray stripe : stripes) {
+      for (int i = 0; i < counts.length; i++) {
+        long count = stripe.get(i);
+        counts[i] += count != 0 && reset ? stripe.getAndSet(i, 0) : count;
+      }
+    }
+    return new LatencyDistribution(counts, reset ? sumNanos.sumThenReset() : sumNanos.sum());
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static com.google.common.util.concurrent.Futures.addCallback;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.internal.Beta;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link ProductionComponentMonitor.Factory} that receives the events of every producer, in every
+ * component it is installed in, together with the producer's {@link ProducerToken}.
+ *
+ * <p>Unlike a general {@link ProductionComponentMonitor}, a sink doesn't create any objects per
+ * component or per producer: it uses one {@link ProducerMonitor} for each token for its whole
+ * lifetime, and the framework calls those monitors without wrapping them. This makes sinks suitable
+ * for counters and histograms in components with many producers that are created at a high rate.
+ * The trade-off is that a sink can't tell which component instance an event came from.
+ *
+ * <p>Install a sink like any other monitor factory, by contributing it to the set of {@code
+ * ProductionComponentMonitor.Factory}. The event methods may be called concurrently from many
+ * threads, and exceptions thrown from them are logged and otherwise ignored.
+ */
+@Beta
+public abstract class ProducerEventSink extends ProductionComponentMonitor.Factory {
+  private static final Logger logger = Logger.getLogger(ProducerEventSink.class.getName());
+
+  private final ConcurrentMap<ProducerToken, TokenMonitor> monitors = new ConcurrentHashMap<>();
+
+  private final ProductionComponentMonitor componentMonitor =
+      new ProductionComponentMonitor() {
+        @Override
+        public ProducerMonitor producerMonitorFor(ProducerToken token) {
+          TokenMonitor monitor = monitors.get(token);
+          if (monitor == null) {
+            TokenMonitor newMonitor = new TokenMonitor(token);
+            monitor = monitors.putIfAbsent(token, newMonitor);
+            if (monitor == null) {
+              monitor = newMonitor;
+            }
+          }
+          return monitor;
+        }
+      };
+
+  protected ProducerEventSink() {}
+
+  /** Called when the given producer is requested. See {@link ProducerMonitor#requested()}. */
+  public void requested(ProducerToken token) {}
+
+  /** Called when the given producer's inputs are available. See {@link ProducerMonitor#ready()}. */
+  public void ready(ProducerToken token) {}
+
+  /**
+   * Called when the given producer's method is about to start executing. See {@link
+   * ProducerMonitor#methodStarting()}.
+   */
+  public void methodStarting(ProducerToken token) {}
+
+  /**
+   * Called when the given producer's method has finished executing. See {@link
+   * ProducerMonitor#methodFinished()}.
+   */
+  public void methodFinished(ProducerToken token) {}
+
+  /**
+   * Called when the given producer's future has succeeded. See {@link
+   * ProducerMonitor#succeeded(Object)}.
+   */
+  public void succeeded(ProducerToken token, Object value) {}
+
+  /**
+   * Called when the given producer's future has failed. See {@link
+   * ProducerMonitor#failed(Throwable)}.
+   */
+  public void failed(ProducerToken token, Throwable t) {}
+
+  /** Returns the same monitor for every component. */
+  @Override
+  public final ProductionComponentMonitor create(Object component) {
+    return componentMonitor;
+  }
+
+  /** Forwards the events of one producer to the sink, logging any exceptions that it throws. */
+  private final class TokenMonitor extends ProducerMonitor implements FutureCallback<Object> {
+    private final ProducerToken token;
+
+    TokenMonitor(ProducerToken token) {
+      this.token = token;
+    }
+
+    @Override
+    public void requested() {
+      try {
+        ProducerEventSink.this.requested(token);
+      } catch (RuntimeException e) {
+        logException(e, "requested");
+      }
+    }
+
+    @Override
+    public void ready() {
+      try {
+        ProducerEventSink.this.ready(token);
+      } catch (RuntimeException e) {
+        logException(e, "ready");
+      }
+    }
+
+    @Override
+    public void methodStarting() {
+      try {
+        ProducerEventSink.this.methodStarting(token);
+      } catch (RuntimeException e) {
+        logException(e, "methodStarting");
+      }
+    }
+
+    @Override
+    public void methodFinished() {
+      try {
+        ProducerEventSink.this.methodFinished(token);
+      } catch (RuntimeException e) {
+        logException(e, "methodFinished");
+      }
+    }
+
+    @Override
+    public void succeeded(Object value) {
+      try {
+        ProducerEventSink.this.succeeded(token, value);
+      } catch (RuntimeException e) {
+        logException(e, "succeeded");
+      }
+    }
+
+    @Override
+    public void failed(Throwable t) {
+      try {
+        ProducerEventSink.this.failed(token, t);
+      } catch (RuntimeException e) {
+        logException(e, "failed");
+      }
+    }
+
+    @Override
+    public <T> void addCallbackTo(ListenableFuture<T> future) {
+      // Overridden to reuse this monitor as the callback.
+      addCallback(future, this, directExecutor());
+    }
+
+    @Override
+    public void onSuccess(Object value) {
+      succeeded(value);
+    }
+
+    @Override
+    public void onFailure(Throwable t) {
+      failed(t);
+    }
+
+    private void logException(RuntimeException e, String method) {
+      logger.log(
+          Level.SEVERE,
+          "RuntimeException while calling ProducerEventSink."
+              + method
+              + " on sink "
+              + ProducerEventSink.this
+              + " with token "
+              + token,
+          e);
+    }
+  }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.google.common.collect.ImmutableList;
+import dagger.internal.Beta;
+import java.util.Locale;
+
+/**
+ * The timings of every producer that ran in a production component, with the critical path
+ * through them, as recorded by {@link CriticalPathProductionComponentMonitor}.
+ *
+ * <p>All timestamps are in nanoseconds since the component's monitor was created, and are {@code
+ * -1} for events that didn't happen; for example, a producer that was skipped because one of its
+ * inputs failed never starts its method.
+ */
+@Beta
+@SuppressWarnings("GoodTime") // should use java.time.Duration
+public final class ProductionTrace {
+  private final ImmutableList<ProducerTrace> producers;
+  private final ImmutableList<ProducerTrace> criticalPath;
+
+  ProductionTrace(
+      ImmutableList<ProducerTrace> producers, ImmutableList<ProducerTrace> criticalPath) {
+    this.producers = producers;
+    this.criticalPath = criticalPath;
+  }
+
+  /** Returns the traces of every producer that was requested, in the order they were requested. */
+  public ImmutableList<ProducerTrace> producers() {
+    return producers;
+  }
+
+  /**
+   * Returns the producers on the critical path, from the first producer on the path to the producer
+   * that completed last.
+   *
+   * <p>The path is inferred from the timings: a producer's critical input is taken to be the
+   * monitored producer that most recently completed, on the thread that made the producer ready,
+   * before it became ready. Inputs that aren't monitored producers, such as component dependencies,
+   * end the path.
+   */
+  public ImmutableList<ProducerTrace> criticalPath() {
+    return criticalPath;
+  }
+
+  /**
+   * Returns the time from the creation of the component's monitor until the last producer
+   * completed.
+   */
+  public long latencyNanos() {
+    long latency = 0;
+    for (ProducerTrace producer : producers) {
+      latency = Math.max(latency, producer.completedNanos());
+    }
+    return latency;
+  }
+
+  /**
+   * Returns the trace in the Chrome trace-event JSON format, which can be loaded by {@code
+   * chrome://tracing} or Perfetto. Each producer is shown on its own row, with a slice for the time
+   * it spent waiting for its inputs, queued on the executor, running its method, and waiting for
+   * the future its method returned.
+   */
+  public String toChromeTraceJson() {
+    StringBuilder json = new StringBuilder("{\"traceEvents\":[");
+    boolean first = true;
+    for (int i = 0; i < producers.size(); i++) {
+      ProducerTrace producer = producers.get(i);
+      boolean critical = criticalPath.contains(producer);
+      json.append(first ? "" : ",")
+          .append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":")
+          .append(i)
+          .append(",\"args\":{\"name\":");
+      appendJsonString(json, producer.token().toString());
+      json.append("}}");
+      first = false;
+      appendSlice(json, i, "inputs", producer.requestedNanos(), producer.readyNanos(), critical);
+      appendSlice(
+          json, i, "queued", producer.readyNanos(), producer.methodStartingNanos(), critical);
+      appendSlice(
+          json,
+          i,
+          "method",
+          producer.methodStartingNanos(),
+          producer.methodFinishedNanos(),
+          critical);
+      appendSlice(
+          json,
+          i,
+          producer.methodFinishedNanos() >= 0 ? "future" : "skipped",
+          producer.methodFinishedNanos() >= 0
+              ? producer.methodFinishedNanos()
+              : producer.readyNanos(),
+          producer.completedNanos(),
+          critical);
+    }
+    return json.append("],\"displayTimeUnit\":\"ns\"}").toString();
+  }
+
+  private static void appendSlice(
+      StringBuilder json, int tid, String name, long startNanos, long endNanos, boolean critical) {
+    if (startNanos < 0 || endNanos < startNanos) {
+      return;
+    }
+    json.append(",{\"name\":\"")
+        .append(name)
+        .append("\",\"ph\":\"X\",\"pid\":1,\"tid\":")
+        .append(tid)
+        .append(",\"ts\":")
+        .append(toMicros(startNanos))
+        .append(",\"dur\":")
+        .append(toMicros(endNanos - startNanos))
+        .append(",\"args\":{\"critical\":")
+        .append(critical)
+        .append("}}");
+  }
+
+  private static String toMicros(long nanos) {
+    return nanos / 1000 + "." + String.format(Locale.ROOT, "%03d", nanos % 1000);
+  }
+
+  private static void appendJsonString(StringBuilder json, String value) {
+    json.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        json.append('\\').append(c);
+      } else if (c < 0x20) {
+        json.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+      } else {
+        json.append(c);
+      }
+    }
+    json.append('"');
+  }
+
+  /** Returns a compact summary of the critical path, with each producer's latency breakdown. */
+  @Override
+  public String toString() {
+    StringBuilder builder =
+        new StringBuilder("ProductionTrace{latency=")
+            .append(NANOSECONDS.toMicros(latencyNanos()))
+            .append("us, producers=")
+            .append(producers.size())
+            .append(", criticalPath=[");
+    for (int i = 0; i < criticalPath.size(); i++) {
+      builder.append(i == 0 ? "" : " -> ").append(criticalPath.get(i));
+    }
+    return builder.append("]}").toString();
+  }
+
+  /** The timings of one producer in a {@link ProductionTrace}. */
+  @Beta
+  public static final class ProducerTrace {
+    private final ProducerToken token;
+    private final long requestedNanos;
+    private final long readyNanos;
+    private final long methodStartingNanos;
+    private final long methodFinishedNanos;
+    private final long completedNanos;
+    private final boolean succeeded;
+
+    ProducerTrace(
+        ProducerToken token,
+        long requestedNanos,
+        long readyNanos,
+        long methodStartingNanos,
+        long methodFinishedNanos,
+        long completedNanos,
+        boolean succeeded) {
+      this.token = token;
+      this.requestedNanos = requestedNanos;
+      this.readyNanos = readyNanos;
+      this.methodStartingNanos = methodStartingNanos;
+      this.methodFinishedNanos = methodFinishedNanos;
+      this.completedNanos = completedNanos;
+      this.succeeded = succeeded;
+    }
+
+    /** Returns the token of the producer method. */
+    public ProducerToken token() {
+      return token;
+    }
+
+    /** Returns when the producer was requested. */
+    public long requestedNanos() {
+      return requestedNanos;
+    }
+
+    /** Returns when all of the producer's inputs were available. */
+    public long readyNanos() {
+      return readyNanos;
+    }
+
+    /** Returns when the producer's method started running. */
+    public long methodStartingNanos() {
+      return methodStartingNanos;
+    }
+
+    /** Returns when the producer's method returned. */
+    public long methodFinishedNanos() {
+      return methodFinishedNanos;
+    }
+
+    /** Returns when the producer's future completed. */
+    public long completedNanos() {
+      return completedNanos;
+    }
+
+    /** Returns true if the producer's future succeeded. */
+    public boolean succeeded() {
+      return succeeded;
+    }
+
+    /** Returns the time spent waiting for the producer's inputs, or {@code -1} if unknown. */
+    public long inputWaitNanos() {
+      return difference(requestedNanos, readyNanos);
+    }
+
+    /**
+     * Returns the time between the producer's inputs being available and its method starting,
+     * which is mostly time spent queued on the executor, or {@code -1} if unknown.
+     */
+    public long queueingNanos() {
+      return difference(readyNanos, methodStartingNanos);
+    }
+
+    /** Returns the time spent running the producer's method, or {@code -1} if unknown. */
+    public long methodNanos() {
+      return difference(methodStartingNanos, methodFinishedNanos);
+    }
+
+    /**
+     * Returns the time between the producer's method returning and its future completing, which is
+     * the time spent waiting for the asynchronous work it started, or {@code -1} if unknown.
+     */
+    public long futureNanos() {
+      return difference(methodFinishedNanos, completedNanos);
+    }
+
+    private static long difference(long startNanos, long endNanos) {
+      return startNanos < 0 || endNanos < startNanos ? -1 : endNanos - startNanos;
+    }
+
+    @Override
+    public String toString() {
+      return token
+          + "(inputs="
+          + NANOSECONDS.toMicros(inputWaitNanos())
+          + "us, queued="
+          + NANOSECONDS.toMicros(queueingNanos())
+          + "us, method="
+          + NANOSECONDS.toMicros(methodNanos())
+          + "us, future="
+          + NANOSECONDS.toMicros(futureNanos())
+          + "us"
+          + (succeeded ? "" : ", failed")
+          + ")";
+    }
+  }
+}
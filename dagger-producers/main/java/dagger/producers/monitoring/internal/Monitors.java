@@ -17,10 +17,11 @@
 package dagger.producers.monitoring.internal;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
+import dagger.producers.monitoring.ProducerEventSink;
 import dagger.producers.monitoring.ProducerMonitor;
 import dagger.producers.monitoring.ProducerToken;
 import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Set;
 import java.util.logging.Level;
@@ -38,6 +39,9 @@ public final class Monitors {
    * called on this object, even transitively, does not throw a {@link RuntimeException} or return
    * null.
    *
+   * <p>No-op factories and monitors are dropped rather than delegated to, and {@link
+   * ProducerEventSink}s, which already catch their own exceptions, are not wrapped.
+   *
    * <p>If the delegate monitors throw an {@link Error}, then that will escape this monitor
    * implementation. Errors are treated as unrecoverable conditions, and may cause the entire
    * component's execution to fail.
@@ -46,10 +50,24 @@ public final class Monitors {
       Collection<? extends ProductionComponentMonitor.Factory> factories) {
     if (factories.isEmpty()) {
       return ProductionComponentMonitor.Factory.noOp();
-    } else if (factories.size() == 1) {
-      return new NonThrowingProductionComponentMonitor.Factory(Iterables.getOnlyElement(factories));
+    }
+    ImmutableList.Builder<ProductionComponentMonitor.Factory> delegatesBuilder =
+        ImmutableList.builderWithExpectedSize(factories.size());
+    for (ProductionComponentMonitor.Factory factory : factories) {
+      if (factory != ProductionComponentMonitor.Factory.noOp()) {
+        delegatesBuilder.add(factory);
+      }
+    }
+    ImmutableList<ProductionComponentMonitor.Factory> delegates = delegatesBuilder.build();
+    if (delegates.isEmpty()) {
+      return ProductionComponentMonitor.Factory.noOp();
+    } else if (delegates.size() == 1) {
+      ProductionComponentMonitor.Factory delegate = delegates.get(0);
+      return delegate instanceof ProducerEventSink
+          ? delegate
+          : new NonThrowingProductionComponentMonitor.Factory(delegate);
     } else {
-      return new DelegatingProductionComponentMonitor.Factory(factories);
+      return new DelegatingProductionComponentMonitor.Factory(delegates);
     }
   }
 
@@ -86,7 +104,7 @@ public final class Monitors {
     public ProducerMonitor producerMonitorFor(ProducerToken token) {
       try {
         ProducerMonitor monitor = delegate.producerMonitorFor(token);
-        return monitor == null ? ProducerMonitor.noOp() : new NonThrowingProducerMonitor(monitor);
+        return isNoOp(monitor) ? ProducerMonitor.noOp() : new NonThrowingProducerMonitor(monitor);
       } catch (RuntimeException e) {
         logProducerMonitorForException(e, delegate, token);
         return ProducerMonitor.noOp();
@@ -104,7 +122,7 @@ public final class Monitors {
       public ProductionComponentMonitor create(Object component) {
         try {
           ProductionComponentMonitor monitor = delegate.create(component);
-          return monitor == null
+          return isNoOp(monitor)
               ? ProductionComponentMonitor.noOp()
               : new NonThrowingProductionComponentMonitor(monitor);
         } catch (RuntimeException e) {
@@ -187,32 +205,39 @@ public final class Monitors {
    */
   private static final class DelegatingProductionComponentMonitor
       extends ProductionComponentMonitor {
-    private final ImmutableList<ProductionComponentMonitor> delegates;
+    private final ProductionComponentMonitor[] delegates;
+    /** Whether each delegate is a {@link ProducerEventSink} monitor, which never throws. */
+    private final boolean[] fromSinks;
 
-    DelegatingProductionComponentMonitor(ImmutableList<ProductionComponentMonitor> delegates) {
+    DelegatingProductionComponentMonitor(
+        ProductionComponentMonitor[] delegates, boolean[] fromSinks) {
       this.delegates = delegates;
+      this.fromSinks = fromSinks;
     }
 
     @Override
     public ProducerMonitor producerMonitorFor(ProducerToken token) {
-      ImmutableList.Builder<ProducerMonitor> monitorsBuilder = ImmutableList.builder();
-      for (ProductionComponentMonitor delegate : delegates) {
+      ProducerMonitor[] monitors = new ProducerMonitor[delegates.length];
+      int size = 0;
+      boolean fromSink = false;
+      for (int i = 0; i < delegates.length; i++) {
         try {
-          ProducerMonitor monitor = delegate.producerMonitorFor(token);
-          if (monitor != null) {
-            monitorsBuilder.add(monitor);
+          ProducerMonitor monitor = delegates[i].producerMonitorFor(token);
+          if (!isNoOp(monitor)) {
+            monitors[size++] = monitor;
+            fromSink = fromSinks[i];
           }
         } catch (RuntimeException e) {
-          logProducerMonitorForException(e, delegate, token);
+          logProducerMonitorForException(e, delegates[i], token);
         }
       }
-      ImmutableList<ProducerMonitor> monitors = monitorsBuilder.build();
-      if (monitors.isEmpty()) {
+      if (size == 0) {
         return ProducerMonitor.noOp();
-      } else if (monitors.size() == 1) {
-        return new NonThrowingProducerMonitor(Iterables.getOnlyElement(monitors));
+      } else if (size == 1) {
+        return fromSink ? monitors[0] : new NonThrowingProducerMonitor(monitors[0]);
       } else {
-        return new DelegatingProducerMonitor(monitors);
+        return new DelegatingProducerMonitor(
+            size == monitors.length ? monitors : Arrays.copyOf(monitors, size));
       }
     }
 
@@ -225,24 +250,30 @@ public final class Monitors {
 
       @Override
       public ProductionComponentMonitor create(Object component) {
-        ImmutableList.Builder<ProductionComponentMonitor> monitorsBuilder = ImmutableList.builder();
-        for (ProductionComponentMonitor.Factory delegate : delegates) {
+        ProductionComponentMonitor[] monitors = new ProductionComponentMonitor[delegates.size()];
+        boolean[] fromSinks = new boolean[delegates.size()];
+        int size = 0;
+        for (int i = 0; i < delegates.size(); i++) {
+          ProductionComponentMonitor.Factory delegate = delegates.get(i);
           try {
             ProductionComponentMonitor monitor = delegate.create(component);
-            if (monitor != null) {
-              monitorsBuilder.add(monitor);
+            if (!isNoOp(monitor)) {
+              fromSinks[size] = delegate instanceof ProducerEventSink;
+              monitors[size++] = monitor;
             }
           } catch (RuntimeException e) {
             logCreateException(e, delegate, component);
           }
         }
-        ImmutableList<ProductionComponentMonitor> monitors = monitorsBuilder.build();
-        if (monitors.isEmpty()) {
+        if (size == 0) {
           return ProductionComponentMonitor.noOp();
-        } else if (monitors.size() == 1) {
-          return new NonThrowingProductionComponentMonitor(Iterables.getOnlyElement(monitors));
+        } else if (size == 1) {
+          return fromSinks[0]
+              ? monitors[0]
+              : new NonThrowingProductionComponentMonitor(monitors[0]);
         } else {
-          return new DelegatingProductionComponentMonitor(monitors);
+          return new DelegatingProductionComponentMonitor(
+              Arrays.copyOf(monitors, size), Arrays.copyOf(fromSinks, size));
         }
       }
     }
@@ -253,9 +284,9 @@ public final class Monitors {
    * that the delegates throw.
    */
   private static final class DelegatingProducerMonitor extends ProducerMonitor {
-    private final ImmutableList<ProducerMonitor> delegates;
+    private final ProducerMonitor[] delegates;
 
-    DelegatingProducerMonitor(ImmutableList<ProducerMonitor> delegates) {
+    DelegatingProducerMonitor(ProducerMonitor[] delegates) {
       this.delegates = delegates;
     }
 
@@ -294,38 +325,46 @@ public final class Monitors {
 
     @Override
     public void methodFinished() {
-      for (ProducerMonitor delegate : delegates.reverse()) {
+      for (int i = delegates.length - 1; i >= 0; i--) {
         try {
-          delegate.methodFinished();
+          delegates[i].methodFinished();
         } catch (RuntimeException e) {
-          logProducerMonitorMethodException(e, delegate, "methodFinished");
+          logProducerMonitorMethodException(e, delegates[i], "methodFinished");
         }
       }
     }
 
     @Override
     public void succeeded(Object o) {
-      for (ProducerMonitor delegate : delegates.reverse()) {
+      for (int i = delegates.length - 1; i >= 0; i--) {
         try {
-          delegate.succeeded(o);
+          delegates[i].succeeded(o);
         } catch (RuntimeException e) {
-          logProducerMonitorArgMethodException(e, delegate, "succeeded", o);
+          logProducerMonitorArgMethodException(e, delegates[i], "succeeded", o);
         }
       }
     }
 
     @Override
     public void failed(Throwable t) {
-      for (ProducerMonitor delegate : delegates.reverse()) {
+      for (int i = delegates.length - 1; i >= 0; i--) {
         try {
-          delegate.failed(t);
+          delegates[i].failed(t);
         } catch (RuntimeException e) {
-          logProducerMonitorArgMethodException(e, delegate, "failed", t);
+          logProducerMonitorArgMethodException(e, delegates[i], "failed", t);
         }
       }
     }
   }
 
+  private static boolean isNoOp(ProductionComponentMonitor monitor) {
+    return monitor == null || monitor == ProductionComponentMonitor.noOp();
+  }
+
+  private static boolean isNoOp(ProducerMonitor monitor) {
+    return monitor == null || monitor == ProducerMonitor.noOp();
+  }
+
   /** Returns a provider of a no-op component monitor. */
   public static Provider<ProductionComponentMonitor> noOpProductionComponentMonitorProvider() {
     return NO_OP_PRODUCTION_COMPONENT_MONITOR_PROVIDER;
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger;
+
+import dagger.internal.Beta;
+import dagger.internal.GwtIncompatible;
+import java.util.concurrent.Executor;
+
+/**
+ * A component or subcomponent that can eagerly create its scoped bindings.
+ *
+ * <p>When a component type extends {@code Warmable}, Dagger implements {@link #warmUp} instead of
+ * treating it as a members-injection method. For example:
+ *
+ * <pre><code>
+ *   {@literal @Singleton}
+ *   {@literal @Component}(modules = ServerModule.class)
+ *   interface ServerComponent extends Warmable {
+ *     RequestHandler requestHandler();
+ *   }
+ *
+ *   ServerComponent component = DaggerServerComponent.create();
+ *   component.warmUp(startupExecutor);
+ * </code></pre>
+ */
+@Beta
+@GwtIncompatible
+public interface Warmable {
+  /**
+   * Creates every scoped binding owned by this component, running independent bindings in parallel
+   * on {@code executor}. {@link Reusable @Reusable} bindings and bindings owned by ancestor
+   * components are only created if one of those scoped bindings depends on them.
+   *
+   * <p>Bindings are created in waves: every binding in a wave only depends on scoped bindings from
+   * earlier waves, so no two tasks ever wait on each other's initialization. This method returns
+   * once every binding has been created.
+   *
+   * @throws RuntimeException if creating any binding throws; the first such exception is rethrown
+   *     after the wave that threw it completes, and no later waves are run
+   * @throws InterruptedException if the calling thread is interrupted while waiting for a wave
+   */
+  void warmUp(Executor executor) throws InterruptedException;
+}
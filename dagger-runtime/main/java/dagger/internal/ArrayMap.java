@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.ArraySet.hashTableSize;
+import static dagger.internal.ArraySet.smear;
+import static dagger.internal.Preconditions.checkNotNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An immutable {@link Map} with non-null keys, backed by a single array, that iterates in insertion
+ * order.
+ *
+ * <p>The first {@code 2 * capacity} slots of the array hold alternating keys and values in
+ * insertion order. The rest of the array is an open-addressed hash table of key-value pairs, sized
+ * to a power of two at most half full, that holds the same entries for {@link #get} lookups.
+ */
+final class ArrayMap<K, V> extends AbstractMap<K, V> {
+  private final Object[] table;
+  private final int size;
+  private final int capacity;
+
+  private ArrayMap(Object[] table, int size, int capacity) {
+    this.table = table;
+    this.size = size;
+    this.capacity = capacity;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean containsKey(@Nullable Object key) {
+    return indexOf(table, capacity, key) >= 0;
+  }
+
+  @SuppressWarnings("unchecked") // only values of type V are added to the table
+  @Override
+  public @Nullable V get(@Nullable Object key) {
+    int index = indexOf(table, capacity, key);
+    return index >= 0 ? (V) table[index + 1] : null;
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new AbstractSet<Entry<K, V>>() {
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public Iterator<Entry<K, V>> iterator() {
+        return new Iterator<Entry<K, V>>() {
+          private int next = 0;
+
+          @Override
+          public boolean hasNext() {
+            return next < size;
+          }
+
+          @SuppressWarnings("unchecked") // only entries of type K and V are added to the table
+          @Override
+          public Entry<K, V> next() {
+            if (next >= size) {
+              throw new NoSuchElementException();
+            }
+            Entry<K, V> entry =
+                new SimpleImmutableEntry<>((K) table[2 * next], (V) table[2 * next + 1]);
+            next++;
+            return entry;
+          }
+        };
+      }
+    };
+  }
+
+  /**
+   * Returns the index of the hash table slot that holds {@code key}, or {@code -1} if there is no
+   * such key.
+   */
+  private static int indexOf(Object[] table, int capacity, @Nullable Object key) {
+    if (key == null) {
+      return -1;
+    }
+    int offset = 2 * capacity;
+    int mask = (table.length - offset) / 2 - 1;
+    for (int i = smear(key.hashCode()) & mask; ; i = (i + 1) & mask) {
+      Object candidate = table[offset + 2 * i];
+      if (candidate == null) {
+        return -1;
+      } else if (candidate.equals(key)) {
+        return offset + 2 * i;
+      }
+    }
+  }
+
+  /**
+   * Returns a builder for a map of about {@code expectedSize} entries. The builder grows if more
+   * distinct keys are added.
+   */
+  static <K, V> Builder<K, V> builderWithExpectedSize(int expectedSize) {
+    return new Builder<K, V>(expectedSize);
+  }
+
+  /** A single-use builder for an {@link ArrayMap}. */
+  static final class Builder<K, V> {
+    private Object[] table;
+    private int size;
+    private int capacity;
+
+    private Builder(int expectedSize) {
+      allocate(Math.max(expectedSize, 1));
+    }
+
+    /**
+     * Associates {@code value} with {@code key}. Like {@link java.util.LinkedHashMap}, putting a
+     * key that was already added replaces its value but keeps its original position.
+     */
+    Builder<K, V> put(K key, V value) {
+      int offset = 2 * capacity;
+      int mask = (table.length - offset) / 2 - 1;
+      int i = smear(checkNotNull(key).hashCode()) & mask;
+      for (Object candidate; (candidate = table[offset + 2 * i]) != null; i = (i + 1) & mask) {
+        if (candidate.equals(key)) {
+          table[offset + 2 * i + 1] = value;
+          replaceInsertionOrderValue(candidate, value);
+          return this;
+        }
+      }
+      if (size == capacity) {
+        grow();
+        return put(key, value);
+      }
+      table[offset + 2 * i] = key;
+      table[offset + 2 * i + 1] = value;
+      table[2 * size] = key;
+      table[2 * size + 1] = value;
+      size++;
+      return this;
+    }
+
+    Builder<K, V> putAll(Map<? extends K, ? extends V> map) {
+      for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+        put(entry.getKey(), entry.getValue());
+      }
+      return this;
+    }
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    Map<K, V> build() {
+      return new ArrayMap<K, V>(table, size, capacity);
+    }
+
+    private void replaceInsertionOrderValue(Object key, V value) {
+      // Keys are rarely put twice, so a linear scan is cheaper than indexing insertion positions.
+      for (int i = 0; i < size; i++) {
+        if (table[2 * i] == key) {
+          table[2 * i + 1] = value;
+          return;
+        }
+      }
+    }
+
+    private void allocate(int newCapacity) {
+      capacity = newCapacity;
+      table = new Object[2 * (newCapacity + hashTableSize(newCapacity))];
+    }
+
+    private void grow() {
+      Object[] oldTable = table;
+      int oldSize = size;
+      allocate(capacity * 2);
+      size = 0;
+      for (int i = 0; i < oldSize; i++) {
+        @SuppressWarnings("unchecked") // only entries of type K and V are added to the table
+        K key = (K) oldTable[2 * i];
+        @SuppressWarnings("unchecked") // only entries of type K and V are added to the table
+        V value = (V) oldTable[2 * i + 1];
+        put(key, value);
+      }
+    }
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An immutable {@link Set} of non-null elements, backed by a single array, that iterates in
+ * insertion order.
+ *
+ * <p>The first {@code capacity} slots of the array hold the elements in insertion order. The rest
+ * of the array is an open-addressed hash table, sized to a power of two at most half full, that
+ * holds the same elements for {@link #contains} lookups.
+ */
+final class ArraySet<E extends @Nullable Object> extends AbstractSet<E> {
+  private final Object[] table;
+  private final int size;
+  private final int capacity;
+
+  private ArraySet(Object[] table, int size, int capacity) {
+    this.table = table;
+    this.size = size;
+    this.capacity = capacity;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean contains(@Nullable Object o) {
+    if (o == null) {
+      return false;
+    }
+    int mask = table.length - capacity - 1;
+    for (int i = smear(o.hashCode()) & mask; ; i = (i + 1) & mask) {
+      Object candidate = table[capacity + i];
+      if (candidate == null) {
+        return false;
+      } else if (candidate.equals(o)) {
+        return true;
+      }
+    }
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Iterator<E>() {
+      private int next = 0;
+
+      @Override
+      public boolean hasNext() {
+        return next < size;
+      }
+
+      @SuppressWarnings("unchecked") // only elements of type E are added to the table
+      @Override
+      public E next() {
+        if (next >= size) {
+          throw new NoSuchElementException();
+        }
+        return (E) table[next++];
+      }
+    };
+  }
+
+  @Override
+  public Object[] toArray() {
+    return Arrays.copyOf(table, size);
+  }
+
+  /**
+   * Returns a builder for a set of about {@code expectedSize} elements. The builder grows if more
+   * distinct elements are added.
+   */
+  static <E extends @Nullable Object> Builder<E> builderWithExpectedSize(int expectedSize) {
+    return new Builder<E>(expectedSize);
+  }
+
+  /** A single-use builder for an {@link ArraySet}. */
+  static final class Builder<E extends @Nullable Object> {
+    private Object[] table;
+    private int size;
+    private int capacity;
+
+    private Builder(int expectedSize) {
+      allocate(Math.max(expectedSize, 1));
+    }
+
+    /** Adds {@code element} unless an equal element has already been added. */
+    Builder<E> add(E element) {
+      int mask = table.length - capacity - 1;
+      int i = smear(checkNotNull(element).hashCode()) & mask;
+      for (Object candidate; (candidate = table[capacity + i]) != null; i = (i + 1) & mask) {
+        if (candidate.equals(element)) {
+          return this;
+        }
+      }
+      if (size == capacity) {
+        grow();
+        return add(element);
+      }
+      table[capacity + i] = element;
+      table[size++] = element;
+      return this;
+    }
+
+    Set<E> build() {
+      return new ArraySet<E>(table, size, capacity);
+    }
+
+    private void allocate(int newCapacity) {
+      capacity = newCapacity;
+      table = new Object[newCapacity + hashTableSize(newCapacity)];
+    }
+
+    private void grow() {
+      Object[] oldTable = table;
+      int oldSize = size;
+      allocate(capacity * 2);
+      size = 0;
+      for (int i = 0; i < oldSize; i++) {
+        @SuppressWarnings("unchecked") // only elements of type E are added to the table
+        E element = (E) oldTable[i];
+        add(element);
+      }
+    }
+  }
+
+  /** Returns the power-of-two hash table size that keeps {@code n} keys at most half full. */
+  static int hashTableSize(int n) {
+    return Integer.highestOneBit(2 * n - 1) << 1;
+  }
+
+  /** Spreads the bits of {@code hashCode} so that the low bits can index a hash table. */
+  static int smear(int hashCode) {
+    return 0x1b873593 * Integer.rotateLeft(hashCode * 0xcc9e2d51, 15);
+  }
+}
@@ -25,25 +25,44 @@ import org.jspecify.annotations.Nullable;
 /**
  * A class keyed map that delegates to a string keyed map under the hood.
  *
- * <p>A {@code LazyClassKeyMap} is created for @LazyClassKey contributed map binding.
+ * <p>A {@code LazyClassKeyMap} is created for @LazyClassKey contributed map binding. Maps that are
+ * returned for every request, like the one from {@link MapProviderFactory}, look class names up
+ * through a {@link StringKeyIndex} of the delegate's keys, which is built on the first lookup.
+ * Other maps are created per request, so they look names up in the delegate directly rather than
+ * paying to build an index that would only be used once.
  */
 public final class LazyClassKeyMap<V> implements Map<Class<?>, V> {
   private final Map<String, V> delegate;
+  private final boolean indexed;
+
+  /**
+   * The index and values used for lookups if {@link #indexed}, or {@code null} until the first
+   * lookup. Races to create it are benign since it is immutable.
+   */
+  private @Nullable Lookup lookup;
 
   public static <V> Map<Class<?>, V> of(Map<String, V> delegate) {
-    return new LazyClassKeyMap<>(delegate);
+    return new LazyClassKeyMap<>(delegate, false);
   }
 
-  private LazyClassKeyMap(Map<String, V> delegate) {
+  private LazyClassKeyMap(Map<String, V> delegate, boolean indexed) {
     this.delegate = delegate;
+    this.indexed = indexed;
   }
 
+  @SuppressWarnings("unchecked") // values are only copied from the delegate
   @Override
   public V get(@Nullable Object key) {
     if (!(key instanceof Class)) {
       throw new IllegalArgumentException("Key must be a class");
     }
-    return (@NonNull V) delegate.get(((Class<?>) key).getName());
+    String name = ((Class<?>) key).getName();
+    if (!indexed) {
+      return (@NonNull V) delegate.get(name);
+    }
+    Lookup lookup = lookup();
+    int position = lookup.index.indexOf(name);
+    return (@NonNull V) (position >= 0 ? lookup.values[position] : null);
   }
 
   @Override
@@ -70,7 +89,8 @@ public final class LazyClassKeyMap<V> implements Map<Class<?>, V> {
     if (!(key instanceof Class)) {
       throw new IllegalArgumentException("Key must be a class");
     }
-    return delegate.containsKey(((Class<?>) key).getName());
+    String name = ((Class<?>) key).getName();
+    return indexed ? lookup().index.indexOf(name) >= 0 : delegate.containsKey(name);
   }
 
   @Override
@@ -113,6 +133,35 @@ public final class LazyClassKeyMap<V> implements Map<Class<?>, V> {
     throw new UnsupportedOperationException("Dagger map bindings are immutable");
   }
 
+  private Lookup lookup() {
+    Lookup result = lookup;
+    if (result == null) {
+      result = Lookup.create(delegate);
+      lookup = result;
+    }
+    return result;
+  }
+
+  /** The delegate's values, ordered by their key's position in an index of the delegate's keys. */
+  private static final class Lookup {
+    final StringKeyIndex index;
+    final @Nullable Object[] values;
+
+    private Lookup(StringKeyIndex index, @Nullable Object[] values) {
+      this.index = index;
+      this.values = values;
+    }
+
+    static Lookup create(Map<String, ?> delegate) {
+      StringKeyIndex index = StringKeyIndex.of(delegate.keySet());
+      @Nullable Object[] values = new Object[delegate.size()];
+      for (Map.Entry<String, ?> entry : delegate.entrySet()) {
+        values[index.indexOf(entry.getKey())] = entry.getValue();
+      }
+      return new Lookup(index, values);
+    }
+  }
+
   /** Wrapper around {@link MapFactory}. */
   public static class MapFactory<V> implements Factory<Map<Class<?>, V>> {
     Factory<Map<String, V>> delegate;
@@ -135,6 +184,12 @@ public final class LazyClassKeyMap<V> implements Map<Class<?>, V> {
   public static class MapProviderFactory<V> implements Factory<Map<Class<?>, Provider<V>>> {
     Factory<Map<String, Provider<V>>> delegate;
 
+    /**
+     * The map returned for the delegate's map. {@link dagger.internal.MapProviderFactory} returns
+     * the same map every time, so this lets its index and values be reused.
+     */
+    private @Nullable LazyClassKeyMap<Provider<V>> map;
+
     public static <V> MapProviderFactory<V> of(Factory<Map<String, Provider<V>>> delegate) {
       return new MapProviderFactory<V>(delegate);
     }
@@ -145,7 +200,13 @@ public final class LazyClassKeyMap<V> implements Map<Class<?>, V> {
 
     @Override
     public Map<Class<?>, Provider<V>> get() {
-      return LazyClassKeyMap.of(delegate.get());
+      Map<String, Provider<V>> delegateMap = delegate.get();
+      LazyClassKeyMap<Provider<V>> map = this.map;
+      if (map == null || map.delegate != delegateMap) {
+        map = new LazyClassKeyMap<>(delegateMap, true);
+        this.map = map;
+      }
+      return map;
     }
   }
 }
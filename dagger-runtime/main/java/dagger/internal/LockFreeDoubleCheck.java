@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+import dagger.Lazy;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link Lazy} and {@link Provider} implementation that memoizes the value returned from a
+ * delegate like {@link DoubleCheck}, but without taking an object monitor.
+ *
+ * <p>The thread that first calls {@link #get} claims the initialization with a compare-and-set and
+ * invokes the delegate. Other threads that arrive while the delegate is running spin briefly and
+ * then park until the value is published, so a cold scoped binding that is requested by many
+ * threads at once never inflates a monitor. Recursive calls from the initializing thread behave as
+ * they do for {@link DoubleCheck}.
+ *
+ * <p>Generated components use this class instead of {@link DoubleCheck} when the {@code
+ * dagger.lockFreeScoping} compiler option is enabled.
+ */
+@GwtIncompatible
+public final class LockFreeDoubleCheck<T extends @Nullable Object>
+    implements Provider<T>, Lazy<T> {
+  private static final Object UNINITIALIZED = new Object();
+
+  /** The number of times a waiting thread re-checks the instance before parking. */
+  private static final int MAX_SPINS = Runtime.getRuntime().availableProcessors() > 1 ? 64 : 0;
+
+  @SuppressWarnings("rawtypes") // generic field updaters can only be created for the raw type
+  private static final AtomicReferenceFieldUpdater<LockFreeDoubleCheck, Initialization>
+      INITIALIZATION =
+          AtomicReferenceFieldUpdater.newUpdater(
+              LockFreeDoubleCheck.class, Initialization.class, "initialization");
+
+  private volatile @Nullable Provider<T> provider;
+  private volatile @Nullable Object instance = UNINITIALIZED;
+
+  /** The initialization in progress, or {@code null} if no thread is invoking the delegate. */
+  private volatile @Nullable Initialization initialization;
+
+  private LockFreeDoubleCheck(Provider<T> provider) {
+    assert provider != null;
+    this.provider = provider;
+  }
+
+  @SuppressWarnings("unchecked") // cast only happens when result comes from the provider
+  @Override
+  public T get() {
+    @Nullable Object result = instance;
+    if (result == UNINITIALIZED) {
+      result = getSlowPath();
+    }
+    return (T) result;
+  }
+
+  private @Nullable Object getSlowPath() {
+    Thread currentThread = Thread.currentThread();
+    boolean interrupted = false;
+    try {
+      for (int spins = 0; ; ) {
+        @Nullable Object result = instance;
+        if (result != UNINITIALIZED) {
+          return result;
+        }
+        Initialization inProgress = initialization;
+        if (inProgress == null) {
+          Initialization claimed = new Initialization(currentThread);
+          if (INITIALIZATION.compareAndSet(this, null, claimed)) {
+            try {
+              return initialize();
+            } finally {
+              initialization = null;
+              claimed.release();
+            }
+          }
+        } else if (inProgress.owner == currentThread) {
+          // A recursive call while invoking the delegate. DoubleCheck's monitor is reentrant, so
+          // match its behavior and let reentrantCheck() detect differing results.
+          return initialize();
+        } else if (spins < MAX_SPINS) {
+          spins++;
+        } else {
+          interrupted |= inProgress.await(this);
+        }
+      }
+    } finally {
+      if (interrupted) {
+        currentThread.interrupt();
+      }
+    }
+  }
+
+  /** Invokes the delegate. Must only be called by the thread that owns the initialization. */
+  @SuppressWarnings("nullness:dereference.of.nullable") // provider is non-null
+  private @Nullable Object initialize() {
+    @Nullable Object result = instance;
+    if (result == UNINITIALIZED) {
+      result = provider.get();
+      instance = reentrantCheck(instance, result);
+      /* Null out the reference to the provider. We are never going to need it again, so we
+       * can make it eligible for GC. */
+      provider = null;
+    }
+    return result;
+  }
+
+  /**
+   * Checks to see if creating the new instance has resulted in a recursive call. If it has, and the
+   * new instance is the same as the current instance, return the instance. However, if the new
+   * instance differs from the current instance, an {@link IllegalStateException} is thrown.
+   */
+  private static @Nullable Object reentrantCheck(
+      @Nullable Object currentInstance, @Nullable Object newInstance) {
+    boolean isReentrant = currentInstance != UNINITIALIZED;
+    if (isReentrant && currentInstance != newInstance) {
+      throw new IllegalStateException("Scoped provider was invoked recursively returning "
+          + "different results: " + currentInstance + " & " + newInstance + ". This is likely "
+          + "due to a circular dependency.");
+    }
+    return newInstance;
+  }
+
+  /**
+   * A claim on invoking the delegate, held by {@link #owner}, with the stack of threads parked
+   * until it is released.
+   */
+  private static final class Initialization {
+    private static final Waiter RELEASED = new Waiter(null);
+
+    private static final AtomicReferenceFieldUpdater<Initialization, Waiter> WAITERS =
+        AtomicReferenceFieldUpdater.newUpdater(Initialization.class, Waiter.class, "waiters");
+
+    final Thread owner;
+    private volatile @Nullable Waiter waiters;
+
+    Initialization(Thread owner) {
+      this.owner = owner;
+    }
+
+    /**
+     * Parks the current thread until this initialization is released. Returns {@code true} if the
+     * thread was interrupted while parked.
+     */
+    boolean await(LockFreeDoubleCheck<?> doubleCheck) {
+      Waiter waiter = new Waiter(Thread.currentThread());
+      for (Waiter head = waiters; ; head = waiters) {
+        if (head == RELEASED) {
+          return false;
+        }
+        waiter.next = head;
+        if (WAITERS.compareAndSet(this, head, waiter)) {
+          break;
+        }
+      }
+      boolean interrupted = false;
+      while (doubleCheck.initialization == this) {
+        LockSupport.park(doubleCheck);
+        interrupted |= Thread.interrupted();
+      }
+      return interrupted;
+    }
+
+    /** Wakes every thread parked in {@link #await}. */
+    void release() {
+      for (Waiter waiter = WAITERS.getAndSet(this, RELEASED);
+          waiter != null;
+          waiter = waiter.next) {
+        LockSupport.unpark(waiter.thread);
+      }
+    }
+  }
+
+  private static final class Waiter {
+    final @Nullable Thread thread;
+    @Nullable Waiter next;
+
+    Waiter(@Nullable Thread thread) {
+      this.thread = thread;
+    }
+  }
+
+  /** Returns a {@link Provider} that caches the value from the given delegate provider. */
+  public static <T extends @Nullable Object> Provider<T> provider(Provider<T> delegate) {
+    checkNotNull(delegate);
+    if (delegate instanceof LockFreeDoubleCheck || delegate instanceof DoubleCheck) {
+      /* This should be a rare case, but if we have a scoped @Binds that delegates to a scoped
+       * binding, we shouldn't cache the value again. */
+      return delegate;
+    }
+    return new LockFreeDoubleCheck<T>(delegate);
+  }
+
+  /** Returns a {@link Lazy} that caches the value from the given provider. */
+  public static <T extends @Nullable Object> Lazy<T> lazy(Provider<T> provider) {
+    if (provider instanceof Lazy) {
+      @SuppressWarnings("unchecked")
+      final Lazy<T> lazy = (Lazy<T>) provider;
+      // Avoids memoizing a value that is already memoized.
+      return lazy;
+    }
+    return new LockFreeDoubleCheck<T>(checkNotNull(provider));
+  }
+}
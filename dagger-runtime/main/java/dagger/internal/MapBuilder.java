@@ -16,8 +16,6 @@
 
 package dagger.internal;
 
-import static dagger.internal.DaggerCollections.newLinkedHashMapWithExpectedSize;
-
 import java.util.Collections;
 import java.util.Map;
 
@@ -26,10 +24,10 @@ import java.util.Map;
  * must be created in one fluent statement for inlined request fulfillments.
  */
 public final class MapBuilder<K, V> {
-  private final Map<K, V> contributions;
+  private final ArrayMap.Builder<K, V> contributions;
 
   private MapBuilder(int size) {
-    contributions = newLinkedHashMapWithExpectedSize(size);
+    contributions = ArrayMap.builderWithExpectedSize(size);
   }
 
   /**
@@ -53,6 +51,6 @@ public final class MapBuilder<K, V> {
     if (contributions.isEmpty()) {
       return Collections.emptyMap();
     }
-    return Collections.unmodifiableMap(contributions);
+    return contributions.build();
   }
 }
@@ -16,9 +16,7 @@
 
 package dagger.internal;
 
-import static dagger.internal.DaggerCollections.newLinkedHashMapWithExpectedSize;
 import static dagger.internal.Providers.asDaggerProvider;
-import static java.util.Collections.unmodifiableMap;
 
 import java.util.Collections;
 import java.util.Map;
@@ -53,11 +51,11 @@ public final class MapFactory<K, V> extends AbstractMapFactory<K, V, V> {
    */
   @Override
   public Map<K, V> get() {
-    Map<K, V> result = newLinkedHashMapWithExpectedSize(contributingMap().size());
+    ArrayMap.Builder<K, V> result = ArrayMap.builderWithExpectedSize(contributingMap().size());
     for (Entry<K, Provider<V>> entry : contributingMap().entrySet()) {
       result.put(entry.getKey(), entry.getValue().get());
     }
-    return unmodifiableMap(result);
+    return result.build();
   }
 
   /** A builder for {@link MapFactory}. */
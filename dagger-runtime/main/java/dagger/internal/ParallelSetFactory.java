@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.DaggerCollections.hasDuplicates;
+import static dagger.internal.DaggerCollections.presizedList;
+import static dagger.internal.Preconditions.checkNotNull;
+import static java.util.Collections.emptySet;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RecursiveTask;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link Factory} implementation used to implement {@link Set} bindings that are declared with
+ * {@link dagger.multibindings.AssembledInParallel @AssembledInParallel}. Like {@link SetFactory},
+ * this factory returns a new {@link Set} instance for each call to {@link #get}, but it calls its
+ * providers concurrently.
+ *
+ * <p>Each provider but the first is forked as a task in the current fork-join pool, or the common
+ * pool if the calling thread is not a fork-join worker. The calling thread invokes the first
+ * provider itself and then joins the others in order, helping to run them if they have not started
+ * yet. The set's iteration order is the same as for {@link SetFactory}, and if any providers
+ * throw, the exception from the first of them in that order is rethrown.
+ */
+@GwtIncompatible
+public final class ParallelSetFactory<T extends @Nullable Object> implements Factory<Set<T>> {
+  /**
+   * Constructs a new {@link Builder} for a {@link ParallelSetFactory} with {@code
+   * individualProviderSize} individual {@code Provider<T>} and {@code collectionProviderSize}
+   * {@code Provider<Collection<T>>} instances.
+   */
+  public static <T extends @Nullable Object> Builder<T> builder(
+      int individualProviderSize, int collectionProviderSize) {
+    return new Builder<T>(individualProviderSize, collectionProviderSize);
+  }
+
+  /**
+   * A builder to accumulate {@code Provider<T>} and {@code Provider<Collection<T>>} instances.
+   * These are only intended to be single-use and from within generated code. Do <em>NOT</em> add
+   * providers after calling {@link #build()}.
+   */
+  public static final class Builder<T extends @Nullable Object> {
+    private final List<Provider<?>> individualProviders;
+    private final List<Provider<?>> collectionProviders;
+
+    private Builder(int individualProviderSize, int collectionProviderSize) {
+      individualProviders = presizedList(individualProviderSize);
+      collectionProviders = presizedList(collectionProviderSize);
+    }
+
+    public Builder<T> addProvider(Provider<? extends T> individualProvider) {
+      assert individualProvider != null : "Codegen error? Null provider";
+      individualProviders.add(individualProvider);
+      return this;
+    }
+
+    public Builder<T> addCollectionProvider(
+        Provider<? extends Collection<? extends T>> collectionProvider) {
+      assert collectionProvider != null : "Codegen error? Null provider";
+      collectionProviders.add(collectionProvider);
+      return this;
+    }
+
+    public ParallelSetFactory<T> build() {
+      assert !hasDuplicates(individualProviders)
+          : "Codegen error?  Duplicates in the provider list";
+      assert !hasDuplicates(collectionProviders)
+          : "Codegen error?  Duplicates in the provider list";
+
+      Provider<?>[] providers =
+          new Provider<?>[individualProviders.size() + collectionProviders.size()];
+      for (int i = 0; i < individualProviders.size(); i++) {
+        providers[i] = individualProviders.get(i);
+      }
+      for (int i = 0; i < collectionProviders.size(); i++) {
+        providers[individualProviders.size() + i] = collectionProviders.get(i);
+      }
+      return new ParallelSetFactory<T>(providers, individualProviders.size());
+    }
+  }
+
+  /** The individual providers, followed by the collection providers. */
+  private final Provider<?>[] providers;
+
+  private final int individualProviderCount;
+
+  private ParallelSetFactory(Provider<?>[] providers, int individualProviderCount) {
+    this.providers = providers;
+    this.individualProviderCount = individualProviderCount;
+  }
+
+  /**
+   * Returns a {@link Set} that contains the elements given by each of the providers.
+   *
+   * @throws NullPointerException if any of the delegate {@link Set} instances or elements therein
+   *     are {@code null}
+   */
+  @SuppressWarnings("unchecked") // each value has the type of the provider it came from
+  @Override
+  public Set<T> get() {
+    @Nullable Object[] values = provideAll();
+
+    int size = individualProviderCount;
+    for (int i = individualProviderCount; i < values.length; i++) {
+      size += ((Collection<T>) values[i]).size();
+    }
+    if (size == 0) {
+      return emptySet();
+    }
+    ArraySet.Builder<T> providedValues = ArraySet.builderWithExpectedSize(size);
+    for (int i = 0; i < individualProviderCount; i++) {
+      providedValues.add(checkNotNull((T) values[i]));
+    }
+    for (int i = individualProviderCount; i < values.length; i++) {
+      for (T element : (Collection<T>) values[i]) {
+        providedValues.add(checkNotNull(element));
+      }
+    }
+    return providedValues.build();
+  }
+
+  /** Returns the value of each provider, in order. */
+  private @Nullable Object[] provideAll() {
+    @Nullable Object[] values = new Object[providers.length];
+    if (providers.length == 0) {
+      return values;
+    }
+    ProviderTask[] tasks = new ProviderTask[providers.length];
+    for (int i = 1; i < providers.length; i++) {
+      tasks[i] = new ProviderTask(providers[i]);
+      tasks[i].fork();
+    }
+    try {
+      values[0] = providers[0].get();
+      for (int i = 1; i < providers.length; i++) {
+        values[i] = tasks[i].result();
+      }
+    } catch (RuntimeException | Error e) {
+      // Don't leave the remaining providers running once the result is known to be a failure.
+      for (int i = 1; i < providers.length; i++) {
+        tasks[i].cancel(false);
+      }
+      throw e;
+    }
+    return values;
+  }
+
+  /**
+   * A task that calls a single provider. The task catches what the provider throws itself, because
+   * {@link RecursiveTask#join()} may rethrow a copy of an exception thrown on another thread, with
+   * the original as its cause, instead of the original.
+   */
+  private static final class ProviderTask extends RecursiveTask<@Nullable Object> {
+    private final Provider<?> provider;
+    private @Nullable Throwable failure;
+
+    ProviderTask(Provider<?> provider) {
+      this.provider = provider;
+    }
+
+    @Override
+    protected @Nullable Object compute() {
+      try {
+        return provider.get();
+      } catch (RuntimeException | Error e) {
+        failure = e;
+        return null;
+      }
+    }
+
+    /** Waits for the provider and returns its value, or rethrows what it threw. */
+    @Nullable Object result() {
+      @Nullable Object value = join();
+      if (failure instanceof RuntimeException) {
+        throw (RuntimeException) failure;
+      }
+      if (failure instanceof Error) {
+        throw (Error) failure;
+      }
+      return value;
+    }
+  }
+}
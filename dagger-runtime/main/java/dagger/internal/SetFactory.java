@@ -17,12 +17,10 @@
 package dagger.internal;
 
 import static dagger.internal.DaggerCollections.hasDuplicates;
-import static dagger.internal.DaggerCollections.newHashSetWithExpectedSize;
 import static dagger.internal.DaggerCollections.presizedList;
 import static dagger.internal.Preconditions.checkNotNull;
 import static dagger.internal.Providers.asDaggerProvider;
 import static java.util.Collections.emptySet;
-import static java.util.Collections.unmodifiableSet;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -142,7 +140,10 @@ public final class SetFactory<T extends @Nullable Object> implements Factory<Set
       providedCollections.add(providedCollection);
     }
 
-    Set<T> providedValues = newHashSetWithExpectedSize(size);
+    if (size == 0) {
+      return emptySet();
+    }
+    ArraySet.Builder<T> providedValues = ArraySet.builderWithExpectedSize(size);
     for (int i = 0, c = individualProviders.size(); i < c; i++) {
       providedValues.add(checkNotNull(individualProviders.get(i).get()));
     }
@@ -152,6 +153,6 @@ public final class SetFactory<T extends @Nullable Object> implements Factory<Set
       }
     }
 
-    return unmodifiableSet(providedValues);
+    return providedValues.build();
   }
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An immutable index of a fixed set of strings, such as the class names that key a {@code
+ * LazyClassKeyMap}, that maps each string to its position in the collection it was created from.
+ *
+ * <p>The index is a perfect hash table built with "hash and displace": strings are split into small
+ * buckets by hash code, and each bucket is assigned the first displacement that sends all of its
+ * strings to free slots. A lookup therefore reads one displacement and probes exactly one slot, and
+ * the whole index is a handful of arrays with no per-entry objects. Because {@link String} caches
+ * its hash code, and {@link Class#getName()} caches the name, repeated lookups of the same key
+ * never rehash it.
+ *
+ * <p>If two of the strings have the same hash code, no displacement can separate them, so the
+ * index falls back to linear probing from each string's undisplaced slot.
+ */
+public final class StringKeyIndex {
+  /** The maximum number of displacements tried for each bucket before giving up. */
+  private static final int MAX_DISPLACEMENT = 1 << 12;
+
+  private final int size;
+  private final int bucketShift;
+  private final int[] displacements;
+  private final @Nullable String[] keys;
+  private final int[] hashes;
+  private final int[] positions;
+  private final boolean perfect;
+
+  private StringKeyIndex(
+      int size,
+      int bucketShift,
+      int[] displacements,
+      @Nullable String[] keys,
+      int[] hashes,
+      int[] positions,
+      boolean perfect) {
+    this.size = size;
+    this.bucketShift = bucketShift;
+    this.displacements = displacements;
+    this.keys = keys;
+    this.hashes = hashes;
+    this.positions = positions;
+    this.perfect = perfect;
+  }
+
+  /** Returns the number of strings in this index. */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the position of {@code key} in the collection that this index was created from, or
+   * {@code -1} if it is not in the index.
+   */
+  public int indexOf(@Nullable Object key) {
+    if (key == null) {
+      return -1;
+    }
+    int hash = key.hashCode();
+    int mask = keys.length - 1;
+    for (int slot = slot(hash, displacements[hash * 0x9E3779B9 >>> bucketShift], mask); ;
+        slot = (slot + 1) & mask) {
+      String candidate = keys[slot];
+      if (candidate == null) {
+        return -1;
+      } else if (hashes[slot] == hash && candidate.equals(key)) {
+        return positions[slot];
+      } else if (perfect) {
+        return -1;
+      }
+    }
+  }
+
+  /**
+   * Returns an index of {@code keys}, which must be distinct and non-null. Positions are assigned
+   * in the collection's iteration order.
+   */
+  public static StringKeyIndex of(Collection<String> keys) {
+    String[] strings = keys.toArray(new String[0]);
+    int[] hashes = new int[strings.length];
+    for (int i = 0; i < strings.length; i++) {
+      hashes[i] = Preconditions.checkNotNull(strings[i]).hashCode();
+    }
+    // Keep the table at most 80% full so that the last buckets can still be placed quickly.
+    int tableSize = powerOfTwoAtLeast(Math.max(2, strings.length + (strings.length >> 2)));
+    int bucketCount = Math.max(2, tableSize >> 2);
+    int bucketShift = Integer.numberOfLeadingZeros(bucketCount) + 1;
+    if (!hasDuplicates(hashes)) {
+      StringKeyIndex index = perfectIndex(strings, hashes, tableSize, bucketCount, bucketShift);
+      if (index != null) {
+        return index;
+      }
+    }
+    return linearProbingIndex(strings, hashes, 2 * tableSize, bucketCount, bucketShift);
+  }
+
+  private static @Nullable StringKeyIndex perfectIndex(
+      String[] strings, int[] hashes, int tableSize, int bucketCount, int bucketShift) {
+    // Sort the strings by bucket, and the buckets by size, so that the largest buckets are placed
+    // while the table is emptiest.
+    final int[] bucketSizes = new int[bucketCount];
+    int[] buckets = new int[strings.length];
+    for (int i = 0; i < strings.length; i++) {
+      buckets[i] = hashes[i] * 0x9E3779B9 >>> bucketShift;
+      bucketSizes[buckets[i]]++;
+    }
+    Integer[] bucketOrder = new Integer[bucketCount];
+    for (int b = 0; b < bucketCount; b++) {
+      bucketOrder[b] = b;
+    }
+    Arrays.sort(
+        bucketOrder,
+        new Comparator<Integer>() {
+          @Override
+          public int compare(Integer a, Integer b) {
+            return bucketSizes[b] - bucketSizes[a];
+          }
+        });
+    int[] bucketStarts = new int[bucketCount + 1];
+    for (int b = 0; b < bucketCount; b++) {
+      bucketStarts[b + 1] = bucketStarts[b] + bucketSizes[b];
+    }
+    int[] members = new int[strings.length];
+    int[] nextMember = Arrays.copyOf(bucketStarts, bucketCount);
+    for (int i = 0; i < strings.length; i++) {
+      members[nextMember[buckets[i]]++] = i;
+    }
+
+    int[] displacements = new int[bucketCount];
+    String[] keys = new String[tableSize];
+    int[] tableHashes = new int[tableSize];
+    int[] positions = new int[tableSize];
+    int[] slots = new int[strings.length];
+    for (Integer bucket : bucketOrder) {
+      int start = bucketStarts[bucket];
+      int end = bucketStarts[bucket + 1];
+      if (start == end) {
+        break;
+      }
+      int displacement = 0;
+      while (!fits(members, start, end, hashes, displacement, keys, slots)) {
+        if (++displacement == MAX_DISPLACEMENT) {
+          return null;
+        }
+      }
+      displacements[bucket] = displacement;
+      for (int m = start; m < end; m++) {
+        int i = members[m];
+        keys[slots[m]] = strings[i];
+        tableHashes[slots[m]] = hashes[i];
+        positions[slots[m]] = i;
+      }
+    }
+    return new StringKeyIndex(
+        strings.length, bucketShift, displacements, keys, tableHashes, positions, true);
+  }
+
+  /**
+   * Returns {@code true} if every member of a bucket, displaced by {@code displacement}, lands in
+   * a distinct free slot. The slots are recorded in {@code slots}.
+   */
+  private static boolean fits(
+      int[] members,
+      int start,
+      int end,
+      int[] hashes,
+      int displacement,
+      @Nullable String[] keys,
+      int[] slots) {
+    int mask = keys.length - 1;
+    for (int m = start; m < end; m++) {
+      int slot = slot(hashes[members[m]], displacement, mask);
+      if (keys[slot] != null) {
+        return false;
+      }
+      for (int other = start; other < m; other++) {
+        if (slots[other] == slot) {
+          return false;
+        }
+      }
+      slots[m] = slot;
+    }
+    return true;
+  }
+
+  private static StringKeyIndex linearProbingIndex(
+      String[] strings, int[] hashes, int tableSize, int bucketCount, int bucketShift) {
+    int mask = tableSize - 1;
+    String[] keys = new String[tableSize];
+    int[] tableHashes = new int[tableSize];
+    int[] positions = new int[tableSize];
+    for (int i = 0; i < strings.length; i++) {
+      int slot = slot(hashes[i], 0, mask);
+      while (keys[slot] != null) {
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = strings[i];
+      tableHashes[slot] = hashes[i];
+      positions[slot] = i;
+    }
+    return new StringKeyIndex(
+        strings.length, bucketShift, new int[bucketCount], keys, tableHashes, positions, false);
+  }
+
+  /** Returns the slot for a hash code in a bucket with the given displacement. */
+  private static int slot(int hash, int displacement, int mask) {
+    int h = (hash ^ displacement * 0x9E3779B9) * 0x85EBCA6B;
+    h ^= h >>> 13;
+    h *= 0xC2B2AE35;
+    h ^= h >>> 16;
+    return h & mask;
+  }
+
+  private static boolean hasDuplicates(int[] hashes) {
+    int[] sorted = hashes.clone();
+    Arrays.sort(sorted);
+    for (int i = 1; i < sorted.length; i++) {
+      if (sorted[i] == sorted[i - 1]) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int powerOfTwoAtLeast(int n) {
+    return Integer.highestOneBit(2 * n - 1);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+import dagger.Lazy;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link Lazy} and {@link Provider} implementation that memoizes the value returned from a
+ * delegate like {@link DoubleCheck}, but guards initialization with a {@link ReentrantLock} instead
+ * of an object monitor.
+ *
+ * <p>On JDKs where a virtual thread that blocks inside a {@code synchronized} block pins its carrier
+ * thread, a slow delegate (for example one that does I/O) would otherwise pin a carrier for every
+ * virtual thread waiting on the same scoped binding. Threads blocked on a {@link ReentrantLock} are
+ * parked, which unmounts a virtual thread from its carrier.
+ *
+ * <p>Generated components use this class instead of {@link DoubleCheck} when the {@code
+ * dagger.virtualThreadSafeScoping} compiler option is enabled.
+ */
+@GwtIncompatible
+public final class VirtualThreadSafeDoubleCheck<T extends @Nullable Object>
+    implements Provider<T>, Lazy<T> {
+  private static final Object UNINITIALIZED = new Object();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private volatile @Nullable Provider<T> provider;
+  private volatile @Nullable Object instance = UNINITIALIZED;
+
+  private VirtualThreadSafeDoubleCheck(Provider<T> provider) {
+    assert provider != null;
+    this.provider = provider;
+  }
+
+  @SuppressWarnings("unchecked") // cast only happens when result comes from the provider
+  @Override
+  public T get() {
+    @Nullable Object result = instance;
+    if (result == UNINITIALIZED) {
+      result = getLocked();
+    }
+    return (T) result;
+  }
+
+  @SuppressWarnings("nullness:dereference.of.nullable") // provider is non-null
+  private @Nullable Object getLocked() {
+    lock.lock();
+    try {
+      @Nullable Object result = instance;
+      if (result == UNINITIALIZED) {
+        result = provider.get();
+        instance = reentrantCheck(instance, result);
+        /* Null out the reference to the provider. We are never going to need it again, so we
+         * can make it eligible for GC. */
+        provider = null;
+      }
+      return result;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Checks to see if creating the new instance has resulted in a recursive call. If it has, and the
+   * new instance is the same as the current instance, return the instance. However, if the new
+   * instance differs from the current instance, an {@link IllegalStateException} is thrown.
+   */
+  private static @Nullable Object reentrantCheck(
+      @Nullable Object currentInstance, @Nullable Object newInstance) {
+    boolean isReentrant = currentInstance != UNINITIALIZED;
+    if (isReentrant && currentInstance != newInstance) {
+      throw new IllegalStateException("Scoped provider was invoked recursively returning "
+          + "different results: " + currentInstance + " & " + newInstance + ". This is likely "
+          + "due to a circular dependency.");
+    }
+    return newInstance;
+  }
+
+  /** Returns a {@link Provider} that caches the value from the given delegate provider. */
+  public static <T extends @Nullable Object> Provider<T> provider(Provider<T> delegate) {
+    checkNotNull(delegate);
+    if (delegate instanceof VirtualThreadSafeDoubleCheck || delegate instanceof DoubleCheck) {
+      /* This should be a rare case, but if we have a scoped @Binds that delegates to a scoped
+       * binding, we shouldn't cache the value again. */
+      return delegate;
+    }
+    return new VirtualThreadSafeDoubleCheck<T>(delegate);
+  }
+
+  /** Returns a {@link Lazy} that caches the value from the given provider. */
+  public static <T extends @Nullable Object> Lazy<T> lazy(Provider<T> provider) {
+    if (provider instanceof Lazy) {
+      @SuppressWarnings("unchecked")
+      final Lazy<T> lazy = (Lazy<T>) provider;
+      // Avoids memoizing a value that is already memoized.
+      return lazy;
+    }
+    return new VirtualThreadSafeDoubleCheck<T>(checkNotNull(provider));
+  }
+}
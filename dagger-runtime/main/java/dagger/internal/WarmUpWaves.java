@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Runs the scoped providers of a generated {@link dagger.Warmable#warmUp} implementation.
+ *
+ * <p>The generated code passes the providers grouped into waves, where no provider depends on a
+ * scoped provider from the same or a later wave. The providers within a wave are run in parallel,
+ * and each wave is started only after the previous one has finished, so every scoped provider is
+ * already initialized by the time another one needs it.
+ */
+@GwtIncompatible
+public final class WarmUpWaves {
+  /**
+   * Calls {@link Provider#get()} on each provider on {@code executor}, one wave at a time.
+   *
+   * @throws RuntimeException the first exception thrown by a provider, or by {@code executor} when
+   *     it rejects a task, after every task that was started in that wave has finished
+   */
+  public static void run(Executor executor, Provider<?>[]... waves) throws InterruptedException {
+    checkNotNull(executor);
+    for (Provider<?>[] wave : waves) {
+      runWave(executor, wave);
+    }
+  }
+
+  private static void runWave(Executor executor, Provider<?>[] wave) throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(wave.length);
+    AtomicReference<@Nullable Throwable> failure = new AtomicReference<>();
+    for (int i = 0; i < wave.length; i++) {
+      try {
+        executor.execute(new WarmUpTask(wave[i], done, failure));
+      } catch (RuntimeException e) {
+        failure.compareAndSet(null, e);
+        // The remaining tasks will never run, so don't wait for them.
+        for (int j = i; j < wave.length; j++) {
+          done.countDown();
+        }
+        break;
+      }
+    }
+    done.await();
+
+    Throwable t = failure.get();
+    if (t instanceof RuntimeException) {
+      throw (RuntimeException) t;
+    } else if (t instanceof Error) {
+      throw (Error) t;
+    } else if (t != null) {
+      throw new RuntimeException(t);
+    }
+  }
+
+  private static final class WarmUpTask implements Runnable {
+    private final Provider<?> provider;
+    private final CountDownLatch done;
+    private final AtomicReference<@Nullable Throwable> failure;
+
+    WarmUpTask(
+        Provider<?> provider,
+        CountDownLatch done,
+        AtomicReference<@Nullable Throwable> failure) {
+      this.provider = provider;
+      this.done = done;
+      this.failure = failure;
+    }
+
+    @Override
+    public void run() {
+      try {
+        provider.get();
+      } catch (Throwable t) {
+        failure.compareAndSet(null, t);
+      } finally {
+        done.countDown();
+      }
+    }
+  }
+
+  private WarmUpWaves() {}
+}
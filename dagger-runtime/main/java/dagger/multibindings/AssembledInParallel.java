@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.multibindings;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import dagger.internal.Beta;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotates a {@link Multibinds @Multibinds} method that declares a {@code Set<T>} whose
+ * contributions should be requested in parallel.
+ *
+ * <p>By default, a multibound set calls the binding of each {@link IntoSet @IntoSet} and {@link
+ * ElementsIntoSet @ElementsIntoSet} contribution one after another on the requesting thread. When
+ * the set is declared with {@code @AssembledInParallel}, the contributions are instead requested
+ * concurrently on the {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common fork-join
+ * pool}, with the requesting thread handling one of them itself. The set is returned once every
+ * contribution has been requested, and its iteration order is the same as it would be otherwise.
+ * This is worthwhile for large sets of unscoped contributions with expensive constructors, such as
+ * plugins that are created at startup.
+ *
+ * <pre><code>
+ *   {@literal @Module} abstract class PluginsModule {
+ *     {@literal @Multibinds @AssembledInParallel abstract Set<Plugin> plugins();}
+ *   }</code></pre>
+ *
+ * <p>Contributions to such a set must be safe to request from any thread. If requesting a
+ * contribution throws, the exception from the first such contribution, in iteration order, is
+ * rethrown to the requesting thread.
+ */
+@Beta
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface AssembledInParallel {}
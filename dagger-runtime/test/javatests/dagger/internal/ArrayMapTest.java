@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ArrayMapTest {
+  @Test
+  public void iteratesInInsertionOrder() {
+    Map<String, Integer> map =
+        ArrayMap.<String, Integer>builderWithExpectedSize(3)
+            .put("c", 3)
+            .put("a", 1)
+            .put("b", 2)
+            .build();
+
+    assertThat(map).containsExactly("c", 3, "a", 1, "b", 2).inOrder();
+    assertThat(map.get("a")).isEqualTo(1);
+    assertThat(map.get("d")).isNull();
+    assertThat(map.get(null)).isNull();
+    assertThat(map.containsKey("b")).isTrue();
+    assertThat(map.containsKey("d")).isFalse();
+  }
+
+  @Test
+  public void putExistingKey_replacesValueAndKeepsPosition() {
+    Map<String, Integer> map =
+        ArrayMap.<String, Integer>builderWithExpectedSize(3)
+            .put("a", 1)
+            .put("b", 2)
+            .put("a", 3)
+            .build();
+
+    assertThat(map).containsExactly("a", 3, "b", 2).inOrder();
+    assertThat(map.get("a")).isEqualTo(3);
+  }
+
+  @Test
+  public void growsBeyondExpectedSize() {
+    ArrayMap.Builder<Integer, String> builder = ArrayMap.builderWithExpectedSize(0);
+    ImmutableMap.Builder<Integer, String> expected = ImmutableMap.builder();
+    for (int i = 0; i < 500; i++) {
+      builder.put(i * 31, "value" + i);
+      expected.put(i * 31, "value" + i);
+    }
+    Map<Integer, String> map = builder.build();
+
+    assertThat(map).containsExactlyEntriesIn(expected.buildOrThrow()).inOrder();
+    assertThat(map.get(31)).isEqualTo("value1");
+    assertThat(map.get(32)).isNull();
+  }
+
+  @Test
+  public void equalsAndHashCode() {
+    Map<String, Integer> map =
+        ArrayMap.<String, Integer>builderWithExpectedSize(2).put("a", 1).put("b", 2).build();
+
+    assertThat(map).isEqualTo(ImmutableMap.of("b", 2, "a", 1));
+    assertThat(map.hashCode()).isEqualTo(ImmutableMap.of("a", 1, "b", 2).hashCode());
+  }
+
+  @Test
+  public void isImmutable() {
+    Map<String, Integer> map =
+        ArrayMap.<String, Integer>builderWithExpectedSize(1).put("a", 1).build();
+
+    assertThrows(UnsupportedOperationException.class, () -> map.put("b", 2));
+    assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+    assertThrows(
+        UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue(2));
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ArraySetTest {
+  @Test
+  public void iteratesInInsertionOrder() {
+    Set<String> set =
+        ArraySet.<String>builderWithExpectedSize(4).add("d").add("b").add("c").add("a").build();
+
+    assertThat(set).containsExactly("d", "b", "c", "a").inOrder();
+  }
+
+  @Test
+  public void duplicatesAreIgnored() {
+    Set<String> set =
+        ArraySet.<String>builderWithExpectedSize(4).add("a").add("b").add("a").add("c").build();
+
+    assertThat(set).containsExactly("a", "b", "c").inOrder();
+    assertThat(set).hasSize(3);
+  }
+
+  @Test
+  public void growsBeyondExpectedSize() {
+    ArraySet.Builder<Integer> builder = ArraySet.builderWithExpectedSize(1);
+    ImmutableSet.Builder<Integer> expected = ImmutableSet.builder();
+    for (int i = 0; i < 500; i++) {
+      builder.add(i * 31);
+      expected.add(i * 31);
+    }
+    Set<Integer> set = builder.build();
+
+    assertThat(set).containsExactlyElementsIn(expected.build()).inOrder();
+    assertThat(set.contains(31)).isTrue();
+    assertThat(set.contains(32)).isFalse();
+  }
+
+  @Test
+  public void equalsAndHashCode() {
+    Set<String> set =
+        ArraySet.<String>builderWithExpectedSize(3).add("a").add("b").add("c").build();
+
+    assertThat(set).isEqualTo(ImmutableSet.of("c", "b", "a"));
+    assertThat(set.hashCode()).isEqualTo(ImmutableSet.of("a", "b", "c").hashCode());
+  }
+
+  @Test
+  public void containsNull() {
+    Set<String> set = ArraySet.<String>builderWithExpectedSize(1).add("a").build();
+
+    assertThat(set.contains(null)).isFalse();
+  }
+
+  @Test
+  public void addNull() {
+    ArraySet.Builder<String> builder = ArraySet.builderWithExpectedSize(1);
+
+    assertThrows(NullPointerException.class, () -> builder.add(null));
+  }
+
+  @Test
+  public void isImmutable() {
+    Set<String> set = ArraySet.<String>builderWithExpectedSize(2).add("a").add("b").build();
+
+    assertThrows(UnsupportedOperationException.class, () -> set.add("c"));
+    assertThrows(UnsupportedOperationException.class, () -> set.remove("a"));
+    Iterator<String> iterator = set.iterator();
+    iterator.next();
+    assertThrows(UnsupportedOperationException.class, iterator::remove);
+  }
+
+  @Test
+  public void iteratorPastEnd() {
+    Iterator<String> iterator =
+        ArraySet.<String>builderWithExpectedSize(1).add("a").build().iterator();
+    iterator.next();
+
+    assertThrows(NoSuchElementException.class, iterator::next);
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class LazyClassKeyMapTest {
+  @Test
+  public void of_looksUpClassNames() {
+    Map<String, Integer> delegate = new HashMap<>();
+    delegate.put(String.class.getName(), 1);
+    delegate.put(Integer.class.getName(), 2);
+
+    Map<Class<?>, Integer> map = LazyClassKeyMap.of(delegate);
+
+    assertThat(map.get(String.class)).isEqualTo(1);
+    assertThat(map.get(Integer.class)).isEqualTo(2);
+    assertThat(map.get(Long.class)).isNull();
+    assertThat(map.containsKey(Integer.class)).isTrue();
+    assertThat(map.containsKey(Long.class)).isFalse();
+  }
+
+  @Test
+  public void mapFactory_returnsMapPerRequest() {
+    Map<String, Integer> delegate = new HashMap<>();
+    delegate.put(String.class.getName(), 1);
+    Factory<Map<Class<?>, Integer>> factory =
+        LazyClassKeyMap.MapFactory.of(() -> new HashMap<>(delegate));
+
+    Map<Class<?>, Integer> first = factory.get();
+    Map<Class<?>, Integer> second = factory.get();
+
+    assertThat(first).isNotSameInstanceAs(second);
+    assertThat(first.get(String.class)).isEqualTo(1);
+    assertThat(second.get(String.class)).isEqualTo(1);
+  }
+
+  @Test
+  public void mapProviderFactory_reusesMapAndLooksUpThroughIndex() {
+    Provider<Integer> one = () -> 1;
+    Provider<Integer> two = () -> 2;
+    Factory<Map<String, Provider<Integer>>> delegate =
+        MapProviderFactory.<String, Integer>builder(2)
+            .put(String.class.getName(), one)
+            .put(Integer.class.getName(), two)
+            .build();
+    Factory<Map<Class<?>, Provider<Integer>>> factory =
+        LazyClassKeyMap.MapProviderFactory.of(delegate);
+
+    Map<Class<?>, Provider<Integer>> map = factory.get();
+
+    assertThat(factory.get()).isSameInstanceAs(map);
+    assertThat(map.get(String.class)).isSameInstanceAs(one);
+    assertThat(map.get(Integer.class)).isSameInstanceAs(two);
+    assertThat(map.get(Long.class)).isNull();
+    assertThat(map.containsKey(Integer.class)).isTrue();
+    assertThat(map.containsKey(Long.class)).isFalse();
+  }
+}
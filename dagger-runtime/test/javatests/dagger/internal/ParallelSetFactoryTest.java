@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ParallelSetFactoryTest {
+  @Test
+  public void providerReturnsNull() {
+    Factory<Set<Integer>> factory =
+        ParallelSetFactory.<Integer>builder(1, 1)
+            .addProvider(() -> 1)
+            .addCollectionProvider(() -> null)
+            .build();
+    assertThrows(NullPointerException.class, factory::get);
+  }
+
+  @Test
+  public void providerReturnsNullElement() {
+    Factory<Set<Integer>> factory =
+        ParallelSetFactory.<Integer>builder(2, 0)
+            .addProvider(() -> 1)
+            .addProvider(() -> null)
+            .build();
+    assertThrows(NullPointerException.class, factory::get);
+  }
+
+  @Test
+  public void providerReturnsSetWithNullElement() {
+    Set<Integer> set = new LinkedHashSet<>(Arrays.asList(1, null, 3));
+    Factory<Set<Integer>> factory =
+        ParallelSetFactory.<Integer>builder(1, 1)
+            .addProvider(() -> 2)
+            .addCollectionProvider(() -> set)
+            .build();
+    assertThrows(NullPointerException.class, factory::get);
+  }
+
+  @Test
+  public void noElements() {
+    Factory<Set<Integer>> factory =
+        ParallelSetFactory.<Integer>builder(0, 2)
+            .addCollectionProvider(ImmutableSet::of)
+            .addCollectionProvider(ImmutableList::of)
+            .build();
+    assertThat(factory.get()).isEmpty();
+  }
+
+  @Test
+  public void invokesProvidersEveryTime() {
+    Factory<Set<Integer>> factory =
+        ParallelSetFactory.<Integer>builder(2, 2)
+            .addProvider(incrementingIntegerProvider(0))
+            .addProvider(incrementingIntegerProvider(10))
+            .addCollectionProvider(incrementingIntegerSetProvider(20))
+            .addCollectionProvider(incrementingIntegerSetProvider(30))
+            .build();
+    assertThat(factory.get()).containsExactly(0, 10, 20, 21, 30, 31).inOrder();
+    assertThat(factory.get()).containsExactly(1, 11, 22, 23, 32, 33).inOrder();
+    assertThat(factory.get()).containsExactly(2, 12, 24, 25, 34, 35).inOrder();
+  }
+
+  @Test
+  public void duplicateElements_keepFirstOccurrence() {
+    Factory<Set<Integer>> factory =
+        ParallelSetFactory.<Integer>builder(2, 1)
+            .addProvider(() -> 2)
+            .addProvider(() -> 1)
+            .addCollectionProvider(() -> ImmutableList.of(1, 3, 2))
+            .build();
+    assertThat(factory.get()).containsExactly(2, 1, 3).inOrder();
+  }
+
+  @Test
+  public void invokesProvidersConcurrently() {
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    Factory<Set<Integer>> factory =
+        ParallelSetFactory.<Integer>builder(2, 0)
+            .addProvider(awaitingProvider(barrier, 1))
+            .addProvider(awaitingProvider(barrier, 2))
+            .build();
+    // If the providers were called one after another, the first would time out at the barrier.
+    assertThat(factory.get()).containsExactly(1, 2).inOrder();
+  }
+
+  @Test
+  public void rethrowsFirstFailureInOrder() {
+    Factory<Set<Integer>> factory =
+        ParallelSetFactory.<Integer>builder(3, 0)
+            .addProvider(() -> 1)
+            .addProvider(
+                () -> {
+                  throw new IllegalStateException("first");
+                })
+            .addProvider(
+                () -> {
+                  throw new UnsupportedOperationException("second");
+                })
+            .build();
+    assertThrows(IllegalStateException.class, factory::get);
+  }
+
+  private static Provider<Integer> awaitingProvider(CyclicBarrier barrier, int value) {
+    return () -> {
+      try {
+        barrier.await(10, SECONDS);
+      } catch (Exception e) {
+        throw new AssertionError(e);
+      }
+      return value;
+    };
+  }
+
+  private static Provider<Integer> incrementingIntegerProvider(int seed) {
+    final AtomicInteger value = new AtomicInteger(seed);
+    return value::getAndIncrement;
+  }
+
+  private static Provider<Set<Integer>> incrementingIntegerSetProvider(int seed) {
+    final AtomicInteger value = new AtomicInteger(seed);
+    return () -> ImmutableSet.of(value.getAndIncrement(), value.getAndIncrement());
+  }
+}
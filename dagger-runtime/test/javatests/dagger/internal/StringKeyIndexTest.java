@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class StringKeyIndexTest {
+  @Test
+  public void indexOf_returnsPositionInCollection() {
+    StringKeyIndex index =
+        StringKeyIndex.of(
+            ImmutableList.of(
+                String.class.getName(), Integer.class.getName(), List.class.getName()));
+
+    assertThat(index.size()).isEqualTo(3);
+    assertThat(index.indexOf(String.class.getName())).isEqualTo(0);
+    assertThat(index.indexOf(Integer.class.getName())).isEqualTo(1);
+    assertThat(index.indexOf(List.class.getName())).isEqualTo(2);
+  }
+
+  @Test
+  public void indexOf_missingKey() {
+    StringKeyIndex index = StringKeyIndex.of(ImmutableList.of("a", "b"));
+
+    assertThat(index.indexOf("c")).isEqualTo(-1);
+    assertThat(index.indexOf(null)).isEqualTo(-1);
+    assertThat(index.indexOf(Object.class)).isEqualTo(-1);
+  }
+
+  @Test
+  public void emptyIndex() {
+    StringKeyIndex index = StringKeyIndex.of(ImmutableList.<String>of());
+
+    assertThat(index.size()).isEqualTo(0);
+    assertThat(index.indexOf("a")).isEqualTo(-1);
+  }
+
+  @Test
+  public void keysWithSameHashCode() {
+    // "Aa" and "BB" have the same hash code, so no displacement can separate them.
+    assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+    StringKeyIndex index = StringKeyIndex.of(ImmutableList.of("x", "Aa", "BB", "y"));
+
+    assertThat(index.indexOf("x")).isEqualTo(0);
+    assertThat(index.indexOf("Aa")).isEqualTo(1);
+    assertThat(index.indexOf("BB")).isEqualTo(2);
+    assertThat(index.indexOf("y")).isEqualTo(3);
+    assertThat(index.indexOf("AaAa")).isEqualTo(-1);
+  }
+
+  @Test
+  public void manyKeys() {
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      keys.add("dagger.example.Activity" + i);
+    }
+    StringKeyIndex index = StringKeyIndex.of(keys);
+
+    for (int i = 0; i < keys.size(); i++) {
+      // Look up a copy so that the index can't rely on identity.
+      assertThat(index.indexOf(new String(keys.get(i)))).isEqualTo(i);
+    }
+    assertThat(index.indexOf("dagger.example.Activity5000")).isEqualTo(-1);
+  }
+
+  @Test
+  public void nullKey_throws() {
+    assertThrows(NullPointerException.class, () -> StringKeyIndex.of(Arrays.asList("a", null)));
+  }
+}
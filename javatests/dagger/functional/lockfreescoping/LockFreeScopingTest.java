@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.lockfreescoping;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.Sets;
+import dagger.Binds;
+import dagger.Component;
+import dagger.Module;
+import dagger.Reusable;
+import dagger.internal.LockFreeDoubleCheck;
+import dagger.internal.SingleCheck;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for components generated with {@code -Adagger.lockFreeScoping=enabled}. */
+@RunWith(JUnit4.class)
+public final class LockFreeScopingTest {
+  private static final AtomicInteger singletonInstances = new AtomicInteger();
+
+  @Singleton
+  static final class SingletonType {
+    @Inject
+    SingletonType() {
+      singletonInstances.incrementAndGet();
+    }
+  }
+
+  @Reusable
+  static final class ReusableType {
+    @Inject
+    ReusableType() {}
+  }
+
+  interface Service {}
+
+  static final class ServiceImpl implements Service {
+    @Inject
+    ServiceImpl() {}
+  }
+
+  @Module
+  interface TestModule {
+    @Binds
+    @Singleton
+    Service service(ServiceImpl impl);
+  }
+
+  @Singleton
+  @Component(modules = TestModule.class)
+  interface TestComponent {
+    SingletonType singletonType();
+
+    Provider<SingletonType> singletonTypeProvider();
+
+    Provider<ReusableType> reusableTypeProvider();
+
+    Service service();
+  }
+
+  @Test
+  public void scopedBindings_useLockFreeDoubleCheck() {
+    TestComponent component = DaggerLockFreeScopingTest_TestComponent.create();
+
+    assertThat(component.singletonTypeProvider()).isInstanceOf(LockFreeDoubleCheck.class);
+    assertThat(component.reusableTypeProvider()).isInstanceOf(SingleCheck.class);
+  }
+
+  @Test
+  public void scopedBindings_returnSameInstance() {
+    TestComponent component = DaggerLockFreeScopingTest_TestComponent.create();
+
+    assertThat(component.singletonType()).isSameInstanceAs(component.singletonType());
+    assertThat(component.singletonTypeProvider().get()).isSameInstanceAs(component.singletonType());
+    assertThat(component.service()).isSameInstanceAs(component.service());
+  }
+
+  @Test
+  public void concurrentFirstRequests_createOneInstance() throws Exception {
+    TestComponent component = DaggerLockFreeScopingTest_TestComponent.create();
+    int numThreads = 16;
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    CountDownLatch latch = new CountDownLatch(numThreads);
+    List<Callable<SingletonType>> tasks = new ArrayList<>();
+    for (int i = 0; i < numThreads; i++) {
+      tasks.add(
+          () -> {
+            latch.countDown();
+            latch.await();
+            return component.singletonType();
+          });
+    }
+    int instancesBefore = singletonInstances.get();
+
+    Set<SingletonType> results = Sets.newIdentityHashSet();
+    for (Future<SingletonType> future : executor.invokeAll(tasks)) {
+      results.add(future.get());
+    }
+    executor.shutdown();
+
+    assertThat(results).hasSize(1);
+    assertThat(singletonInstances.get() - instancesBefore).isEqualTo(1);
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.multibindings;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import dagger.Binds;
+import dagger.BindsInstance;
+import dagger.Component;
+import dagger.Module;
+import dagger.Provides;
+import dagger.multibindings.IntoMap;
+import dagger.multibindings.IntoSet;
+import dagger.multibindings.StringKey;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests that a multibinding whose contributions always provide the same instance is created once
+ * per component.
+ */
+@RunWith(JUnit4.class)
+public final class MemoizedMultibindingsTest {
+  interface Plugin {}
+
+  @Singleton
+  static final class SingletonPlugin implements Plugin {
+    @Inject
+    SingletonPlugin() {}
+  }
+
+  static final class InstancePlugin implements Plugin {}
+
+  static final class UnscopedPlugin implements Plugin {
+    @Inject
+    UnscopedPlugin() {}
+  }
+
+  @Module
+  interface TestModule {
+    @Binds
+    @IntoSet
+    @Named("stable")
+    Plugin singletonIntoSet(SingletonPlugin plugin);
+
+    @Binds
+    @IntoSet
+    @Named("stable")
+    Plugin instanceIntoSet(InstancePlugin plugin);
+
+    @Binds
+    @IntoMap
+    @StringKey("singleton")
+    Plugin singletonIntoMap(SingletonPlugin plugin);
+
+    @Binds
+    @IntoMap
+    @StringKey("instance")
+    Plugin instanceIntoMap(InstancePlugin plugin);
+
+    @Binds
+    @IntoSet
+    @Named("unstable")
+    Plugin singletonIntoUnstableSet(SingletonPlugin plugin);
+
+    @Provides
+    @IntoSet
+    @Named("unstable")
+    static Plugin unscopedIntoUnstableSet() {
+      return new UnscopedPlugin();
+    }
+  }
+
+  @Singleton
+  @Component(modules = TestModule.class)
+  interface TestComponent {
+    @Named("stable")
+    Set<Plugin> stableSet();
+
+    @Named("stable")
+    Provider<Set<Plugin>> stableSetProvider();
+
+    Map<String, Plugin> stableMap();
+
+    @Named("unstable")
+    Set<Plugin> unstableSet();
+
+    @Component.Factory
+    interface Factory {
+      TestComponent create(@BindsInstance InstancePlugin instancePlugin);
+    }
+  }
+
+  private final InstancePlugin instancePlugin = new InstancePlugin();
+  private final TestComponent component =
+      DaggerMemoizedMultibindingsTest_TestComponent.factory().create(instancePlugin);
+
+  @Test
+  public void setOfScopedAndBoundInstances_isReused() {
+    Set<Plugin> set = component.stableSet();
+
+    assertThat(set).hasSize(2);
+    assertThat(set).contains(instancePlugin);
+    assertThat(component.stableSet()).isSameInstanceAs(set);
+    assertThat(component.stableSetProvider().get()).isSameInstanceAs(set);
+  }
+
+  @Test
+  public void mapOfScopedAndBoundInstances_isReused() {
+    Map<String, Plugin> map = component.stableMap();
+
+    assertThat(map).containsEntry("instance", instancePlugin);
+    assertThat(map.get("singleton")).isInstanceOf(SingletonPlugin.class);
+    assertThat(component.stableMap()).isSameInstanceAs(map);
+  }
+
+  @Test
+  public void setWithUnscopedContribution_isNotReused() {
+    Set<Plugin> set = component.unstableSet();
+
+    assertThat(set).hasSize(2);
+    assertThat(component.unstableSet()).isNotSameInstanceAs(set);
+  }
+
+  @Test
+  public void separateComponents_doNotShareMemoizedMultibindings() {
+    TestComponent other =
+        DaggerMemoizedMultibindingsTest_TestComponent.factory().create(new InstancePlugin());
+
+    assertThat(other.stableSet()).isNotSameInstanceAs(component.stableSet());
+  }
+}
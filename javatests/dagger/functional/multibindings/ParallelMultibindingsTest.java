@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.multibindings;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.google.common.collect.ImmutableSet;
+import dagger.Component;
+import dagger.Module;
+import dagger.Provides;
+import dagger.multibindings.AssembledInParallel;
+import dagger.multibindings.ElementsIntoSet;
+import dagger.multibindings.IntoSet;
+import dagger.multibindings.Multibinds;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import javax.inject.Named;
+import javax.inject.Provider;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for sets declared with {@link AssembledInParallel @AssembledInParallel}. */
+@RunWith(JUnit4.class)
+public final class ParallelMultibindingsTest {
+  /** Shared by the contributions so that the set can only be built if they run concurrently. */
+  private static final CyclicBarrier barrier = new CyclicBarrier(2);
+
+  private static String awaitBarrier(String plugin) {
+    try {
+      barrier.await(10, SECONDS);
+    } catch (Exception e) {
+      throw new AssertionError(e);
+    }
+    return plugin;
+  }
+
+  @Module
+  interface TestModule {
+    @Multibinds
+    @AssembledInParallel
+    Set<String> plugins();
+
+    @Multibinds
+    @AssembledInParallel
+    @Named("empty")
+    Set<String> emptyPlugins();
+
+    @Provides
+    @IntoSet
+    static String slowPlugin() {
+      return awaitBarrier("slow");
+    }
+
+    @Provides
+    @ElementsIntoSet
+    static Set<String> slowPlugins() {
+      return ImmutableSet.of(awaitBarrier("slowToo"), "fast");
+    }
+  }
+
+  @Component(modules = TestModule.class)
+  interface TestComponent {
+    Set<String> plugins();
+
+    Provider<Set<String>> pluginsProvider();
+
+    @Named("empty")
+    Set<String> emptyPlugins();
+  }
+
+  /** Released once the failing contribution is about to throw. */
+  private static final CountDownLatch failing = new CountDownLatch(1);
+
+  private static final IllegalStateException FAILURE = new IllegalStateException("expected");
+
+  @Module
+  interface FailingModule {
+    @Multibinds
+    @AssembledInParallel
+    Set<String> plugins();
+
+    @Provides
+    @IntoSet
+    static String waitingPlugin() {
+      // Keep the requesting thread busy, so that the failing contribution runs on another thread.
+      try {
+        failing.await(10, SECONDS);
+      } catch (InterruptedException e) {
+        throw new AssertionError(e);
+      }
+      return "waiting";
+    }
+
+    @Provides
+    @IntoSet
+    static String failingPlugin() {
+      failing.countDown();
+      throw FAILURE;
+    }
+  }
+
+  @Component(modules = FailingModule.class)
+  interface FailingComponent {
+    Set<String> plugins();
+  }
+
+  private final TestComponent component = DaggerParallelMultibindingsTest_TestComponent.create();
+
+  @Test
+  public void contributionsAreRequestedConcurrently() {
+    assertThat(component.plugins()).containsExactly("slow", "slowToo", "fast").inOrder();
+  }
+
+  @Test
+  public void providerRequestsNewSet() {
+    Provider<Set<String>> pluginsProvider = component.pluginsProvider();
+
+    Set<String> plugins = pluginsProvider.get();
+    assertThat(pluginsProvider.get()).isEqualTo(plugins);
+    assertThat(pluginsProvider.get()).isNotSameInstanceAs(plugins);
+  }
+
+  @Test
+  public void emptySet() {
+    assertThat(component.emptyPlugins()).isEmpty();
+  }
+
+  @Test
+  public void failingContribution_rethrowsOriginalException() {
+    FailingComponent failingComponent = DaggerParallelMultibindingsTest_FailingComponent.create();
+
+    IllegalStateException thrown =
+        assertThrows(IllegalStateException.class, failingComponent::plugins);
+    assertThat(thrown).isSameInstanceAs(FAILURE);
+  }
+}
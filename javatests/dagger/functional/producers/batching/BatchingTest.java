@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers.batching;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.BindsInstance;
+import dagger.multibindings.IntoSet;
+import dagger.producers.BatchLoader;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.Production;
+import dagger.producers.ProductionComponent;
+import dagger.producers.ProductionScope;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import javax.inject.Inject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class BatchingTest {
+  /** An in-process stand-in for a backend that can look up many users in one call. */
+  static final class FakeUserBackend {
+    final List<Set<Long>> requests = new ArrayList<>();
+
+    ListenableFuture<Map<Long, String>> getUsers(Set<Long> ids) {
+      requests.add(ImmutableSet.copyOf(ids));
+      ImmutableMap.Builder<Long, String> users = ImmutableMap.builder();
+      for (long id : ids) {
+        users.put(id, "user" + id);
+      }
+      return Futures.immediateFuture(users.buildOrThrow());
+    }
+  }
+
+  @ProductionScope
+  static final class UserLoader extends BatchLoader<Long, String> {
+    private final FakeUserBackend backend;
+
+    @Inject
+    UserLoader(@Production Executor executor, FakeUserBackend backend) {
+      super(executor);
+      this.backend = backend;
+    }
+
+    @Override
+    protected ListenableFuture<Map<Long, String>> loadAll(Set<Long> ids) {
+      return backend.getUsers(ids);
+    }
+  }
+
+  @ProducerModule
+  static final class UsersModule {
+    @Produces
+    static ImmutableList<Long> postAuthors() {
+      return ImmutableList.of(1L, 2L, 1L);
+    }
+
+    @Produces
+    @IntoSet
+    static ListenableFuture<String> firstAuthor(ImmutableList<Long> authors, UserLoader users) {
+      return users.load(authors.get(0));
+    }
+
+    @Produces
+    @IntoSet
+    static ListenableFuture<String> secondAuthor(ImmutableList<Long> authors, UserLoader users) {
+      return users.load(authors.get(1));
+    }
+
+    @Produces
+    @IntoSet
+    static ListenableFuture<String> thirdAuthor(ImmutableList<Long> authors, UserLoader users) {
+      return users.load(authors.get(2));
+    }
+
+    @Produces
+    @IntoSet
+    static ListenableFuture<String> viewer(ImmutableList<Long> authors, UserLoader users) {
+      // Waits for the authors too, so that all four lookups become ready at the same time.
+      return users.load(3L);
+    }
+  }
+
+  @ProductionComponent(modules = UsersModule.class)
+  interface UsersComponent {
+    ListenableFuture<Set<String>> users();
+
+    @ProductionComponent.Factory
+    interface Factory {
+      UsersComponent create(
+          @BindsInstance @Production Executor executor,
+          @BindsInstance FakeUserBackend backend);
+    }
+  }
+
+  /** An executor that runs nothing until {@link #runAll()} is called. */
+  private static final class QueueingExecutor implements Executor {
+    final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public void execute(Runnable task) {
+      tasks.add(task);
+    }
+
+    void runAll() {
+      for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+        task.run();
+      }
+    }
+  }
+
+  @Test
+  public void producersRunTogether_shareOneBackendRequest() throws Exception {
+    QueueingExecutor executor = new QueueingExecutor();
+    FakeUserBackend backend = new FakeUserBackend();
+    UsersComponent component =
+        DaggerBatchingTest_UsersComponent.factory().create(executor, backend);
+
+    ListenableFuture<Set<String>> users = component.users();
+    executor.runAll();
+
+    assertThat(users.get()).containsExactly("user1", "user2", "user3");
+    assertThat(backend.requests).containsExactly(ImmutableSet.of(1L, 2L, 3L));
+  }
+
+  @Test
+  public void eachComponent_hasItsOwnLoader() throws Exception {
+    QueueingExecutor executor = new QueueingExecutor();
+    FakeUserBackend backend = new FakeUserBackend();
+    UsersComponent.Factory factory = DaggerBatchingTest_UsersComponent.factory();
+
+    ListenableFuture<Set<String>> first = factory.create(executor, backend).users();
+    ListenableFuture<Set<String>> second = factory.create(executor, backend).users();
+    executor.runAll();
+
+    assertThat(first.get()).containsExactly("user1", "user2", "user3");
+    assertThat(second.get()).containsExactly("user1", "user2", "user3");
+    assertThat(backend.requests).hasSize(2);
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers.deadline;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.fail;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import dagger.BindsInstance;
+import dagger.multibindings.IntoSet;
+import dagger.producers.Produced;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.Production;
+import dagger.producers.ProductionComponent;
+import dagger.producers.ProductionDeadline;
+import dagger.producers.ProductionDeadlineExceededException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ProductionDeadlineTest {
+  static final class Critical {}
+
+  static final class Extra {
+    final int id;
+
+    Extra(int id) {
+      this.id = id;
+    }
+  }
+
+  @ProducerModule
+  static final class BackendModule {
+    @Produces
+    static ListenableFuture<Integer> extraId(SettableFuture<Integer> backend) {
+      return backend;
+    }
+  }
+
+  @ProducerModule(includes = BackendModule.class)
+  static final class ResponseModule {
+    @Produces
+    static Critical critical() {
+      return new Critical();
+    }
+
+    @Produces
+    static Extra extra(Integer extraId) {
+      return new Extra(extraId);
+    }
+
+    @Produces
+    static String response(Critical critical, Produced<Extra> extra) {
+      try {
+        return "extra" + extra.get().id;
+      } catch (ExecutionException e) {
+        return "degraded: " + e.getCause().getClass().getSimpleName();
+      }
+    }
+  }
+
+  @ProductionComponent(modules = ResponseModule.class)
+  interface ResponseComponent {
+    ListenableFuture<String> response();
+
+    @ProductionComponent.Factory
+    interface Factory {
+      ResponseComponent create(
+          @BindsInstance @Production Executor executor,
+          @BindsInstance SettableFuture<Integer> backend);
+    }
+  }
+
+  @ProducerModule(includes = BackendModule.class)
+  static final class MultibindingResponseModule {
+    @Produces
+    @IntoSet
+    static Extra extra(Integer extraId) {
+      return new Extra(extraId);
+    }
+
+    @Produces
+    static String response(Set<Produced<Extra>> extras) {
+      for (Produced<Extra> extra : extras) {
+        try {
+          extra.get();
+        } catch (ExecutionException e) {
+          return "degraded: " + e.getCause().getClass().getSimpleName();
+        }
+      }
+      return "extras" + extras.size();
+    }
+  }
+
+  @ProductionComponent(modules = MultibindingResponseModule.class)
+  interface MultibindingResponseComponent {
+    ListenableFuture<String> response();
+
+    @ProductionComponent.Factory
+    interface Factory {
+      MultibindingResponseComponent create(
+          @BindsInstance @Production Executor executor,
+          @BindsInstance SettableFuture<Integer> backend);
+    }
+  }
+
+  /** An executor that runs nothing until {@link #runAll()} is called. */
+  private static final class QueueingExecutor implements Executor {
+    final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public void execute(Runnable task) {
+      tasks.add(task);
+    }
+
+    void runAll() {
+      for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+        task.run();
+      }
+    }
+  }
+
+  private final QueueingExecutor executor = new QueueingExecutor();
+  private final SettableFuture<Integer> backend = SettableFuture.create();
+
+  @Test
+  public void beforeDeadline() throws Exception {
+    ProductionDeadline deadline = ProductionDeadline.after(1, HOURS);
+    ResponseComponent component =
+        DaggerProductionDeadlineTest_ResponseComponent.factory()
+            .create(deadline.enforcedOn(executor), backend);
+
+    ListenableFuture<String> response = component.response();
+    executor.runAll();
+    backend.set(1);
+    executor.runAll();
+
+    assertThat(response.get()).isEqualTo("extra1");
+  }
+
+  @Test
+  public void deadlinePassesWhileWaiting_skipsOptionalInput() throws Exception {
+    ProductionDeadline deadline = ProductionDeadline.after(20, MILLISECONDS);
+    ResponseComponent component =
+        DaggerProductionDeadlineTest_ResponseComponent.factory()
+            .create(deadline.enforcedOn(executor), backend);
+
+    ListenableFuture<String> response = component.response();
+    executor.runAll();
+    awaitExpiry(deadline);
+    backend.set(1);
+    executor.runAll();
+
+    assertThat(response.get()).isEqualTo("degraded: ProductionDeadlineExceededException");
+  }
+
+  @Test
+  public void deadlinePassesWhileWaiting_skipsMultiboundProducedInput() throws Exception {
+    ProductionDeadline deadline = ProductionDeadline.after(20, MILLISECONDS);
+    MultibindingResponseComponent component =
+        DaggerProductionDeadlineTest_MultibindingResponseComponent.factory()
+            .create(deadline.enforcedOn(executor), backend);
+
+    ListenableFuture<String> response = component.response();
+    executor.runAll();
+    awaitExpiry(deadline);
+    backend.set(1);
+    executor.runAll();
+
+    assertThat(response.get()).isEqualTo("degraded: ProductionDeadlineExceededException");
+  }
+
+  @Test
+  public void requestedAfterDeadline_fails() throws Exception {
+    ProductionDeadline deadline = ProductionDeadline.after(0, MILLISECONDS);
+    ResponseComponent component =
+        DaggerProductionDeadlineTest_ResponseComponent.factory()
+            .create(deadline.enforcedOn(executor), backend);
+
+    ListenableFuture<String> response = component.response();
+
+    assertThat(executor.tasks).isEmpty();
+    try {
+      response.get();
+      fail();
+    } catch (ExecutionException e) {
+      assertThat(e).hasCauseThat().isInstanceOf(ProductionDeadlineExceededException.class);
+    }
+  }
+
+  private static void awaitExpiry(ProductionDeadline deadline) throws InterruptedException {
+    while (!deadline.isExpired()) {
+      Thread.sleep(5);
+    }
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers.inline;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static org.junit.Assert.fail;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import dagger.BindsInstance;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.Production;
+import dagger.producers.ProductionComponent;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for components generated with {@code -Adagger.inlineReadyProducers=enabled}. */
+@RunWith(JUnit4.class)
+public final class InlineReadyProducersTest {
+  interface Dependency {
+    ListenableFuture<Long> longFuture();
+  }
+
+  @ProducerModule
+  static final class Module {
+    @Produces
+    static int i() {
+      return 4;
+    }
+
+    @Produces
+    static ListenableFuture<String> string(int i) {
+      return immediateFuture("hello" + i);
+    }
+
+    @Produces
+    static StringBuilder stringBuilder(int i, String string) {
+      return new StringBuilder(string).append(i);
+    }
+
+    @Produces
+    static double d(long l, int i) {
+      return l + i;
+    }
+
+    @Produces
+    static Object object(String string) throws Exception {
+      throw new Exception(string);
+    }
+  }
+
+  @ProductionComponent(modules = Module.class, dependencies = Dependency.class)
+  interface TestComponent {
+    ListenableFuture<StringBuilder> stringBuilder();
+
+    ListenableFuture<Double> d();
+
+    ListenableFuture<Object> object();
+
+    @ProductionComponent.Builder
+    interface Builder {
+      Builder dependency(Dependency dependency);
+
+      @BindsInstance
+      Builder executor(@Production Executor executor);
+
+      TestComponent build();
+    }
+  }
+
+  /** An executor that runs nothing until {@link #runAll()} is called. */
+  private static final class QueueingExecutor implements Executor {
+    final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public void execute(Runnable task) {
+      tasks.add(task);
+    }
+
+    void runAll() {
+      for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+        task.run();
+      }
+    }
+  }
+
+  private final QueueingExecutor executor = new QueueingExecutor();
+  private final SettableFuture<Long> longFuture = SettableFuture.create();
+  private final TestComponent component =
+      DaggerInlineReadyProducersTest_TestComponent.builder()
+          .dependency(() -> longFuture)
+          .executor(executor)
+          .build();
+
+  @Test
+  public void readyDependencies_producesInline() throws Exception {
+    ListenableFuture<StringBuilder> stringBuilder = component.stringBuilder();
+
+    assertThat(stringBuilder.isDone()).isTrue();
+    assertThat(stringBuilder.get().toString()).isEqualTo("hello44");
+    assertThat(executor.tasks).isEmpty();
+  }
+
+  @Test
+  public void pendingDependency_producesOnExecutor() throws Exception {
+    ListenableFuture<Double> d = component.d();
+    assertThat(d.isDone()).isFalse();
+
+    longFuture.set(38L);
+    assertThat(d.isDone()).isFalse();
+    assertThat(executor.tasks).hasSize(1);
+
+    executor.runAll();
+    assertThat(d.get()).isEqualTo(42.0);
+  }
+
+  @Test
+  public void producesMethodThrows_failsFuture() throws Exception {
+    ListenableFuture<Object> object = component.object();
+
+    assertThat(object.isDone()).isTrue();
+    try {
+      object.get();
+      fail();
+    } catch (ExecutionException e) {
+      assertThat(e).hasCauseThat().hasMessageThat().isEqualTo("hello4");
+    }
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers.priorities;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.BindsInstance;
+import dagger.producers.PriorityExecutor;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.Production;
+import dagger.producers.ProductionComponent;
+import dagger.producers.internal.PrioritizedRunnable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for components generated with {@code -Adagger.producerPriorities=enabled}. */
+@RunWith(JUnit4.class)
+public final class ProducerPrioritiesTest {
+  static final class Leaf {}
+
+  static final class A {}
+
+  static final class B {}
+
+  static final class C {}
+
+  static final class Response {}
+
+  /** Records the producers that run, in order. */
+  @ProducerModule
+  static final class Module {
+    final List<String> calls = new ArrayList<>();
+
+    @Produces
+    Response response(Leaf leaf, A a) {
+      calls.add("response");
+      return new Response();
+    }
+
+    @Produces
+    Leaf leaf() {
+      calls.add("leaf");
+      return new Leaf();
+    }
+
+    @Produces
+    A a(B b) {
+      calls.add("a");
+      return new A();
+    }
+
+    @Produces
+    B b(C c) {
+      calls.add("b");
+      return new B();
+    }
+
+    @Produces
+    C c() {
+      calls.add("c");
+      return new C();
+    }
+  }
+
+  @ProductionComponent(modules = Module.class)
+  interface TestComponent {
+    ListenableFuture<Response> response();
+
+    @ProductionComponent.Builder
+    interface Builder {
+      Builder module(Module module);
+
+      @BindsInstance
+      Builder executor(@Production Executor executor);
+
+      TestComponent build();
+    }
+  }
+
+  /** An executor that runs nothing until {@link #runNext()} or {@link #runAll()} is called. */
+  private static final class QueueingExecutor implements Executor {
+    final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public void execute(Runnable task) {
+      tasks.add(task);
+    }
+
+    void runNext() {
+      tasks.remove().run();
+    }
+
+    void runAll() {
+      for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+        task.run();
+      }
+    }
+  }
+
+  private final Module module = new Module();
+
+  @Test
+  public void producersAreSubmittedWithTheirLongestPathToAnEntryPoint() throws Exception {
+    List<Integer> priorities = new ArrayList<>();
+    Executor recordingExecutor =
+        task -> {
+          priorities.add(PrioritizedRunnable.priorityOf(task));
+          task.run();
+        };
+    TestComponent component =
+        DaggerProducerPrioritiesTest_TestComponent.builder()
+            .module(module)
+            .executor(recordingExecutor)
+            .build();
+
+    assertThat(component.response().isDone()).isTrue();
+    assertThat(module.calls).containsExactly("leaf", "c", "b", "a", "response").inOrder();
+    assertThat(priorities).containsExactly(1, 3, 2, 1, 0).inOrder();
+  }
+
+  @Test
+  public void priorityExecutor_runsCriticalPathFirst() throws Exception {
+    QueueingExecutor pool = new QueueingExecutor();
+    TestComponent component =
+        DaggerProducerPrioritiesTest_TestComponent.builder()
+            .module(module)
+            .executor(PriorityExecutor.create(pool))
+            .build();
+
+    ListenableFuture<Response> response = component.response();
+    // Leaf was submitted first, but C is at the start of the longest chain.
+    assertThat(pool.tasks).hasSize(2);
+    pool.runNext();
+    assertThat(module.calls).containsExactly("c");
+
+    pool.runAll();
+    assertThat(response.isDone()).isTrue();
+    assertThat(module.calls).containsExactly("c", "b", "leaf", "a", "response").inOrder();
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.virtualthreads;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.google.common.collect.Sets;
+import dagger.Component;
+import dagger.Module;
+import dagger.Provides;
+import dagger.internal.VirtualThreadSafeDoubleCheck;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.AssumptionViolatedException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for components generated with {@code -Adagger.virtualThreadSafeScoping=enabled}. */
+@RunWith(JUnit4.class)
+public final class VirtualThreadSafeScopingTest {
+  private static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+
+  static final class Config {}
+
+  @Module
+  interface ConfigModule {
+    @Provides
+    @Singleton
+    static Config config() {
+      // Stands in for a @Provides method that loads configuration over the network.
+      try {
+        Thread.sleep(100);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new Config();
+    }
+  }
+
+  @Singleton
+  @Component(modules = ConfigModule.class)
+  interface TestComponent {
+    Config config();
+
+    Provider<Config> configProvider();
+  }
+
+  @Test
+  public void scopedBindings_useVirtualThreadSafeDoubleCheck() {
+    TestComponent component = DaggerVirtualThreadSafeScopingTest_TestComponent.create();
+
+    assertThat(component.configProvider()).isInstanceOf(VirtualThreadSafeDoubleCheck.class);
+    assertThat(component.config()).isSameInstanceAs(component.config());
+  }
+
+  @Test
+  public void singletonInitialization_doesNotPinCarrierThreads() throws Exception {
+    ExecutorService executor = newVirtualThreadPerTaskExecutor();
+    TestComponent component = DaggerVirtualThreadSafeScopingTest_TestComponent.create();
+    int numThreads = 32;
+    CountDownLatch latch = new CountDownLatch(numThreads);
+
+    List<RecordedEvent> pinnedEvents = new ArrayList<>();
+    Set<Config> results = Sets.newIdentityHashSet();
+    try (Recording recording = new Recording()) {
+      recording.enable(VIRTUAL_THREAD_PINNED).withThreshold(Duration.ZERO);
+      recording.start();
+
+      List<Future<Config>> futures = new ArrayList<>();
+      for (int i = 0; i < numThreads; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  latch.countDown();
+                  latch.await();
+                  return component.config();
+                }));
+      }
+      for (Future<Config> future : futures) {
+        results.add(future.get());
+      }
+      executor.shutdown();
+      assertThat(executor.awaitTermination(10, SECONDS)).isTrue();
+
+      recording.stop();
+      Path dump = Files.createTempFile("virtual-thread-pinning", ".jfr");
+      try {
+        recording.dump(dump);
+        for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+          if (event.getEventType().getName().equals(VIRTUAL_THREAD_PINNED)) {
+            pinnedEvents.add(event);
+          }
+        }
+      } finally {
+        Files.delete(dump);
+      }
+    }
+
+    assertThat(results).hasSize(1);
+    assertThat(pinnedEvents).isEmpty();
+  }
+
+  private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+    // Looked up reflectively since tests are compiled with -source 8.
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (NoSuchMethodException e) {
+      throw new AssumptionViolatedException("Virtual threads require JDK 21 or later", e);
+    }
+  }
+}
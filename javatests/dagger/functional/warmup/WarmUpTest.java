@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.warmup;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertThrows;
+
+import dagger.BindsInstance;
+import dagger.Component;
+import dagger.Module;
+import dagger.Provides;
+import dagger.Reusable;
+import dagger.Subcomponent;
+import dagger.Warmable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Scope;
+import javax.inject.Singleton;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for the generated implementation of {@link Warmable#warmUp}. */
+@RunWith(JUnit4.class)
+public final class WarmUpTest {
+  /** Records the order in which bindings are created. */
+  static final class Recorder {
+    private final List<Class<?>> created = new ArrayList<>();
+    private final CyclicBarrier parallelBarrier;
+
+    Recorder(int parallelParties) {
+      this.parallelBarrier = new CyclicBarrier(parallelParties);
+    }
+
+    synchronized void created(Object instance) {
+      created.add(instance.getClass());
+    }
+
+    synchronized List<Class<?>> created() {
+      return new ArrayList<>(created);
+    }
+
+    /** Blocks until every binding that is expected to be created in parallel has called this. */
+    void awaitParallelCreation() {
+      try {
+        parallelBarrier.await(10, SECONDS);
+      } catch (Exception e) {
+        throw new IllegalStateException("Bindings were not created in parallel", e);
+      }
+    }
+  }
+
+  static final class Config {}
+
+  @Singleton
+  static final class Database {
+    @Inject
+    Database(Config config, Recorder recorder) {
+      recorder.awaitParallelCreation();
+      recorder.created(this);
+    }
+  }
+
+  @Singleton
+  static final class Cache {
+    @Inject
+    Cache(Config config, Recorder recorder) {
+      recorder.awaitParallelCreation();
+      recorder.created(this);
+    }
+  }
+
+  /** An unscoped binding between scoped bindings, which is not warmed up itself. */
+  static final class Repository {
+    @Inject
+    Repository(Database database, Cache cache, Recorder recorder) {
+      recorder.created(this);
+    }
+  }
+
+  @Singleton
+  static final class RequestHandler {
+    @Inject
+    RequestHandler(Repository repository, Recorder recorder) {
+      recorder.created(this);
+    }
+  }
+
+  @Reusable
+  static final class Formatter {
+    @Inject
+    Formatter(Recorder recorder) {
+      recorder.created(this);
+    }
+  }
+
+  @Module
+  static final class ConfigModule {
+    @Provides
+    @Singleton
+    static Config config(Recorder recorder) {
+      Config config = new Config();
+      recorder.created(config);
+      return config;
+    }
+  }
+
+  @Singleton
+  @Component(modules = ConfigModule.class)
+  interface ServerComponent extends Warmable {
+    RequestHandler requestHandler();
+
+    Provider<Formatter> formatter();
+
+    RequestComponent requestComponent();
+
+    @Component.Factory
+    interface Factory {
+      ServerComponent create(@BindsInstance Recorder recorder);
+    }
+  }
+
+  @Scope
+  @interface RequestScoped {}
+
+  @RequestScoped
+  static final class Session {
+    @Inject
+    Session(RequestHandler requestHandler, Recorder recorder) {
+      recorder.created(this);
+    }
+  }
+
+  @RequestScoped
+  @Subcomponent
+  interface RequestComponent extends Warmable {
+    Session session();
+  }
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void warmUp_createsScopedBindingsInDependencyOrder() throws Exception {
+    Recorder recorder = new Recorder(2);
+    ServerComponent component = DaggerWarmUpTest_ServerComponent.factory().create(recorder);
+
+    component.warmUp(executor);
+
+    List<Class<?>> created = recorder.created();
+    assertThat(created.subList(0, 1)).containsExactly(Config.class);
+    assertThat(created.subList(1, 3)).containsExactly(Database.class, Cache.class);
+    assertThat(created.subList(3, created.size()))
+        .containsExactly(Repository.class, RequestHandler.class)
+        .inOrder();
+  }
+
+  @Test
+  public void warmUp_scopedBindingsAreNotCreatedAgain() throws Exception {
+    Recorder recorder = new Recorder(2);
+    ServerComponent component = DaggerWarmUpTest_ServerComponent.factory().create(recorder);
+    component.warmUp(executor);
+    int createdByWarmUp = recorder.created().size();
+
+    RequestHandler requestHandler = component.requestHandler();
+
+    assertThat(component.requestHandler()).isSameInstanceAs(requestHandler);
+    assertThat(recorder.created()).hasSize(createdByWarmUp);
+  }
+
+  @Test
+  public void warmUp_subcomponentOnlyCreatesItsOwnScopedBindings() throws Exception {
+    Recorder recorder = new Recorder(2);
+    ServerComponent component = DaggerWarmUpTest_ServerComponent.factory().create(recorder);
+    component.warmUp(executor);
+    RequestComponent requestComponent = component.requestComponent();
+
+    requestComponent.warmUp(executor);
+
+    List<Class<?>> created = recorder.created();
+    assertThat(created.get(created.size() - 1)).isEqualTo(Session.class);
+    assertThat(created).containsNoDuplicates();
+  }
+
+  static final class BrokenConnection {}
+
+  @Module
+  static final class BrokenModule {
+    static final AtomicInteger attempts = new AtomicInteger();
+
+    @Provides
+    @Singleton
+    static BrokenConnection brokenConnection() {
+      attempts.incrementAndGet();
+      throw new IllegalStateException("Connection refused");
+    }
+  }
+
+  @Singleton
+  @Component(modules = BrokenModule.class)
+  interface BrokenComponent extends Warmable {
+    BrokenConnection brokenConnection();
+  }
+
+  @Test
+  public void warmUp_rethrowsFailures() {
+    BrokenComponent component = DaggerWarmUpTest_BrokenComponent.create();
+
+    IllegalStateException e =
+        assertThrows(IllegalStateException.class, () -> component.warmUp(executor));
+
+    assertThat(e).hasMessageThat().isEqualTo("Connection refused");
+    // The failed binding can still be retried on the request path.
+    assertThrows(IllegalStateException.class, component::brokenConnection);
+    assertThat(BrokenModule.attempts.get()).isEqualTo(2);
+  }
+}
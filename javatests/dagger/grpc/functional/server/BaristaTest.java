@@ -23,6 +23,7 @@ import static com.google.protos.test.CoffeeService.CoffeeType.DRIP;
 import static com.google.protos.test.CoffeeService.CoffeeType.ESPRESSO;
 import static com.google.protos.test.CoffeeService.CoffeeType.LATTE;
 import static com.google.protos.test.CoffeeService.CoffeeType.POUR_OVER;
+import static io.grpc.MethodDescriptor.generateFullMethodName;
 import static java.util.Arrays.asList;
 
 import com.google.common.collect.ImmutableList;
@@ -32,6 +33,7 @@ import com.google.protos.test.BaristaGrpc.BaristaStub;
 import com.google.protos.test.CoffeeService.CoffeeRequest;
 import com.google.protos.test.CoffeeService.CoffeeResponse;
 import com.google.protos.test.CoffeeService.CoffeeType;
+import dagger.grpc.server.CallMetrics;
 import io.grpc.inprocess.InProcessChannelBuilder;
 import io.grpc.stub.StreamObserver;
 import java.util.ArrayList;
@@ -109,6 +111,27 @@ public class BaristaTest {
         .containsExactly(response("Here you go!", POUR_OVER, LATTE));
   }
 
+  @Test
+  public void testMethodInterceptors() {
+    barista.unaryGetCoffee(request(POUR_OVER, LATTE), responseObserver);
+    responseObserver.responses();
+    CoffeeResponseObserver streamingResponseObserver = new CoffeeResponseObserver();
+    barista.serverStreamingGetCoffee(request(DRIP), streamingResponseObserver);
+    streamingResponseObserver.responses();
+
+    CallMetrics unaryMetrics =
+        coffeeServer.callMetrics(
+            generateFullMethodName(BaristaGrpc.SERVICE_NAME, "UnaryGetCoffee"));
+    assertThat(unaryMetrics.requestMessages()).isAtLeast(1L);
+    assertThat(unaryMetrics.responseMessages()).isAtLeast(1L);
+    assertThat(unaryMetrics.requestBytes())
+        .isAtLeast((long) request(POUR_OVER, LATTE).getSerializedSize());
+    assertThat(
+            coffeeServer.callMetrics(
+                generateFullMethodName(BaristaGrpc.SERVICE_NAME, "ServerStreamingGetCoffee")))
+        .isNull();
+  }
+
   @Test
   public void testClientStreamingGetCoffee() {
     StreamObserver<CoffeeRequest> requestObserver =
@@ -16,6 +16,7 @@
 
 package dagger.grpc.functional.server;
 
+import dagger.grpc.server.CallMetricsInterceptor;
 import dagger.grpc.server.InProcessServerModule;
 import io.grpc.Server;
 import java.io.IOException;
@@ -33,6 +34,8 @@ abstract class CoffeeServer<T extends CoffeeServer<T>> {
 
   abstract CountingInterceptor countingInterceptor();
 
+  abstract CallMetricsInterceptor callMetricsInterceptor();
+
   interface Builder<T extends CoffeeServer<T>> {
     Builder<T> inProcessServerModule(InProcessServerModule serverModule);
 
@@ -16,6 +16,7 @@
 
 package dagger.grpc.functional.server;
 
+import dagger.grpc.server.CallMetrics;
 import dagger.grpc.server.InProcessServerModule;
 import java.io.IOException;
 import org.junit.rules.ExternalResource;
@@ -38,6 +39,10 @@ final class CoffeeServerResource extends ExternalResource {
     return coffeeServer.countingInterceptor().countCalls(methodName);
   }
 
+  public CallMetrics callMetrics(String methodName) {
+    return coffeeServer.callMetricsInterceptor().metrics(methodName);
+  }
+
   @Override
   protected void before() throws IOException, InterruptedException {
     coffeeServer.start();
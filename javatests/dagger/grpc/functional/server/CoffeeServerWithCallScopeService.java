@@ -22,13 +22,20 @@ import dagger.Provides;
 import dagger.Subcomponent;
 import dagger.grpc.functional.server.CoffeeServerWithCallScopeService.CallScopeServiceModule;
 import dagger.grpc.functional.server.CountingInterceptor.CountingInterceptorModule;
+import dagger.grpc.functional.server.CountingInterceptor.MethodInterceptorsModule;
 import dagger.grpc.server.CallScoped;
 import dagger.grpc.server.GrpcCallMetadataModule;
 import dagger.grpc.server.InProcessServerModule;
 import javax.inject.Singleton;
 
 @Singleton
-@Component(modules = {InProcessServerModule.class, CallScopeServiceModule.class})
+@Component(
+  modules = {
+    InProcessServerModule.class,
+    CallScopeServiceModule.class,
+    MethodInterceptorsModule.class
+  }
+)
 abstract class CoffeeServerWithCallScopeService
     extends CoffeeServer<CoffeeServerWithCallScopeService> {
 
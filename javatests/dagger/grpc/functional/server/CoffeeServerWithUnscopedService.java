@@ -21,6 +21,7 @@ import dagger.Component;
 import dagger.Module;
 import dagger.grpc.functional.server.CoffeeServerWithUnscopedService.UnscopedServiceModule;
 import dagger.grpc.functional.server.CountingInterceptor.CountingInterceptorModule;
+import dagger.grpc.functional.server.CountingInterceptor.MethodInterceptorsModule;
 import dagger.grpc.server.InProcessServerModule;
 import javax.inject.Singleton;
 
@@ -29,7 +30,8 @@ import javax.inject.Singleton;
   modules = {
     InProcessServerModule.class,
     UnscopedServiceModule.class,
-    CountingInterceptorModule.class
+    CountingInterceptorModule.class,
+    MethodInterceptorsModule.class
   }
 )
 abstract class CoffeeServerWithUnscopedService extends CoffeeServer<CoffeeServerWithUnscopedService>
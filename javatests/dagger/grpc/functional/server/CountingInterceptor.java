@@ -23,7 +23,10 @@ import com.google.common.collect.Multiset;
 import com.google.protos.test.BaristaGrpc;
 import dagger.Module;
 import dagger.Provides;
+import dagger.grpc.server.CallMetricsInterceptor;
 import dagger.grpc.server.ForGrpcService;
+import dagger.multibindings.IntoMap;
+import dagger.multibindings.StringKey;
 import io.grpc.Metadata;
 import io.grpc.ServerCall;
 import io.grpc.ServerCall.Listener;
@@ -62,4 +65,16 @@ class CountingInterceptor implements ServerInterceptor {
       return asList(countingInterceptor);
     }
   }
+
+  @Module
+  static class MethodInterceptorsModule {
+    @Provides
+    @IntoMap
+    @StringKey("test.Barista/UnaryGetCoffee")
+    @ForGrpcService(BaristaGrpc.class)
+    static List<? extends ServerInterceptor> unaryGetCoffeeInterceptors(
+        CallMetricsInterceptor callMetricsInterceptor) {
+      return asList(callMetricsInterceptor);
+    }
+  }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.grpc.server;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.google.common.collect.ImmutableMap;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class CallMetricsInterceptorTest {
+  private static final String SERVER_NAME = "CallMetricsInterceptorTest";
+
+  private final CallMetricsInterceptor callMetricsInterceptor = new CallMetricsInterceptor();
+  private Server server;
+  private ManagedChannel channel;
+
+  @Before
+  public void startServer() throws Exception {
+    server =
+        InProcessServerBuilder.forName(SERVER_NAME)
+            .directExecutor()
+            .addService(
+                MethodInterceptors.intercept(
+                    EchoService.serviceDefinition(),
+                    ImmutableMap.of(
+                        EchoService.ECHO.getFullMethodName(), asList(callMetricsInterceptor))))
+            .build()
+            .start();
+    channel = InProcessChannelBuilder.forName(SERVER_NAME).directExecutor().build();
+  }
+
+  @After
+  public void shutDown() {
+    channel.shutdownNow();
+    server.shutdownNow();
+  }
+
+  @Test
+  public void recordsCallsToInterceptedMethodOnly() throws Exception {
+    assertThat(EchoService.call(channel, EchoService.ECHO, "hi").get()).isEqualTo("hi");
+    assertThat(EchoService.call(channel, EchoService.ECHO, "hello").get()).isEqualTo("hello");
+    assertThat(EchoService.call(channel, EchoService.SHOUT, "hi").get()).isEqualTo("HI");
+
+    CallMetrics metrics = callMetricsInterceptor.metrics(EchoService.ECHO.getFullMethodName());
+    awaitCompletedCalls(metrics, 2);
+    assertThat(metrics.fullMethodName()).isEqualTo(EchoService.ECHO.getFullMethodName());
+    assertThat(metrics.inFlightCalls()).isEqualTo(0L);
+    assertThat(metrics.requestMessages()).isEqualTo(2L);
+    assertThat(metrics.responseMessages()).isEqualTo(2L);
+    assertThat(metrics.totalLatency(NANOSECONDS)).isAtLeast(metrics.maxLatency(NANOSECONDS));
+    // Sizes are only known for protobuf messages.
+    assertThat(metrics.requestBytes()).isEqualTo(0L);
+    assertThat(metrics.responseBytes()).isEqualTo(0L);
+
+    assertThat(callMetricsInterceptor.metrics(EchoService.SHOUT.getFullMethodName())).isNull();
+    assertThat(callMetricsInterceptor.allMetrics()).containsExactly(metrics);
+  }
+
+  /**
+   * The server may finish a call just after the client sees its response, so waits for the calls to
+   * be recorded.
+   */
+  private static void awaitCompletedCalls(CallMetrics metrics, long calls)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + SECONDS.toNanos(10);
+    while (metrics.completedCalls() < calls && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    assertThat(metrics.completedCalls()).isEqualTo(calls);
+  }
+}
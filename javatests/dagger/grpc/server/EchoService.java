@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.grpc.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerCall;
+import io.grpc.ServerCall.Listener;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * A hand-built service with unary methods whose requests and responses are strings, so that tests
+ * don't need generated gRPC stubs.
+ */
+final class EchoService {
+  static final String SERVICE_NAME = "test.Echo";
+
+  private static final Marshaller<String> STRING_MARSHALLER =
+      new Marshaller<String>() {
+        @Override
+        public InputStream stream(String value) {
+          return new ByteArrayInputStream(value.getBytes(UTF_8));
+        }
+
+        @Override
+        public String parse(InputStream stream) {
+          try {
+            return new String(ByteStreams.toByteArray(stream), UTF_8);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }
+      };
+
+  /** Responds with the request. */
+  static final MethodDescriptor<String, String> ECHO = unaryMethod("Echo");
+
+  /** Responds with the request in upper case. */
+  static final MethodDescriptor<String, String> SHOUT = unaryMethod("Shout");
+
+  static final ServiceDescriptor SERVICE_DESCRIPTOR =
+      new ServiceDescriptor(SERVICE_NAME, ECHO, SHOUT);
+
+  private static MethodDescriptor<String, String> unaryMethod(String methodName) {
+    return MethodDescriptor.create(
+        MethodType.UNARY,
+        MethodDescriptor.generateFullMethodName(SERVICE_NAME, methodName),
+        STRING_MARSHALLER,
+        STRING_MARSHALLER);
+  }
+
+  /** Returns a definition of the service. */
+  static ServerServiceDefinition serviceDefinition() {
+    return ServerServiceDefinition.builder(SERVICE_DESCRIPTOR)
+        .addMethod(ECHO, new UnaryHandler(false))
+        .addMethod(SHOUT, new UnaryHandler(true))
+        .build();
+  }
+
+  /** Calls {@code method} on {@code channel} and returns the response. */
+  static ListenableFuture<String> call(
+      Channel channel, MethodDescriptor<String, String> method, String request) {
+    SettableFuture<String> response = SettableFuture.create();
+    ClientCall<String, String> call = channel.newCall(method, CallOptions.DEFAULT);
+    call.start(
+        new ClientCall.Listener<String>() {
+          private String message;
+
+          @Override
+          public void onMessage(String message) {
+            this.message = message;
+          }
+
+          @Override
+          public void onClose(Status status, Metadata trailers) {
+            if (status.isOk()) {
+              response.set(message);
+            } else {
+              response.setException(status.asRuntimeException());
+            }
+          }
+        },
+        new Metadata());
+    call.request(1);
+    call.sendMessage(request);
+    call.halfClose();
+    return response;
+  }
+
+  private static final class UnaryHandler implements ServerCallHandler<String, String> {
+    private final boolean upperCase;
+
+    UnaryHandler(boolean upperCase) {
+      this.upperCase = upperCase;
+    }
+
+    @Override
+    public Listener<String> startCall(ServerCall<String, String> call, Metadata headers) {
+      call.request(1);
+      return new Listener<String>() {
+        private String request;
+
+        @Override
+        public void onMessage(String message) {
+          request = message;
+        }
+
+        @Override
+        public void onHalfClose() {
+          call.sendHeaders(new Metadata());
+          call.sendMessage(upperCase ? request.toUpperCase() : request);
+          call.close(Status.OK, new Metadata());
+        }
+      };
+    }
+  }
+
+  private EchoService() {}
+}
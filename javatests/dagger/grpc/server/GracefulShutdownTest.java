@@ -0,0 +1,225 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.grpc.server;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerCall.Listener;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class GracefulShutdownTest {
+  private static final String SERVER_NAME = "GracefulShutdownTest";
+
+  private final InFlightCalls inFlightCalls = new InFlightCalls();
+  private final CountDownLatch callStarted = new CountDownLatch(1);
+  private final CountDownLatch releaseCall = new CountDownLatch(1);
+  private final List<String> events = new CopyOnWriteArrayList<>();
+  private final ListeningExecutorService executor =
+      MoreExecutors.listeningDecorator(Executors.newCachedThreadPool());
+  private Server server;
+  private ManagedChannel channel;
+  private GracefulShutdown gracefulShutdown;
+
+  @After
+  public void tearDown() {
+    releaseCall.countDown();
+    channel.shutdownNow();
+    server.shutdownNow();
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void drain_waitsForCallsInFlightBeforeRunningTasks() throws Exception {
+    start(holdingService(), ImmutableMap.<Integer, GracefulShutdown.Task>of());
+    ListenableFuture<String> response = EchoService.call(channel, EchoService.ECHO, "hi");
+    callStarted.await();
+    assertThat(gracefulShutdown.inFlightCalls()).isEqualTo(1);
+
+    ListenableFuture<Boolean> drained = executor.submit(() -> gracefulShutdown.drain(10, SECONDS));
+    assertThat(drained.isDone()).isFalse();
+    assertThat(events).isEmpty();
+
+    releaseCall.countDown();
+
+    assertThat(drained.get(10, SECONDS)).isTrue();
+    assertThat(response.get(10, SECONDS)).isEqualTo("hi");
+    assertThat(events)
+        .containsExactly("connection pool closed with 0 calls", "cache closed with 0 calls")
+        .inOrder();
+  }
+
+  @Test
+  public void drain_cancelsCallsAtTheDeadlineAndWaitsForThemToEnd() throws Exception {
+    start(unresponsiveService(), ImmutableMap.<Integer, GracefulShutdown.Task>of());
+    EchoService.call(channel, EchoService.ECHO, "hi");
+    callStarted.await();
+
+    assertThat(gracefulShutdown.drain(100, MILLISECONDS)).isFalse();
+    // The cancelled call ended before the tasks ran.
+    assertThat(events)
+        .containsExactly("connection pool closed with 0 calls", "cache closed with 0 calls")
+        .inOrder();
+  }
+
+  @Test
+  public void drain_runsTasksEvenIfCancelledCallsDoNotEnd() throws Exception {
+    start(holdingService(), ImmutableMap.<Integer, GracefulShutdown.Task>of());
+    EchoService.call(channel, EchoService.ECHO, "hi");
+    callStarted.await();
+
+    assertThat(gracefulShutdown.drain(100, MILLISECONDS)).isFalse();
+    assertThat(events)
+        .containsExactly("connection pool closed with 1 calls", "cache closed with 1 calls")
+        .inOrder();
+  }
+
+  @Test
+  public void drain_runsTasksOnce() throws Exception {
+    start(EchoService.serviceDefinition(), ImmutableMap.<Integer, GracefulShutdown.Task>of());
+
+    assertThat(gracefulShutdown.drain(10, SECONDS)).isTrue();
+    assertThat(gracefulShutdown.drain(10, SECONDS)).isTrue();
+    assertThat(events)
+        .containsExactly("connection pool closed with 0 calls", "cache closed with 0 calls")
+        .inOrder();
+  }
+
+  @Test
+  public void concurrentDrain_waitsForFirstDrainsTasks() throws Exception {
+    CountDownLatch taskStarted = new CountDownLatch(1);
+    CountDownLatch releaseTask = new CountDownLatch(1);
+    start(
+        EchoService.serviceDefinition(),
+        ImmutableMap.<Integer, GracefulShutdown.Task>of(
+            0,
+            () -> {
+              taskStarted.countDown();
+              try {
+                releaseTask.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            }));
+
+    ListenableFuture<Boolean> first = executor.submit(() -> gracefulShutdown.drain(10, SECONDS));
+    taskStarted.await();
+    ListenableFuture<Boolean> second = executor.submit(() -> gracefulShutdown.drain(10, SECONDS));
+    Thread.sleep(100);
+    assertThat(second.isDone()).isFalse();
+
+    releaseTask.countDown();
+
+    assertThat(first.get(10, SECONDS)).isTrue();
+    assertThat(second.get(10, SECONDS)).isTrue();
+    assertThat(events)
+        .containsExactly("connection pool closed with 0 calls", "cache closed with 0 calls")
+        .inOrder();
+  }
+
+  /**
+   * Starts a server for {@code serviceDefinition} the way {@link ServerModule} does, with tasks
+   * that record the calls still in flight when they run, in addition to {@code extraTasks}.
+   */
+  private void start(
+      ServerServiceDefinition serviceDefinition,
+      ImmutableMap<Integer, GracefulShutdown.Task> extraTasks)
+      throws Exception {
+    server =
+        ServerModule.provideServer(
+                InProcessServerModule.serverNamed(SERVER_NAME).serverBuilder(),
+                Optional.empty(),
+                ImmutableSet.of(serviceDefinition),
+                Optional.of(inFlightCalls))
+            .start();
+    channel = InProcessChannelBuilder.forName(SERVER_NAME).build();
+    gracefulShutdown =
+        new GracefulShutdown(
+            server,
+            inFlightCalls,
+            ImmutableMap.<Integer, GracefulShutdown.Task>builder()
+                .putAll(extraTasks)
+                .put(2, () -> events.add("cache closed with " + inFlightCalls.count() + " calls"))
+                .put(
+                    1,
+                    () ->
+                        events.add(
+                            "connection pool closed with " + inFlightCalls.count() + " calls"))
+                .build());
+  }
+
+  /** Returns the echo service, with each call held until {@link #releaseCall} opens. */
+  private ServerServiceDefinition holdingService() {
+    return ServerInterceptors.intercept(
+        EchoService.serviceDefinition(),
+        new ServerInterceptor() {
+          @Override
+          public <RequestT, ResponseT> Listener<RequestT> interceptCall(
+              ServerCall<RequestT, ResponseT> call,
+              Metadata headers,
+              ServerCallHandler<RequestT, ResponseT> next) {
+            callStarted.countDown();
+            try {
+              releaseCall.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            return next.startCall(call, headers);
+          }
+        });
+  }
+
+  /** Returns a service whose calls never respond, but end as soon as they are cancelled. */
+  private ServerServiceDefinition unresponsiveService() {
+    return ServerServiceDefinition.builder(EchoService.SERVICE_NAME)
+        .addMethod(
+            EchoService.ECHO,
+            new ServerCallHandler<String, String>() {
+              @Override
+              public Listener<String> startCall(
+                  ServerCall<String, String> call, Metadata headers) {
+                callStarted.countDown();
+                return new Listener<String>() {};
+              }
+            })
+        .build();
+  }
+}
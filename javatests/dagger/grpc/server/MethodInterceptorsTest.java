@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.grpc.server;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.fail;
+
+import com.google.common.collect.ImmutableMap;
+import dagger.grpc.server.ProxyServerCallHandler.ServiceDefinitionFactory;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerCall.Listener;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class MethodInterceptorsTest {
+  private static final String SERVER_NAME = "MethodInterceptorsTest";
+
+  private final List<String> events = Collections.synchronizedList(new ArrayList<String>());
+  private Server server;
+  private ManagedChannel channel;
+
+  @After
+  public void shutDown() {
+    if (channel != null) {
+      channel.shutdownNow();
+    }
+    if (server != null) {
+      server.shutdownNow();
+    }
+  }
+
+  @Test
+  public void noMethodInterceptors_returnsSameDefinition() {
+    ServerServiceDefinition serviceDefinition = EchoService.serviceDefinition();
+
+    assertThat(
+            MethodInterceptors.intercept(
+                serviceDefinition, ImmutableMap.<String, List<ServerInterceptor>>of()))
+        .isSameInstanceAs(serviceDefinition);
+  }
+
+  @Test
+  public void unknownMethod_fails() {
+    try {
+      MethodInterceptors.intercept(
+          EchoService.serviceDefinition(),
+          ImmutableMap.of("test.Echo/Whisper", asList(new RecordingInterceptor("method"))));
+      fail();
+    } catch (IllegalArgumentException expected) {
+      assertThat(expected).hasMessageThat().contains("test.Echo/Whisper");
+    }
+  }
+
+  @Test
+  public void interceptsOnlyMappedMethods() throws Exception {
+    start(
+        MethodInterceptors.intercept(
+            EchoService.serviceDefinition(),
+            ImmutableMap.of(
+                EchoService.ECHO.getFullMethodName(),
+                asList(new RecordingInterceptor("first"), new RecordingInterceptor("second")))));
+
+    assertThat(EchoService.call(channel, EchoService.ECHO, "hi").get()).isEqualTo("hi");
+    assertThat(EchoService.call(channel, EchoService.SHOUT, "hi").get()).isEqualTo("HI");
+
+    assertThat(events)
+        .containsExactly(
+            "second test.Echo/Echo",
+            "first test.Echo/Echo",
+            "second received String",
+            "first received String")
+        .inOrder();
+  }
+
+  @Test
+  public void proxiedMethod_interceptsTypedCallBeforeServiceInterceptors() throws Exception {
+    final ServerServiceDefinition delegate =
+        ServerInterceptors.intercept(
+            EchoService.serviceDefinition(), new RecordingInterceptor("service"));
+    ServiceDefinitionFactory factory =
+        new ServiceDefinitionFactory() {
+          @Override
+          public ServerServiceDefinition getServiceDefinition(Metadata headers) {
+            return delegate;
+          }
+        };
+    ServerServiceDefinition proxy =
+        ServerServiceDefinition.builder(EchoService.SERVICE_NAME)
+            .addMethod(ProxyServerCallHandler.proxyMethod(EchoService.ECHO, factory))
+            .addMethod(ProxyServerCallHandler.proxyMethod(EchoService.SHOUT, factory))
+            .build();
+    start(
+        MethodInterceptors.intercept(
+            proxy,
+            ImmutableMap.of(
+                EchoService.ECHO.getFullMethodName(),
+                asList(new RecordingInterceptor("method")))));
+
+    assertThat(EchoService.call(channel, EchoService.ECHO, "hi").get()).isEqualTo("hi");
+    assertThat(EchoService.call(channel, EchoService.SHOUT, "hi").get()).isEqualTo("HI");
+
+    assertThat(events)
+        .containsExactly(
+            "method test.Echo/Echo",
+            "service test.Echo/Echo",
+            "method received String",
+            "service received String",
+            "service test.Echo/Shout",
+            "service received String")
+        .inOrder();
+  }
+
+  private void start(ServerServiceDefinition serviceDefinition) throws IOException {
+    server =
+        InProcessServerBuilder.forName(SERVER_NAME)
+            .directExecutor()
+            .addService(serviceDefinition)
+            .build()
+            .start();
+    channel = InProcessChannelBuilder.forName(SERVER_NAME).directExecutor().build();
+  }
+
+  /** Records the calls it intercepts and the types of the messages they receive. */
+  private final class RecordingInterceptor implements ServerInterceptor {
+    private final String name;
+
+    RecordingInterceptor(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public <RequestT, ResponseT> Listener<RequestT> interceptCall(
+        ServerCall<RequestT, ResponseT> call,
+        Metadata headers,
+        ServerCallHandler<RequestT, ResponseT> next) {
+      events.add(name + " " + call.getMethodDescriptor().getFullMethodName());
+      return new SimpleForwardingServerCallListener<RequestT>(next.startCall(call, headers)) {
+        @Override
+        public void onMessage(RequestT message) {
+          events.add(name + " received " + message.getClass().getSimpleName());
+          super.onMessage(message);
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.grpc.server;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.fail;
+
+import com.google.common.collect.ImmutableSet;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerCall;
+import io.grpc.ServerCall.Listener;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.netty.NettyChannelBuilder;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ServerConfigurationTest {
+  private static final String SERVER_NAME = "ServerConfigurationTest";
+
+  private final List<Server> servers = new ArrayList<>();
+  private final List<ManagedChannel> channels = new ArrayList<>();
+  private final AtomicReference<Thread> handlerThread = new AtomicReference<>();
+
+  @After
+  public void shutDown() {
+    for (ManagedChannel channel : channels) {
+      channel.shutdownNow();
+    }
+    for (Server server : servers) {
+      server.shutdownNow();
+    }
+  }
+
+  @Test
+  public void build_defaults() {
+    ServerConfiguration configuration = ServerConfiguration.builder().build();
+
+    assertThat(configuration.executor()).isEqualTo(Optional.empty());
+    assertThat(configuration.directExecutor()).isFalse();
+    assertThat(configuration.maxConcurrentCallsPerConnection()).isEqualTo(Optional.empty());
+    assertThat(configuration.flowControlWindow()).isEqualTo(Optional.empty());
+    assertThat(configuration.maxMessageSize()).isEqualTo(Optional.empty());
+  }
+
+  @Test
+  public void build_executorAndDirectExecutor_fails() {
+    try {
+      ServerConfiguration.builder().executor(directExecutor()).directExecutor(true).build();
+      fail();
+    } catch (IllegalStateException expected) {
+      assertThat(expected).hasMessageThat().contains("mutually exclusive");
+    }
+  }
+
+  @Test
+  public void build_nonPositiveLimits_fail() {
+    assertBuildFails(
+        ServerConfiguration.builder().maxConcurrentCallsPerConnection(0),
+        "maxConcurrentCallsPerConnection");
+    assertBuildFails(ServerConfiguration.builder().flowControlWindow(-1), "flowControlWindow");
+    assertBuildFails(ServerConfiguration.builder().maxMessageSize(0), "maxMessageSize");
+  }
+
+  @Test
+  public void inProcessServer_runsHandlersOnExecutor() throws Exception {
+    AtomicInteger executions = new AtomicInteger();
+    Executor executor =
+        new Executor() {
+          @Override
+          public void execute(Runnable task) {
+            executions.incrementAndGet();
+            task.run();
+          }
+        };
+    ManagedChannel channel =
+        startInProcess(ServerConfiguration.builder().executor(executor).build());
+
+    assertThat(EchoService.call(channel, EchoService.ECHO, "hi").get()).isEqualTo("hi");
+    assertThat(executions.get()).isGreaterThan(0);
+  }
+
+  @Test
+  public void inProcessServer_directExecutor_doesNotUseDefaultExecutor() throws Exception {
+    ManagedChannel channel =
+        startInProcess(ServerConfiguration.builder().directExecutor(true).build());
+
+    assertThat(EchoService.call(channel, EchoService.ECHO, "hi").get()).isEqualTo("hi");
+    // Without an executor, gRPC runs handlers on its shared default executor.
+    assertThat(handlerThread.get().getName()).doesNotContain("grpc-default-executor");
+  }
+
+  @Test
+  public void nettyServer_appliesNettySettings() throws Exception {
+    ServerConfiguration configuration =
+        ServerConfiguration.builder().maxConcurrentCallsPerConnection(10).maxMessageSize(8).build();
+    Server server =
+        start(
+            NettyServerModule.bindingToPort(0).serverBuilder(Optional.of(configuration)),
+            configuration);
+    ManagedChannel channel =
+        NettyChannelBuilder.forAddress("localhost", server.getPort()).usePlaintext(true).build();
+    channels.add(channel);
+
+    assertThat(EchoService.call(channel, EchoService.ECHO, "short").get(10, SECONDS))
+        .isEqualTo("short");
+    try {
+      EchoService.call(channel, EchoService.ECHO, "longer than eight bytes").get(10, SECONDS);
+      fail();
+    } catch (ExecutionException expected) {
+      // The request is larger than the server's maxMessageSize.
+    }
+  }
+
+  private ManagedChannel startInProcess(ServerConfiguration configuration) throws IOException {
+    start(InProcessServerModule.serverNamed(SERVER_NAME).serverBuilder(), configuration);
+    ManagedChannel channel = InProcessChannelBuilder.forName(SERVER_NAME).directExecutor().build();
+    channels.add(channel);
+    return channel;
+  }
+
+  /** Builds and starts a server the way {@link ServerModule} does. */
+  private Server start(ServerBuilder<?> serverBuilder, ServerConfiguration configuration)
+      throws IOException {
+    ServerServiceDefinition serviceDefinition =
+        ServerInterceptors.intercept(
+            EchoService.serviceDefinition(),
+            new ServerInterceptor() {
+              @Override
+              public <RequestT, ResponseT> Listener<RequestT> interceptCall(
+                  ServerCall<RequestT, ResponseT> call,
+                  Metadata headers,
+                  ServerCallHandler<RequestT, ResponseT> next) {
+                handlerThread.set(Thread.currentThread());
+                return next.startCall(call, headers);
+              }
+            });
+    Server server =
+        ServerModule.provideServer(
+                serverBuilder,
+                Optional.of(configuration),
+                ImmutableSet.of(serviceDefinition),
+                Optional.empty())
+            .start();
+    servers.add(server);
+    return server;
+  }
+
+  private static void assertBuildFails(ServerConfiguration.Builder builder, String setting) {
+    try {
+      builder.build();
+      fail();
+    } catch (IllegalArgumentException expected) {
+      assertThat(expected).hasMessageThat().contains(setting);
+    }
+  }
+}
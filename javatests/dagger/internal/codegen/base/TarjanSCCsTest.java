@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.base;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.graph.SuccessorsFunction;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class TarjanSCCsTest {
+  @Test
+  public void componentsAreInReverseTopologicalOrder() {
+    ImmutableListMultimap<String, String> edges =
+        ImmutableListMultimap.<String, String>builder()
+            .put("a", "b")
+            .put("b", "c")
+            .put("c", "a")
+            .put("c", "d")
+            .put("d", "e")
+            .put("e", "d")
+            .put("f", "a")
+            .build();
+
+    ImmutableList<ImmutableSet<String>> sccs =
+        TarjanSCCs.compute(ImmutableList.of("a", "b", "c", "d", "e", "f"), edges::get);
+
+    assertThat(sccs)
+        .containsExactly(
+            ImmutableSet.of("e", "d"), ImmutableSet.of("c", "b", "a"), ImmutableSet.of("f"))
+        .inOrder();
+  }
+
+  @Test
+  public void successorsOutsideOfNodesAreIncluded() {
+    ImmutableListMultimap<String, String> edges =
+        ImmutableListMultimap.of("a", "b", "b", "a", "b", "c");
+
+    assertThat(TarjanSCCs.compute(ImmutableList.of("a"), edges::get))
+        .containsExactly(ImmutableSet.of("c"), ImmutableSet.of("b", "a"))
+        .inOrder();
+  }
+
+  @Test
+  public void deepGraph_doesNotOverflowStack() {
+    int depth = 1_000_000;
+    // Each node depends on the next, and the last node depends on the first.
+    SuccessorsFunction<Integer> successors = node -> ImmutableList.of((node + 1) % depth);
+
+    ImmutableList<ImmutableSet<Integer>> sccs =
+        TarjanSCCs.compute(ImmutableList.of(0), successors);
+
+    assertThat(sccs).hasSize(1);
+    assertThat(sccs.get(0)).hasSize(depth);
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.fail;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class BatchLoaderTest {
+  /** An executor that runs nothing until {@link #runAll()} is called. */
+  private static final class QueueingExecutor implements Executor {
+    final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public void execute(Runnable task) {
+      tasks.add(task);
+    }
+
+    void runAll() {
+      for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+        task.run();
+      }
+    }
+  }
+
+  /** Loads the length of each key, recording the batches it was asked to load. */
+  private static class LengthLoader extends BatchLoader<String, Integer> {
+    final List<Set<String>> batches = new ArrayList<>();
+
+    LengthLoader(Executor executor) {
+      super(executor);
+    }
+
+    LengthLoader(Executor executor, int maxBatchSize) {
+      super(executor, maxBatchSize);
+    }
+
+    @Override
+    protected ListenableFuture<Map<String, Integer>> loadAll(Set<String> keys) throws Exception {
+      batches.add(ImmutableSet.copyOf(keys));
+      ImmutableMap.Builder<String, Integer> lengths = ImmutableMap.builder();
+      for (String key : keys) {
+        lengths.put(key, key.length());
+      }
+      return Futures.immediateFuture(lengths.buildOrThrow());
+    }
+  }
+
+  private final QueueingExecutor executor = new QueueingExecutor();
+
+  @Test
+  public void keysRequestedBeforeDispatch_loadedInOneBatch() throws Exception {
+    LengthLoader loader = new LengthLoader(executor);
+
+    ListenableFuture<Integer> a = loader.load("a");
+    ListenableFuture<Integer> bb = loader.load("bb");
+    ListenableFuture<Integer> ccc = loader.load("ccc");
+    assertThat(a.isDone()).isFalse();
+    assertThat(executor.tasks).hasSize(1);
+
+    executor.runAll();
+    assertThat(loader.batches).containsExactly(ImmutableSet.of("a", "bb", "ccc"));
+    assertThat(a.get()).isEqualTo(1);
+    assertThat(bb.get()).isEqualTo(2);
+    assertThat(ccc.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void keysRequestedAfterDispatch_loadedInNextBatch() throws Exception {
+    LengthLoader loader = new LengthLoader(executor);
+
+    ListenableFuture<Integer> a = loader.load("a");
+    executor.runAll();
+    ListenableFuture<Integer> bb = loader.load("bb");
+    executor.runAll();
+
+    assertThat(loader.batches)
+        .containsExactly(ImmutableSet.of("a"), ImmutableSet.of("bb"))
+        .inOrder();
+    assertThat(a.get()).isEqualTo(1);
+    assertThat(bb.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void sameKey_loadedOnce() throws Exception {
+    LengthLoader loader = new LengthLoader(executor);
+
+    ListenableFuture<Integer> first = loader.load("a");
+    ListenableFuture<Integer> second = loader.load("a");
+    executor.runAll();
+    ListenableFuture<Integer> third = loader.load("a");
+
+    assertThat(loader.batches).containsExactly(ImmutableSet.of("a"));
+    assertThat(executor.tasks).isEmpty();
+    assertThat(first.get()).isEqualTo(1);
+    assertThat(second.get()).isEqualTo(1);
+    assertThat(third.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void maxBatchSize() throws Exception {
+    LengthLoader loader = new LengthLoader(executor, 2);
+
+    loader.load("a");
+    loader.load("bb");
+    loader.load("ccc");
+    executor.runAll();
+
+    assertThat(loader.batches)
+        .containsExactly(ImmutableSet.of("a", "bb"), ImmutableSet.of("ccc"))
+        .inOrder();
+  }
+
+  @Test
+  public void missingKey_fails() throws Exception {
+    BatchLoader<String, Integer> loader =
+        new BatchLoader<String, Integer>(executor) {
+          @Override
+          protected ListenableFuture<Map<String, Integer>> loadAll(Set<String> keys) {
+            return Futures.immediateFuture(ImmutableMap.of("a", 1));
+          }
+        };
+
+    ListenableFuture<Integer> a = loader.load("a");
+    ListenableFuture<Integer> b = loader.load("b");
+    executor.runAll();
+
+    assertThat(a.get()).isEqualTo(1);
+    try {
+      b.get();
+      fail();
+    } catch (ExecutionException e) {
+      assertThat(e).hasCauseThat().isInstanceOf(NoSuchElementException.class);
+    }
+  }
+
+  @Test
+  public void loadAllFails_failsEveryKeyInBatch() throws Exception {
+    SettableFuture<Map<String, Integer>> values = SettableFuture.create();
+    BatchLoader<String, Integer> loader =
+        new BatchLoader<String, Integer>(executor) {
+          @Override
+          protected ListenableFuture<Map<String, Integer>> loadAll(Set<String> keys) {
+            return values;
+          }
+        };
+
+    ListenableFuture<Integer> a = loader.load("a");
+    ListenableFuture<Integer> b = loader.load("b");
+    executor.runAll();
+    assertThat(a.isDone()).isFalse();
+
+    Throwable t = new RuntimeException("backend unavailable");
+    values.setException(t);
+    for (ListenableFuture<Integer> future : ImmutableSet.of(a, b)) {
+      try {
+        future.get();
+        fail();
+      } catch (ExecutionException e) {
+        assertThat(e).hasCauseThat().isSameInstanceAs(t);
+      }
+    }
+  }
+
+  @Test
+  public void cancellingLoad_doesNotCancelOtherRequestsForKey() throws Exception {
+    LengthLoader loader = new LengthLoader(executor);
+
+    ListenableFuture<Integer> first = loader.load("a");
+    ListenableFuture<Integer> second = loader.load("a");
+    first.cancel(true);
+    executor.runAll();
+
+    assertThat(second.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void rejectedDispatch_failsBatch() throws Exception {
+    RejectedExecutionException rejection = new RejectedExecutionException();
+    LengthLoader loader =
+        new LengthLoader(
+            new Executor() {
+              @Override
+              public void execute(Runnable task) {
+                throw rejection;
+              }
+            });
+
+    try {
+      loader.load("a").get();
+      fail();
+    } catch (ExecutionException e) {
+      assertThat(e).hasCauseThat().isSameInstanceAs(rejection);
+    }
+    assertThat(loader.batches).isEmpty();
+  }
+}
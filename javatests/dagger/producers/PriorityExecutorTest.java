@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static org.junit.Assert.fail;
+
+import dagger.producers.internal.PrioritizedRunnable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class PriorityExecutorTest {
+  private final QueueingExecutor delegate = new QueueingExecutor();
+  private final PriorityExecutor executor = PriorityExecutor.create(delegate);
+  private final List<String> ran = new ArrayList<>();
+
+  @Test
+  public void runsHighestPriorityFirst() {
+    executor.execute(task("low", 0));
+    executor.execute(task("high", 5));
+    executor.execute(unprioritizedTask("unprioritized"));
+    executor.execute(task("medium", 2));
+
+    assertThat(delegate.tasks).hasSize(4);
+    delegate.runAll();
+    assertThat(ran).containsExactly("high", "medium", "low", "unprioritized").inOrder();
+  }
+
+  @Test
+  public void samePriority_runsInSubmissionOrder() {
+    executor.execute(task("first", 3));
+    executor.execute(task("second", 3));
+    executor.execute(task("third", 3));
+
+    delegate.runAll();
+    assertThat(ran).containsExactly("first", "second", "third").inOrder();
+  }
+
+  @Test
+  public void tasksSubmittedLater_canRunFirst() {
+    executor.execute(task("leaf", 1));
+    delegate.tasks.remove().run();
+    executor.execute(task("later leaf", 1));
+    executor.execute(task("critical", 4));
+
+    delegate.runAll();
+    assertThat(ran).containsExactly("leaf", "critical", "later leaf").inOrder();
+  }
+
+  @Test
+  public void rejectedTask_isNotRun() {
+    delegate.rejectNext = true;
+    try {
+      executor.execute(task("rejected", 1));
+      fail();
+    } catch (RejectedExecutionException expected) {
+    }
+    executor.execute(task("accepted", 0));
+
+    delegate.runAll();
+    assertThat(ran).containsExactly("accepted");
+  }
+
+  @Test
+  public void deadlineExecutor_keepsPriorities() {
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    try {
+      Executor withDeadline = ProductionDeadline.after(1, HOURS).enforcedOn(executor, scheduler);
+      withDeadline.execute(task("low", 0));
+      withDeadline.execute(task("high", 5));
+
+      delegate.runAll();
+      assertThat(ran).containsExactly("high", "low").inOrder();
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+
+  private Runnable task(String name, int priority) {
+    return new PrioritizedRunnable(unprioritizedTask(name), priority);
+  }
+
+  private Runnable unprioritizedTask(String name) {
+    return () -> ran.add(name);
+  }
+
+  /** An executor that runs nothing until {@link #runAll()} is called. */
+  private static final class QueueingExecutor implements Executor {
+    final Queue<Runnable> tasks = new ArrayDeque<>();
+    boolean rejectNext;
+
+    @Override
+    public void execute(Runnable task) {
+      if (rejectNext) {
+        rejectNext = false;
+        throw new RejectedExecutionException();
+      }
+      tasks.add(task);
+    }
+
+    void runAll() {
+      for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+        task.run();
+      }
+    }
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ProducerMapsTest {
+  private final SettableFuture<String> fast = SettableFuture.create();
+  private final SettableFuture<String> slow = SettableFuture.create();
+  private final Map<Integer, Producer<String>> producers =
+      ImmutableMap.<Integer, Producer<String>>of(1, () -> slow, 2, () -> fast);
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+  @After
+  public void shutDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  public void inCompletionOrder_fastContributionFirst() throws Exception {
+    ImmutableList<ListenableFuture<Map.Entry<Integer, Produced<String>>>> entries =
+        ProducerMaps.inCompletionOrder(producers);
+    assertThat(entries).hasSize(2);
+
+    fast.set("fast");
+    assertThat(entries.get(0).isDone()).isTrue();
+    assertThat(entries.get(0).get().getKey()).isEqualTo(2);
+    assertThat(entries.get(0).get().getValue().get()).isEqualTo("fast");
+    assertThat(entries.get(1).isDone()).isFalse();
+
+    RuntimeException failure = new RuntimeException("slow failed");
+    slow.setException(failure);
+    assertThat(entries.get(1).get().getKey()).isEqualTo(1);
+    try {
+      entries.get(1).get().getValue().get();
+      throw new AssertionError();
+    } catch (ExecutionException e) {
+      assertThat(e).hasCauseThat().isSameInstanceAs(failure);
+    }
+  }
+
+  @Test
+  public void completedWithin_allCompleteBeforeTimeout() throws Exception {
+    ListenableFuture<Map<Integer, Produced<String>>> results =
+        ProducerMaps.completedWithin(producers, 1, SECONDS, scheduler);
+
+    fast.set("fast");
+    assertThat(results.isDone()).isFalse();
+    slow.set("slow");
+
+    assertThat(results.isDone()).isTrue();
+    assertThat(results.get())
+        .isEqualTo(ImmutableMap.of(1, Produced.successful("slow"), 2, Produced.successful("fast")));
+    assertThat(results.get().keySet()).containsExactly(1, 2).inOrder();
+  }
+
+  @Test
+  public void completedWithin_timeoutReturnsPartialResults() throws Exception {
+    ListenableFuture<Map<Integer, Produced<String>>> results =
+        ProducerMaps.completedWithin(producers, 50, MILLISECONDS, scheduler);
+    fast.set("fast");
+
+    Map<Integer, Produced<String>> resultMap = results.get(10, SECONDS);
+    assertThat(resultMap.get(2)).isEqualTo(Produced.successful("fast"));
+    try {
+      resultMap.get(1).get();
+      throw new AssertionError();
+    } catch (ExecutionException e) {
+      assertThat(e).hasCauseThat().isInstanceOf(TimeoutException.class);
+    }
+    // The slow contribution is not cancelled.
+    assertThat(slow.isCancelled()).isFalse();
+  }
+
+  @Test
+  public void completedWithin_empty() throws Exception {
+    ListenableFuture<Map<Integer, Produced<String>>> results =
+        ProducerMaps.completedWithin(
+            ImmutableMap.<Integer, Producer<String>>of(), 1, SECONDS, scheduler);
+
+    assertThat(results.isDone()).isTrue();
+    assertThat(results.get()).isEmpty();
+  }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.fail;
+
+import com.google.common.testing.FakeTicker;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import dagger.internal.Provider;
+import dagger.producers.internal.AbstractProducesMethodProducer;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ProductionDeadlineTest {
+  private final FakeTicker ticker = new FakeTicker();
+  private final ProductionDeadline deadline = ProductionDeadline.after(10, SECONDS, ticker);
+  private final QueueingExecutor executor = new QueueingExecutor();
+  private final ExecutorService pool = Executors.newSingleThreadExecutor();
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+  @After
+  public void shutDown() {
+    pool.shutdownNow();
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  public void timeRemaining() {
+    assertThat(deadline.isExpired()).isFalse();
+    ticker.advance(4, SECONDS);
+    assertThat(deadline.timeRemaining(SECONDS)).isEqualTo(6L);
+    ticker.advance(6, SECONDS);
+    assertThat(deadline.isExpired()).isTrue();
+    assertThat(deadline.timeRemaining(NANOSECONDS)).isEqualTo(0L);
+  }
+
+  @Test
+  public void beforeDeadline_callsMethod() throws Exception {
+    TestProducer producer =
+        new TestProducer(deadline.enforcedOn(executor), Futures.immediateFuture((Object) "input"));
+
+    ListenableFuture<String> future = producer.get();
+    executor.runAll();
+
+    assertThat(future.get()).isEqualTo("input");
+  }
+
+  @Test
+  public void requestedAfterDeadline_failsWithoutRequestingInputs() {
+    TestProducer producer =
+        new TestProducer(deadline.enforcedOn(executor), Futures.immediateFuture((Object) "input"));
+    ticker.advance(10, SECONDS);
+
+    ListenableFuture<String> future = producer.get();
+
+    assertThat(future.isDone()).isTrue();
+    assertFailsWithDeadlineExceeded(future);
+    assertThat(producer.dependenciesCollected).isFalse();
+    assertThat(executor.tasks).isEmpty();
+  }
+
+  @Test
+  public void inputsReadyAfterDeadline_failsWithoutCallingMethod() {
+    SettableFuture<Object> input = SettableFuture.create();
+    TestProducer producer = new TestProducer(deadline.enforcedOn(executor), input);
+
+    ListenableFuture<String> future = producer.get();
+    ticker.advance(10, SECONDS);
+    input.set("input");
+    executor.runAll();
+
+    assertFailsWithDeadlineExceeded(future);
+    assertThat(producer.dependenciesCollected).isTrue();
+    assertThat(producer.methodCalled).isFalse();
+  }
+
+  @Test
+  public void handlesFailedInputs_stillCallsMethodAfterDeadline() throws Exception {
+    SettableFuture<Object> input = SettableFuture.create();
+    TestProducer producer =
+        new TestProducer(deadline.enforcedOn(executor), input) {
+          @Override
+          protected boolean handlesFailedInputs() {
+            return true;
+          }
+        };
+
+    ListenableFuture<String> future = producer.get();
+    ticker.advance(10, SECONDS);
+    input.set(Produced.failed(new ProductionDeadlineExceededException("skipped")));
+    executor.runAll();
+
+    assertThat(producer.methodCalled).isTrue();
+    assertThat(future.get()).startsWith("Produced[failed with");
+  }
+
+  @Test
+  public void runningMethod_isInterruptedAtDeadline() throws Exception {
+    ProductionDeadline deadline = ProductionDeadline.after(100, MILLISECONDS);
+    CountDownLatch blocked = new CountDownLatch(1);
+    TestProducer producer =
+        new TestProducer(
+            deadline.enforcedOn(pool, scheduler), Futures.immediateFuture((Object) "input")) {
+          @Override
+          protected ListenableFuture<String> callProducesMethod(Object input) throws Exception {
+            blocked.countDown();
+            Thread.sleep(SECONDS.toMillis(30));
+            return Futures.immediateFuture("not interrupted");
+          }
+        };
+
+    ListenableFuture<String> future = producer.get();
+    try {
+      future.get(10, SECONDS);
+      fail();
+    } catch (ExecutionException e) {
+      assertThat(e).hasCauseThat().isInstanceOf(InterruptedException.class);
+    }
+    // The interrupt doesn't leak into the next task that runs on the same thread.
+    assertThat(pool.submit(() -> Thread.currentThread().isInterrupted()).get()).isFalse();
+  }
+
+  @Test
+  public void interruptIsCancelledOnceNoMethodIsRunning() throws Exception {
+    ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+    scheduler.setRemoveOnCancelPolicy(true);
+    try {
+      ProductionDeadline deadline = ProductionDeadline.after(1, HOURS);
+      TestProducer producer =
+          new TestProducer(
+              deadline.enforcedOn(executor, scheduler), Futures.immediateFuture((Object) "input")) {
+            @Override
+            protected ListenableFuture<String> callProducesMethod(Object input) throws Exception {
+              assertThat(scheduler.getQueue()).hasSize(1);
+              return super.callProducesMethod(input);
+            }
+          };
+
+      ListenableFuture<String> future = producer.get();
+      assertThat(scheduler.getQueue()).isEmpty();
+      executor.runAll();
+
+      assertThat(future.get()).isEqualTo("input");
+      assertThat(scheduler.getQueue()).isEmpty();
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+
+  private static void assertFailsWithDeadlineExceeded(ListenableFuture<?> future) {
+    try {
+      Futures.getDone(future);
+      fail();
+    } catch (ExecutionException e) {
+      assertThat(e).hasCauseThat().isInstanceOf(ProductionDeadlineExceededException.class);
+    }
+  }
+
+  private static class TestProducer extends AbstractProducesMethodProducer<Object, String> {
+    private final ListenableFuture<Object> dependencies;
+    boolean dependenciesCollected;
+    boolean methodCalled;
+
+    TestProducer(Executor executor, ListenableFuture<Object> dependencies) {
+      super(
+          new Provider<ProductionComponentMonitor>() {
+            @Override
+            public ProductionComponentMonitor get() {
+              return ProductionComponentMonitor.noOp();
+            }
+          },
+          null,
+          new Provider<Executor>() {
+            @Override
+            public Executor get() {
+              return executor;
+            }
+          });
+      this.dependencies = dependencies;
+    }
+
+    @Override
+    protected ListenableFuture<Object> collectDependencies() {
+      dependenciesCollected = true;
+      return dependencies;
+    }
+
+    @Override
+    protected ListenableFuture<String> callProducesMethod(Object input) throws Exception {
+      methodCalled = true;
+      return Futures.immediateFuture(input.toString());
+    }
+  }
+
+  /** An executor that runs nothing until {@link #runAll()} is called. */
+  private static final class QueueingExecutor implements Executor {
+    final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public void execute(Runnable task) {
+      tasks.add(task);
+    }
+
+    void runAll() {
+      for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+        task.run();
+      }
+    }
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.fail;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import dagger.internal.Provider;
+import dagger.producers.internal.AbstractProducesMethodProducer;
+import dagger.producers.monitoring.ProducerMonitor;
+import dagger.producers.monitoring.ProducerToken;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class VirtualThreadProductionScopeTest {
+  private final VirtualThreadProductionScope scope =
+      VirtualThreadProductionScope.open(Executors.defaultThreadFactory());
+
+  @Test
+  public void open_requiresVirtualThreads() {
+    if (VirtualThreadProductionScope.isSupported()) {
+      try (VirtualThreadProductionScope virtualScope = VirtualThreadProductionScope.open()) {
+        assertThat(virtualScope.isShutdown()).isFalse();
+      }
+    } else {
+      try {
+        VirtualThreadProductionScope.open();
+        fail();
+      } catch (UnsupportedOperationException expected) {
+      }
+    }
+  }
+
+  @Test
+  public void eachTaskRunsOnItsOwnThread() throws Exception {
+    List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch allRunning = new CountDownLatch(3);
+    for (int i = 0; i < 3; i++) {
+      scope.execute(
+          () -> {
+            threads.add(Thread.currentThread());
+            allRunning.countDown();
+            try {
+              // Blocks until every task is running, which only finishes if none wait for another.
+              allRunning.await();
+            } catch (InterruptedException e) {
+              throw new AssertionError(e);
+            }
+          });
+    }
+
+    scope.join();
+    assertThat(threads).hasSize(3);
+    assertThat(threads).containsNoDuplicates();
+    assertThat(threads).doesNotContain(Thread.currentThread());
+  }
+
+  @Test
+  public void producer_runsInScopeAndNotifiesMonitor() throws Exception {
+    List<String> events = Collections.synchronizedList(new ArrayList<>());
+    Thread[] methodThread = new Thread[1];
+    SettableFuture<Integer> input = SettableFuture.create();
+    Producer<Integer> producer =
+        new AbstractProducesMethodProducer<Integer, Integer>(
+            recordingMonitor(events), null, () -> scope) {
+          @Override
+          protected ListenableFuture<Integer> collectDependencies() {
+            return input;
+          }
+
+          @Override
+          protected ListenableFuture<Integer> callProducesMethod(Integer input) {
+            methodThread[0] = Thread.currentThread();
+            return Futures.immediateFuture(input + 1);
+          }
+        };
+
+    ListenableFuture<Integer> result = producer.get();
+    input.set(41);
+
+    assertThat(result.get(10, SECONDS)).isEqualTo(42);
+    scope.join();
+    assertThat(methodThread[0]).isNotSameInstanceAs(Thread.currentThread());
+    assertThat(events)
+        .containsExactly(
+            "requested", "ready", "methodStarting", "methodFinished", "succeeded")
+        .inOrder();
+  }
+
+  @Test
+  public void shutdown_interruptsRunningThreadsAndRejectsNewTasks() throws Exception {
+    CountDownLatch running = new CountDownLatch(1);
+    SettableFuture<Boolean> interrupted = SettableFuture.create();
+    scope.execute(
+        () -> {
+          running.countDown();
+          try {
+            new CountDownLatch(1).await();
+            interrupted.set(false);
+          } catch (InterruptedException e) {
+            interrupted.set(true);
+          }
+        });
+    running.await();
+
+    scope.shutdown();
+    assertThat(scope.isShutdown()).isTrue();
+    assertThat(interrupted.get(10, SECONDS)).isTrue();
+    try {
+      scope.execute(() -> {});
+      fail();
+    } catch (RejectedExecutionException expected) {
+    }
+    scope.join();
+  }
+
+  @Test
+  public void shutdown_failsProducersThatBecomeReadyAfterwards() throws Exception {
+    SettableFuture<Integer> input = SettableFuture.create();
+    Producer<Integer> producer =
+        new AbstractProducesMethodProducer<Integer, Integer>(
+            ProductionComponentMonitor::noOp, null, () -> scope) {
+          @Override
+          protected ListenableFuture<Integer> collectDependencies() {
+            return input;
+          }
+
+          @Override
+          protected ListenableFuture<Integer> callProducesMethod(Integer input) {
+            throw new AssertionError("should not run");
+          }
+        };
+    ListenableFuture<Integer> result = producer.get();
+
+    scope.shutdown();
+    input.set(1);
+
+    try {
+      result.get(10, SECONDS);
+      fail();
+    } catch (ExecutionException e) {
+      assertThat(e).hasCauseThat().isInstanceOf(RejectedExecutionException.class);
+    }
+  }
+
+  @Test
+  public void close_waitsForRunningThreads() throws Exception {
+    CountDownLatch running = new CountDownLatch(1);
+    List<String> finished = Collections.synchronizedList(new ArrayList<>());
+    scope.execute(
+        () -> {
+          running.countDown();
+          try {
+            Thread.sleep(SECONDS.toMillis(10));
+          } catch (InterruptedException e) {
+            // Expected from close().
+          }
+          finished.add("task");
+        });
+    running.await();
+
+    scope.close();
+    assertThat(finished).containsExactly("task");
+  }
+
+  private static Provider<ProductionComponentMonitor> recordingMonitor(List<String> events) {
+    ProducerMonitor producerMonitor =
+        new ProducerMonitor() {
+          @Override
+          public void requested() {
+            events.add("requested");
+          }
+
+          @Override
+          public void ready() {
+            events.add("ready");
+          }
+
+          @Override
+          public void methodStarting() {
+            events.add("methodStarting");
+          }
+
+          @Override
+          public void methodFinished() {
+            events.add("methodFinished");
+          }
+
+          @Override
+          public void succeeded(Object value) {
+            events.add("succeeded");
+          }
+
+          @Override
+          public void failed(Throwable t) {
+            events.add("failed");
+          }
+        };
+    ProductionComponentMonitor componentMonitor =
+        new ProductionComponentMonitor() {
+          @Override
+          public ProducerMonitor producerMonitorFor(ProducerToken token) {
+            return producerMonitor;
+          }
+        };
+    return () -> componentMonitor;
+  }
+}
@@ -33,12 +33,15 @@ import dagger.producers.Producer;
 import dagger.producers.monitoring.ProducerMonitor;
 import dagger.producers.monitoring.ProducerToken;
 import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -108,6 +111,75 @@ public class AbstractProducesMethodProducerTest {
     verifyNoMoreInteractions(monitor);
   }
 
+  @Test
+  public void readyDependencies_directExecutor_callsProducesMethodInline() throws Exception {
+    Producer<Integer> producer =
+        new DelegateProducer<>(componentMonitorProvider, Futures.immediateFuture(42));
+
+    ListenableFuture<Integer> future = producer.get();
+    assertThat(future.isDone()).isTrue();
+    assertThat(future.get()).isEqualTo(42);
+    InOrder inOrder = Mockito.inOrder(monitor);
+    inOrder.verify(monitor).requested();
+    inOrder.verify(monitor).ready();
+    inOrder.verify(monitor).methodStarting();
+    inOrder.verify(monitor).methodFinished();
+    inOrder.verify(monitor).addCallbackTo(anyListenableFuture());
+    inOrder.verify(monitor).succeeded(42);
+    verifyNoMoreInteractions(monitor);
+  }
+
+  @Test
+  public void readyDependencies_otherExecutor_callsProducesMethodOnExecutor() throws Exception {
+    List<Runnable> tasks = new ArrayList<>();
+    Producer<Integer> producer =
+        new DelegateProducer<>(
+            componentMonitorProvider, Futures.immediateFuture(42), tasks::add, false);
+
+    ListenableFuture<Integer> future = producer.get();
+    assertThat(future.isDone()).isFalse();
+    assertThat(tasks).hasSize(1);
+    tasks.get(0).run();
+    assertThat(future.get()).isEqualTo(42);
+  }
+
+  @Test
+  public void readyDependencies_mayCallProducesMethodInline() throws Exception {
+    List<Runnable> tasks = new ArrayList<>();
+    Producer<Integer> producer =
+        new DelegateProducer<>(
+            componentMonitorProvider, Futures.immediateFuture(42), tasks::add, true);
+
+    ListenableFuture<Integer> future = producer.get();
+    assertThat(future.isDone()).isTrue();
+    assertThat(future.get()).isEqualTo(42);
+    assertThat(tasks).isEmpty();
+  }
+
+  @Test
+  public void inline_producesMethodThrows_failsFuture() throws Exception {
+    RuntimeException t = new RuntimeException("monkey");
+    Producer<Integer> producer =
+        new DelegateProducer<Integer>(
+            componentMonitorProvider, null, MoreExecutors.directExecutor(), true) {
+          @Override
+          protected ListenableFuture<Integer> callProducesMethod(Void asyncDependencies) {
+            throw t;
+          }
+        };
+
+    ListenableFuture<Integer> future = producer.get();
+    assertThat(future.isDone()).isTrue();
+    try {
+      future.get();
+      fail();
+    } catch (ExecutionException e) {
+      assertThat(e).hasCauseThat().isSameInstanceAs(t);
+    }
+    verify(monitor).methodFinished();
+    verify(monitor).failed(t);
+  }
+
   private ListenableFuture<?> anyListenableFuture() {
     return any(ListenableFuture.class);
   }
@@ -117,22 +189,37 @@ public class AbstractProducesMethodProducerTest {
     new DelegateProducer<>(null, Futures.immediateFuture(42));
   }
 
-  static final class DelegateProducer<T> extends AbstractProducesMethodProducer<Void, T> {
+  static class DelegateProducer<T> extends AbstractProducesMethodProducer<Void, T> {
     private final ListenableFuture<T> delegate;
+    private final boolean mayCallProducesMethodInline;
 
     DelegateProducer(
         Provider<ProductionComponentMonitor> componentMonitorProvider,
         ListenableFuture<T> delegate) {
+      this(componentMonitorProvider, delegate, MoreExecutors.directExecutor(), false);
+    }
+
+    DelegateProducer(
+        Provider<ProductionComponentMonitor> componentMonitorProvider,
+        ListenableFuture<T> delegate,
+        final Executor executor,
+        boolean mayCallProducesMethodInline) {
       super(
           componentMonitorProvider,
           null, // token
           new Provider<Executor>() {
             @Override
             public Executor get() {
-              return MoreExecutors.directExecutor();
+              return executor;
             }
           });
       this.delegate = delegate;
+      this.mayCallProducesMethodInline = mayCallProducesMethodInline;
+    }
+
+    @Override
+    protected boolean mayCallProducesMethodInline() {
+      return mayCallProducesMethodInline || super.mayCallProducesMethodInline();
     }
 
     @Override
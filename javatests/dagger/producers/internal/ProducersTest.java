@@ -26,6 +26,7 @@ import com.google.common.util.concurrent.SettableFuture;
 import dagger.internal.Provider;
 import dagger.producers.Produced;
 import dagger.producers.Producer;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
@@ -128,6 +129,40 @@ public class ProducersTest {
     }
   }
 
+  @Test
+  public void allAsList_allDone() throws Exception {
+    ListenableFuture<List<String>> future =
+        Producers.<String>allAsList(
+            Futures.immediateFuture("monkey"), Futures.immediateFuture("gorilla"));
+    assertThat(future.isDone()).isTrue();
+    assertThat(future.get()).containsExactly("monkey", "gorilla").inOrder();
+  }
+
+  @Test
+  public void allAsList_pending() throws Exception {
+    SettableFuture<String> gorilla = SettableFuture.create();
+    ListenableFuture<List<String>> future =
+        Producers.<String>allAsList(Futures.immediateFuture("monkey"), gorilla);
+    assertThat(future.isDone()).isFalse();
+    gorilla.set("gorilla");
+    assertThat(future.get()).containsExactly("monkey", "gorilla").inOrder();
+  }
+
+  @Test
+  public void allAsList_failure() throws Exception {
+    ListenableFuture<List<String>> future =
+        Producers.<String>allAsList(
+            Futures.immediateFuture("monkey"),
+            Futures.<String>immediateFailedFuture(new RuntimeException("gorilla")));
+    assertThat(future.isDone()).isTrue();
+    try {
+      future.get();
+      fail();
+    } catch (ExecutionException e) {
+      assertThat(e).hasCauseThat().hasMessageThat().isEqualTo("gorilla");
+    }
+  }
+
   @Test public void producerFromProvider_doesntCache() throws Exception {
     Producer<Integer> producer = Producers.producerFromProvider(new Provider<Integer>() {
       int i = 0;
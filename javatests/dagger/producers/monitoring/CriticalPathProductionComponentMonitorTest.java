@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.testing.FakeTicker;
+import dagger.producers.monitoring.ProductionTrace.ProducerTrace;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class CriticalPathProductionComponentMonitorTest {
+  private static final class ProducerClassA {}
+
+  private static final class ProducerClassB {}
+
+  private static final class ProducerClassC {}
+
+  private static final ProducerToken TOKEN_A = ProducerToken.create(ProducerClassA.class);
+  private static final ProducerToken TOKEN_B = ProducerToken.create(ProducerClassB.class);
+  private static final ProducerToken TOKEN_C = ProducerToken.create(ProducerClassC.class);
+
+  private final List<ProductionTrace> traces = new ArrayList<>();
+  private FakeTicker ticker;
+  private ProductionComponentMonitor.Factory monitorFactory;
+
+  @Before
+  public void setUp() {
+    ticker = new FakeTicker();
+    monitorFactory =
+        new CriticalPathProductionComponentMonitor.Factory(
+            new CriticalPathProductionComponentMonitor.Listener() {
+              @Override
+              public void onProductionFinished(Object component, ProductionTrace trace) {
+                traces.add(trace);
+              }
+            },
+            ticker);
+  }
+
+  @Test
+  public void criticalPath_followsLatestInput() {
+    // B depends on A and C; A is slower than C.
+    ProductionComponentMonitor monitor = monitorFactory.create(new Object());
+    ProducerMonitor producerMonitorB = monitor.producerMonitorFor(TOKEN_B);
+    ProducerMonitor producerMonitorA = monitor.producerMonitorFor(TOKEN_A);
+    ProducerMonitor producerMonitorC = monitor.producerMonitorFor(TOKEN_C);
+    producerMonitorB.requested();
+    producerMonitorA.requested();
+    producerMonitorA.ready();
+    producerMonitorC.requested();
+    producerMonitorC.ready();
+    ticker.advance(100);
+    producerMonitorA.methodStarting();
+    producerMonitorC.methodStarting();
+    ticker.advance(10);
+    producerMonitorA.methodFinished();
+    producerMonitorC.methodFinished();
+    ticker.advance(20);
+    producerMonitorC.succeeded(new Object());
+    ticker.advance(70);
+    producerMonitorA.succeeded(new Object());
+    producerMonitorB.ready();
+    ticker.advance(300);
+    producerMonitorB.methodStarting();
+    ticker.advance(5);
+    producerMonitorB.methodFinished();
+    assertThat(traces).isEmpty();
+    producerMonitorB.succeeded(new Object());
+
+    assertThat(traces).hasSize(1);
+    ProductionTrace trace = traces.get(0);
+    assertThat(trace.latencyNanos()).isEqualTo(505L);
+    assertThat(tokens(trace.producers())).containsExactly(TOKEN_B, TOKEN_A, TOKEN_C).inOrder();
+    assertThat(tokens(trace.criticalPath())).containsExactly(TOKEN_A, TOKEN_B).inOrder();
+
+    ProducerTrace a = trace.criticalPath().get(0);
+    assertThat(a.inputWaitNanos()).isEqualTo(0L);
+    assertThat(a.queueingNanos()).isEqualTo(100L);
+    assertThat(a.methodNanos()).isEqualTo(10L);
+    assertThat(a.futureNanos()).isEqualTo(90L);
+    assertThat(a.succeeded()).isTrue();
+
+    ProducerTrace b = trace.criticalPath().get(1);
+    assertThat(b.inputWaitNanos()).isEqualTo(200L);
+    assertThat(b.queueingNanos()).isEqualTo(300L);
+    assertThat(b.methodNanos()).isEqualTo(5L);
+    assertThat(b.futureNanos()).isEqualTo(0L);
+  }
+
+  @Test
+  public void skippedProducer_hasNoMethodTimings() {
+    ProductionComponentMonitor monitor = monitorFactory.create(new Object());
+    ProducerMonitor producerMonitorA = monitor.producerMonitorFor(TOKEN_A);
+    ProducerMonitor producerMonitorB = monitor.producerMonitorFor(TOKEN_B);
+    producerMonitorB.requested();
+    producerMonitorA.requested();
+    producerMonitorA.ready();
+    producerMonitorA.methodStarting();
+    ticker.advance(10);
+    producerMonitorA.methodFinished();
+    producerMonitorA.failed(new RuntimeException("monkey"));
+    producerMonitorB.ready();
+    producerMonitorB.failed(new RuntimeException("monkey"));
+
+    assertThat(traces).hasSize(1);
+    ProductionTrace trace = traces.get(0);
+    assertThat(tokens(trace.criticalPath())).containsExactly(TOKEN_A, TOKEN_B).inOrder();
+    ProducerTrace b = trace.criticalPath().get(1);
+    assertThat(b.succeeded()).isFalse();
+    assertThat(b.methodStartingNanos()).isEqualTo(-1L);
+    assertThat(b.queueingNanos()).isEqualTo(-1L);
+    assertThat(b.methodNanos()).isEqualTo(-1L);
+  }
+
+  @Test
+  public void tiedTimestamps_criticalPathFollowsCompletionOrder() {
+    // Without the ticker advancing, A and B each completed between the other being requested and
+    // becoming ready.
+    ProductionComponentMonitor monitor = monitorFactory.create(new Object());
+    ProducerMonitor producerMonitorA = monitor.producerMonitorFor(TOKEN_A);
+    ProducerMonitor producerMonitorB = monitor.producerMonitorFor(TOKEN_B);
+    producerMonitorA.requested();
+    producerMonitorB.requested();
+    producerMonitorA.ready();
+    producerMonitorB.ready();
+    producerMonitorA.succeeded(new Object());
+    producerMonitorB.succeeded(new Object());
+
+    assertThat(traces).hasSize(1);
+    assertThat(tokens(traces.get(0).criticalPath())).containsExactly(TOKEN_A, TOKEN_B).inOrder();
+  }
+
+  @Test
+  public void laterRequests_reportAnotherTrace() {
+    ProductionComponentMonitor monitor = monitorFactory.create(new Object());
+    ProducerMonitor producerMonitorA = monitor.producerMonitorFor(TOKEN_A);
+    producerMonitorA.requested();
+    producerMonitorA.ready();
+    producerMonitorA.succeeded(new Object());
+    ticker.advance(50);
+    ProducerMonitor producerMonitorB = monitor.producerMonitorFor(TOKEN_B);
+    producerMonitorB.requested();
+    producerMonitorB.ready();
+    producerMonitorB.succeeded(new Object());
+
+    assertThat(traces).hasSize(2);
+    assertThat(tokens(traces.get(0).producers())).containsExactly(TOKEN_A);
+    assertThat(tokens(traces.get(1).producers())).containsExactly(TOKEN_A, TOKEN_B).inOrder();
+    assertThat(tokens(traces.get(1).criticalPath())).containsExactly(TOKEN_B);
+  }
+
+  @Test
+  public void chromeTraceJson() {
+    ProductionComponentMonitor monitor = monitorFactory.create(new Object());
+    ProducerMonitor producerMonitorA = monitor.producerMonitorFor(TOKEN_A);
+    producerMonitorA.requested();
+    producerMonitorA.ready();
+    ticker.advance(1500);
+    producerMonitorA.methodStarting();
+    ticker.advance(2000);
+    producerMonitorA.methodFinished();
+    producerMonitorA.succeeded(new Object());
+
+    String json = traces.get(0).toChromeTraceJson();
+    assertThat(json).startsWith("{\"traceEvents\":[");
+    assertThat(json).contains("\"args\":{\"name\":\"" + TOKEN_A + "\"}");
+    assertThat(json)
+        .contains(
+            "{\"name\":\"queued\",\"ph\":\"X\",\"pid\":1,\"tid\":0,\"ts\":0.000,\"dur\":1.500,"
+                + "\"args\":{\"critical\":true}}");
+    assertThat(json)
+        .contains(
+            "{\"name\":\"method\",\"ph\":\"X\",\"pid\":1,\"tid\":0,\"ts\":1.500,\"dur\":2.000,"
+                + "\"args\":{\"critical\":true}}");
+  }
+
+  private static List<ProducerToken> tokens(List<ProducerTrace> producers) {
+    List<ProducerToken> tokens = new ArrayList<>();
+    for (ProducerTrace producer : producers) {
+      tokens.add(producer.token());
+    }
+    return tokens;
+  }
+}
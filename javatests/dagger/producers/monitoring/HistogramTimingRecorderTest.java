@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.testing.FakeTicker;
+import dagger.producers.monitoring.HistogramTimingRecorder.ProducerLatencies;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class HistogramTimingRecorderTest {
+  private static final class ProducerClassA {}
+
+  private static final class ProducerClassB {}
+
+  private static final ProducerToken TOKEN_A = ProducerToken.create(ProducerClassA.class);
+  private static final ProducerToken TOKEN_B = ProducerToken.create(ProducerClassB.class);
+
+  private final HistogramTimingRecorder recorder = new HistogramTimingRecorder();
+
+  @Test
+  public void aggregatesAcrossComponents() {
+    for (int i = 1; i <= 1000; i++) {
+      ProducerTimingRecorder producerRecorder =
+          recorder.create(new Object()).producerTimingRecorderFor(TOKEN_A);
+      producerRecorder.recordMethod(0, i * 1000L);
+      producerRecorder.recordSuccess(i * 2000L);
+    }
+    recorder.create(new Object()).producerTimingRecorderFor(TOKEN_B).recordSkip(new Exception());
+
+    ProducerLatencies a = recorder.snapshot().get(TOKEN_A);
+    assertThat(a.method().count()).isEqualTo(1000L);
+    assertThat(a.success().count()).isEqualTo(1000L);
+    assertThat(a.failure().count()).isEqualTo(0L);
+    assertThat(a.skips()).isEqualTo(0L);
+    assertThat(a.method().meanNanos()).isWithin(0.5).of(500_500);
+    assertWithinBucketError(a.method().percentileNanos(50), 500_000);
+    assertWithinBucketError(a.method().percentileNanos(99), 990_000);
+    assertWithinBucketError(a.method().percentileNanos(99.9), 999_000);
+    assertWithinBucketError(a.method().maxNanos(), 1_000_000);
+    assertWithinBucketError(a.success().percentileNanos(50), 1_000_000);
+
+    ProducerLatencies b = recorder.snapshot().get(TOKEN_B);
+    assertThat(b.skips()).isEqualTo(1L);
+    assertThat(b.method().count()).isEqualTo(0L);
+    assertThat(b.method().percentileNanos(99)).isEqualTo(0L);
+  }
+
+  @Test
+  public void smallLatencies_areExact() {
+    ProducerTimingRecorder producerRecorder =
+        recorder.create(new Object()).producerTimingRecorderFor(TOKEN_A);
+    producerRecorder.recordFailure(new Exception(), 7);
+    producerRecorder.recordFailure(new Exception(), 31);
+
+    ProducerLatencies a = recorder.snapshot().get(TOKEN_A);
+    assertThat(a.failure().percentileNanos(50)).isEqualTo(7L);
+    assertThat(a.failure().percentileNanos(100)).isEqualTo(31L);
+  }
+
+  @Test
+  public void hugeLatencies_areClamped() {
+    ProducerTimingRecorder producerRecorder =
+        recorder.create(new Object()).producerTimingRecorderFor(TOKEN_A);
+    producerRecorder.recordSuccess(Long.MAX_VALUE);
+
+    assertThat(recorder.snapshot().get(TOKEN_A).success().maxNanos())
+        .isEqualTo(LatencyDistribution.MAX_TRACKABLE_NANOS);
+  }
+
+  @Test
+  public void snapshotAndReset_returnsEachLatencyOnce() {
+    ProducerTimingRecorder producerRecorder =
+        recorder.create(new Object()).producerTimingRecorderFor(TOKEN_A);
+    producerRecorder.recordSuccess(100);
+    producerRecorder.recordSkip(new Exception());
+
+    ProducerLatencies first = recorder.snapshotAndReset().get(TOKEN_A);
+    assertThat(first.success().count()).isEqualTo(1L);
+    assertThat(first.skips()).isEqualTo(1L);
+
+    producerRecorder.recordSuccess(200);
+    producerRecorder.recordSuccess(300);
+    ProducerLatencies second = recorder.snapshotAndReset().get(TOKEN_A);
+    assertThat(second.success().count()).isEqualTo(2L);
+    assertThat(second.success().meanNanos()).isWithin(0.5).of(250);
+    assertThat(second.skips()).isEqualTo(0L);
+    assertThat(recorder.snapshot().get(TOKEN_A).success().count()).isEqualTo(0L);
+  }
+
+  @Test
+  public void concurrentRecording_countsEveryLatency() throws Exception {
+    int numThreads = 8;
+    int perThread = 100_000;
+    ProducerTimingRecorder producerRecorder =
+        recorder.create(new Object()).producerTimingRecorderFor(TOKEN_A);
+    CountDownLatch latch = new CountDownLatch(numThreads);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < numThreads; i++) {
+      Thread thread =
+          new Thread(
+              new Runnable() {
+                @Override
+                public void run() {
+                  latch.countDown();
+                  try {
+                    latch.await();
+                  } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                  }
+                  for (int j = 0; j < perThread; j++) {
+                    producerRecorder.recordSuccess(1000);
+                  }
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    long drained = 0;
+    for (Thread thread : threads) {
+      drained += recorder.snapshotAndReset().get(TOKEN_A).success().count();
+      thread.join();
+    }
+    drained += recorder.snapshotAndReset().get(TOKEN_A).success().count();
+
+    assertThat(drained).isEqualTo((long) numThreads * perThread);
+  }
+
+  @Test
+  public void timingMonitor() {
+    FakeTicker ticker = new FakeTicker();
+    ProductionComponentMonitor monitor =
+        new TimingProductionComponentMonitor.Factory(recorder, ticker).create(new Object());
+    ProducerMonitor producerMonitor = monitor.producerMonitorFor(TOKEN_A);
+    producerMonitor.methodStarting();
+    ticker.advance(5000);
+    producerMonitor.methodFinished();
+    ticker.advance(15000);
+    producerMonitor.succeeded(new Object());
+
+    ProducerLatencies a = recorder.snapshot().get(TOKEN_A);
+    assertWithinBucketError(a.method().percentileNanos(50), 5000);
+    assertWithinBucketError(a.success().percentileNanos(50), 20000);
+  }
+
+  private static void assertWithinBucketError(long actual, long expected) {
+    assertThat(actual).isAtLeast(expected);
+    assertThat(actual).isAtMost(expected + expected / 32);
+  }
+}
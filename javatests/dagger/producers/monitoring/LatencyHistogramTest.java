@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class LatencyHistogramTest {
+  @Test
+  public void stripesAreOnlyAllocatedOnFirstRecord() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertThat(histogram.stripeCount()).isEqualTo(0);
+
+    histogram.record(1000);
+    assertThat(histogram.stripeCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void contendedRecording_capsStripes() throws Exception {
+    LatencyHistogram histogram = new LatencyHistogram();
+    int numThreads = 32;
+    int recordsPerThread = 20_000;
+    CountDownLatch latch = new CountDownLatch(numThreads);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < numThreads; i++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                latch.countDown();
+                try {
+                  latch.await();
+                } catch (InterruptedException e) {
+                  throw new AssertionError(e);
+                }
+                for (int j = 0; j < recordsPerThread; j++) {
+                  histogram.record(1000);
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(histogram.stripeCount()).isAtMost(LatencyHistogram.MAX_STRIPES);
+    assertThat(LatencyHistogram.MAX_STRIPES).isAtMost(4);
+    assertThat(histogram.snapshot(false).count()).isEqualTo((long) numThreads * recordsPerThread);
+  }
+}
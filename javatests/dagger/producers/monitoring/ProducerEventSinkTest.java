@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.monitoring;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import dagger.producers.monitoring.internal.Monitors;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ProducerEventSinkTest {
+  private static final class ProducerClassA {}
+
+  private static final class ProducerClassB {}
+
+  private static final ProducerToken TOKEN_A = ProducerToken.create(ProducerClassA.class);
+  private static final ProducerToken TOKEN_B = ProducerToken.create(ProducerClassB.class);
+
+  private static final class RecordingSink extends ProducerEventSink {
+    final List<String> events = new ArrayList<>();
+
+    @Override
+    public void requested(ProducerToken token) {
+      events.add("requested " + token);
+    }
+
+    @Override
+    public void ready(ProducerToken token) {
+      events.add("ready " + token);
+    }
+
+    @Override
+    public void methodStarting(ProducerToken token) {
+      events.add("methodStarting " + token);
+    }
+
+    @Override
+    public void methodFinished(ProducerToken token) {
+      events.add("methodFinished " + token);
+    }
+
+    @Override
+    public void succeeded(ProducerToken token, Object value) {
+      events.add("succeeded " + token + " " + value);
+    }
+
+    @Override
+    public void failed(ProducerToken token, Throwable t) {
+      events.add("failed " + token + " " + t.getMessage());
+    }
+  }
+
+  private static final class ThrowingSink extends ProducerEventSink {
+    @Override
+    public void requested(ProducerToken token) {
+      throw new RuntimeException("monkey");
+    }
+
+    @Override
+    public void succeeded(ProducerToken token, Object value) {
+      throw new RuntimeException("monkey");
+    }
+  }
+
+  @Test
+  public void forwardsEventsWithToken() {
+    RecordingSink sink = new RecordingSink();
+    ProductionComponentMonitor monitor = sink.create(new Object());
+    ProducerMonitor producerMonitorA = monitor.producerMonitorFor(TOKEN_A);
+    ProducerMonitor producerMonitorB = monitor.producerMonitorFor(TOKEN_B);
+    producerMonitorA.requested();
+    producerMonitorB.requested();
+    producerMonitorA.ready();
+    producerMonitorA.methodStarting();
+    producerMonitorA.methodFinished();
+    producerMonitorA.succeeded("a");
+    producerMonitorB.failed(new RuntimeException("gorilla"));
+
+    assertThat(sink.events)
+        .containsExactly(
+            "requested " + TOKEN_A,
+            "requested " + TOKEN_B,
+            "ready " + TOKEN_A,
+            "methodStarting " + TOKEN_A,
+            "methodFinished " + TOKEN_A,
+            "succeeded " + TOKEN_A + " a",
+            "failed " + TOKEN_B + " gorilla")
+        .inOrder();
+  }
+
+  @Test
+  public void reusesMonitorsAcrossComponents() {
+    RecordingSink sink = new RecordingSink();
+    ProductionComponentMonitor monitor = sink.create(new Object());
+
+    assertThat(sink.create(new Object())).isSameInstanceAs(monitor);
+    assertThat(monitor.producerMonitorFor(ProducerToken.create(ProducerClassA.class)))
+        .isSameInstanceAs(monitor.producerMonitorFor(TOKEN_A));
+    assertThat(monitor.producerMonitorFor(TOKEN_B))
+        .isNotSameInstanceAs(monitor.producerMonitorFor(TOKEN_A));
+  }
+
+  @Test
+  public void installedAlone_isNotWrapped() {
+    RecordingSink sink = new RecordingSink();
+    ProductionComponentMonitor.Factory factory =
+        Monitors.delegatingProductionComponentMonitorFactory(
+            ImmutableList.of(ProductionComponentMonitor.Factory.noOp(), sink));
+
+    assertThat(factory).isSameInstanceAs(sink);
+  }
+
+  @Test
+  public void addCallbackTo_forwardsCompletion() {
+    RecordingSink sink = new RecordingSink();
+    ProducerMonitor producerMonitor = sink.create(new Object()).producerMonitorFor(TOKEN_A);
+    SettableFuture<String> future = SettableFuture.create();
+    producerMonitor.addCallbackTo(future);
+    producerMonitor.addCallbackTo(Futures.immediateFailedFuture(new RuntimeException("gorilla")));
+    future.set("a");
+
+    assertThat(sink.events)
+        .containsExactly("failed " + TOKEN_A + " gorilla", "succeeded " + TOKEN_A + " a")
+        .inOrder();
+  }
+
+  @Test
+  public void throwingSink_doesNotThrow() {
+    ProducerMonitor producerMonitor =
+        new ThrowingSink().create(new Object()).producerMonitorFor(TOKEN_A);
+    producerMonitor.requested();
+    producerMonitor.succeeded(new Object());
+  }
+}
@@ -98,6 +98,30 @@ public final class MonitorsTest {
         .isSameInstanceAs(ProducerMonitor.noOp());
   }
 
+  @Test
+  public void singleMonitor_noOpProducerMonitor() {
+    when(mockProductionComponentMonitorFactory.create(any(Object.class)))
+        .thenReturn(mockProductionComponentMonitor);
+    when(mockProductionComponentMonitor.producerMonitorFor(nullable(ProducerToken.class)))
+        .thenReturn(ProducerMonitor.noOp());
+    ProductionComponentMonitor.Factory factory =
+        Monitors.delegatingProductionComponentMonitorFactory(
+            ImmutableList.of(mockProductionComponentMonitorFactory));
+    ProductionComponentMonitor monitor = factory.create(new Object());
+    assertThat(monitor.producerMonitorFor(ProducerToken.create(Object.class)))
+        .isSameInstanceAs(ProducerMonitor.noOp());
+  }
+
+  @Test
+  public void noOpFactoriesAreDropped() {
+    ProductionComponentMonitor.Factory factory =
+        Monitors.delegatingProductionComponentMonitorFactory(
+            ImmutableList.of(
+                ProductionComponentMonitor.Factory.noOp(),
+                ProductionComponentMonitor.Factory.noOp()));
+    assertThat(factory).isSameInstanceAs(ProductionComponentMonitor.Factory.noOp());
+  }
+
   @Test
   public void singleMonitor_throwingProductionComponentMonitor() {
     when(mockProductionComponentMonitorFactory.create(any(Object.class)))
@@ -281,6 +305,42 @@ public final class MonitorsTest {
     verifyNoMoreInteractions(mockProducerMonitorA);
   }
 
+  @Test
+  public void multipleMonitors_someNoOpMonitors() {
+    when(mockProductionComponentMonitorFactoryA.create(any(Object.class)))
+        .thenReturn(mockProductionComponentMonitorA);
+    when(mockProductionComponentMonitorFactoryB.create(any(Object.class)))
+        .thenReturn(ProductionComponentMonitor.noOp());
+    when(mockProductionComponentMonitorFactoryC.create(any(Object.class)))
+        .thenReturn(mockProductionComponentMonitorC);
+    when(mockProductionComponentMonitorA.producerMonitorFor(nullable(ProducerToken.class)))
+        .thenReturn(mockProducerMonitorA);
+    when(mockProductionComponentMonitorC.producerMonitorFor(nullable(ProducerToken.class)))
+        .thenReturn(ProducerMonitor.noOp());
+    ProductionComponentMonitor.Factory factory =
+        Monitors.delegatingProductionComponentMonitorFactory(
+            ImmutableList.of(
+                mockProductionComponentMonitorFactoryA,
+                mockProductionComponentMonitorFactoryB,
+                mockProductionComponentMonitorFactoryC));
+    ProductionComponentMonitor monitor = factory.create(new Object());
+    ProducerMonitor producerMonitor =
+        monitor.producerMonitorFor(ProducerToken.create(Object.class));
+
+    Object o = new Object();
+    producerMonitor.requested();
+    producerMonitor.methodStarting();
+    producerMonitor.methodFinished();
+    producerMonitor.succeeded(o);
+
+    InOrder order = inOrder(mockProducerMonitorA);
+    order.verify(mockProducerMonitorA).requested();
+    order.verify(mockProducerMonitorA).methodStarting();
+    order.verify(mockProducerMonitorA).methodFinished();
+    order.verify(mockProducerMonitorA).succeeded(o);
+    verifyNoMoreInteractions(mockProducerMonitorA);
+  }
+
   @Test
   public void multipleMonitors_someThrowingProductionComponentMonitorFactories() {
     when(mockProductionComponentMonitorFactoryA.create(any(Object.class)))